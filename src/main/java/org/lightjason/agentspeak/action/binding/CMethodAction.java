@@ -24,8 +24,10 @@
 package org.lightjason.agentspeak.action.binding;
 
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.CCommon;
 import org.lightjason.agentspeak.common.CPath;
 import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.CSuspendException;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -35,10 +37,10 @@ import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.logging.Logger;
 
 
 /**
@@ -47,6 +49,14 @@ import java.util.stream.Stream;
  */
 public final class CMethodAction extends IBaseAction
 {
+    /**
+     * logger
+     */
+    private static final Logger LOGGER = CCommon.logger( CMethodAction.class );
+    /**
+     * maximum number of arguments, which are passed without an array
+     */
+    private static final int DIRECTARGUMENTS = 3;
     /**
      * name of the action
      */
@@ -56,7 +66,14 @@ public final class CMethodAction extends IBaseAction
      */
     private final int m_arguments;
     /**
-     * method handle
+     * flag of a method with variable arguments
+     */
+    private final boolean m_varargs;
+    /**
+     * method handle with object types, the handle gets the agent and
+     * the arguments, with more than DIRECTARGUMENTS arguments the handle
+     * gets an object array with the agent and the arguments, a method with
+     * variable arguments keeps the collecting handle of the method
      */
     private final MethodHandle m_method;
 
@@ -70,12 +87,23 @@ public final class CMethodAction extends IBaseAction
     public CMethodAction( final Method p_method ) throws IllegalAccessException
     {
         m_arguments = p_method.getParameterCount();
+        m_varargs = p_method.isVarArgs();
         m_name = CPath.from(
             p_method.isAnnotationPresent( IAgentActionName.class ) && !p_method.getAnnotation( IAgentActionName.class ).name().isEmpty()
             ? p_method.getAnnotation( IAgentActionName.class ).name().toLowerCase( Locale.ROOT )
             : p_method.getName().toLowerCase( Locale.ROOT )
         );
-        m_method = MethodHandles.lookup().unreflect( p_method );
+
+        // the handle is adapted once to object types, so each call is an exact invoke without
+        // building an argument list, primitive types are boxed / unboxed by the adapted handle,
+        // the handle of variable arguments collects the trailing arguments, so it is not adapted
+        final MethodHandle l_method = MethodHandles.lookup().unreflect( p_method );
+        if ( m_varargs )
+            m_method = l_method;
+        else
+            m_method = m_arguments > DIRECTARGUMENTS
+                       ? l_method.asType( l_method.type().generic() ).asSpreader( Object[].class, m_arguments + 1 )
+                       : l_method.asType( l_method.type().generic() );
     }
 
 
@@ -88,7 +116,7 @@ public final class CMethodAction extends IBaseAction
     @Override
     public final int minimalArgumentNumber()
     {
-        return m_arguments;
+        return m_varargs ? m_arguments - 1 : m_arguments;
     }
 
     @Override
@@ -96,31 +124,73 @@ public final class CMethodAction extends IBaseAction
                                          final List<ITerm> p_annotation
     )
     {
+        // the method is called with exact arity, so more arguments than the method parameters fail also,
+        // a method with variable arguments gets at least the arguments before the variable arguments
+        if ( m_varargs ? p_argument.size() < m_arguments - 1 : p_argument.size() != m_arguments )
+        {
+            LOGGER.warning( CCommon.languagestring( this, "argumentnumber", m_name, m_arguments, p_argument.size() ) );
+            return CFuzzyValue.from( false );
+        }
+
         try
         {
-            return m_arguments == 0
-
-                ? CMethodAction.returnvalues(
-                    m_method.invoke( p_context.agent() ),
-                    p_return
-                )
-
-                : CMethodAction.returnvalues(
-                    m_method.invokeWithArguments(
-                        Stream.concat(
-                            Stream.of( p_context.agent() ),
-                            p_argument.stream().map( ITerm::raw )
-                        ).collect( Collectors.toList() )
-                    ),
-                    p_return
-                );
+            return CMethodAction.returnvalues( this.invoke( p_context.agent(), p_argument ), p_return );
+        }
+        catch ( final CSuspendException | Error l_exception )
+        {
+            throw l_exception;
         }
         catch ( final Throwable l_throwable )
         {
+            LOGGER.warning( CCommon.languagestring( this, "executionerror", m_name, l_throwable ) );
             return CFuzzyValue.from( false );
         }
     }
 
+    /**
+     * invokes the method with the arity of the method,
+     * variable arguments are collected by the method handle
+     *
+     * @param p_agent agent
+     * @param p_argument arguments
+     * @return return value of the method or null on void methods
+     *
+     * @throws Throwable is thrown on any method error
+     */
+    private Object invoke( final Object p_agent, final List<ITerm> p_argument ) throws Throwable
+    {
+        if ( m_varargs )
+        {
+            final List<Object> l_arguments = new ArrayList<>( p_argument.size() + 1 );
+            l_arguments.add( p_agent );
+            p_argument.forEach( i -> l_arguments.add( i.raw() ) );
+            return m_method.invokeWithArguments( l_arguments );
+        }
+
+        switch ( m_arguments )
+        {
+            case 0:
+                return m_method.invokeExact( p_agent );
+
+            case 1:
+                return m_method.invokeExact( p_agent, p_argument.get( 0 ).raw() );
+
+            case 2:
+                return m_method.invokeExact( p_agent, p_argument.get( 0 ).raw(), p_argument.get( 1 ).raw() );
+
+            case DIRECTARGUMENTS:
+                return m_method.invokeExact(
+                    p_agent, p_argument.get( 0 ).raw(), p_argument.get( 1 ).raw(), p_argument.get( 2 ).raw() );
+
+            default:
+                final Object[] l_arguments = new Object[m_arguments + 1];
+                l_arguments[0] = p_agent;
+                for ( int i = 0; i < m_arguments; i++ )
+                    l_arguments[i + 1] = p_argument.get( i ).raw();
+                return m_method.invokeExact( l_arguments );
+        }
+    }
+
     /**
      * creates the returns values of the execution
      *
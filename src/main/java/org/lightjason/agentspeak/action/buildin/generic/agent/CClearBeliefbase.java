@@ -66,6 +66,8 @@ public final class CClearBeliefbase extends IBuildinAction
                         .map( i -> CPath.from( i.raw() ) )
                         .toArray( IPath[]::new )
         );
+        p_context.agent().rulecache().clear();
+        p_context.agent().conditionmemory().clear();
         return CFuzzyValue.from( true );
     }
 
@@ -23,6 +23,7 @@
 
 package org.lightjason.agentspeak.action.buildin.generic.agent;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.lightjason.agentspeak.action.buildin.IBuildinAction;
 import org.lightjason.agentspeak.language.CRawTerm;
 
@@ -67,10 +68,10 @@ public final class CPlanList extends IBuildinAction
     {
         final Map<ITerm, AbstractMap.Entry<Long, Long>> l_map = new HashMap<>();
         p_context.agent().plans().values()
-                 .forEach( i -> l_map.put(
-                                i.getLeft().getTrigger().getLiteral(),
-                                new AbstractMap.SimpleImmutableEntry<>( i.getMiddle().get(), i.getRight().get() )
-                 ) );
+                 .forEach( i -> {
+                     final Pair<Long, Long> l_statistic = p_context.agent().planstatistic( i );
+                     l_map.put( i.getTrigger().getLiteral(), new AbstractMap.SimpleImmutableEntry<>( l_statistic.getLeft(), l_statistic.getRight() ) );
+                 } );
 
         p_return.add( CRawTerm.from(
             p_parallel
@@ -62,10 +62,11 @@ public final class CRandom extends IBuildinAction
         p_return.add( CRawTerm.from(
             p_argument.size() > 1
             ? RandomStringUtils.random(
-                p_argument.get( 0 ).<Number>raw().intValue(),
-                p_argument.get( 1 ).<String>raw().toCharArray()
+                p_argument.get( 0 ).<Number>raw().intValue(), 0, 0, false, false,
+                p_argument.get( 1 ).<String>raw().toCharArray(),
+                p_context.agent().random()
             )
-            : RandomStringUtils.random( p_argument.get( 0 ).<Number>raw().intValue() )
+            : RandomStringUtils.random( p_argument.get( 0 ).<Number>raw().intValue(), 0, 0, false, false, null, p_context.agent().random() )
         ) );
 
         return CFuzzyValue.from( true );
@@ -23,42 +23,18 @@
 
 package org.lightjason.agentspeak.action.buildin.math;
 
-import org.lightjason.agentspeak.action.buildin.IBuildinAction;
-import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
-import org.lightjason.agentspeak.language.ITerm;
-import org.lightjason.agentspeak.language.execution.IContext;
-import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
-import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
-
-import java.util.List;
-
 
 /**
  * action for arc cosinus value \f$ cos( x_i ) \f$
  */
-public final class CACos extends IBuildinAction
+public final class CACos extends IUnaryFunction
 {
-
-    @Override
-    public final int minimalArgumentNumber()
+    /**
+     * ctor
+     */
+    public CACos()
     {
-        return 1;
-    }
-
-    @Override
-    public final IFuzzyValue<Boolean> execute( final IContext p_context, final boolean p_parallel, final List<ITerm> p_argument, final List<ITerm> p_return,
-                                               final List<ITerm> p_annotation
-    )
-    {
-        CCommon.flatcollection( p_argument ).stream()
-               .mapToDouble( i -> i.<Number>raw().doubleValue() )
-               .boxed()
-               .map( Math::acos )
-               .map( CRawTerm::from )
-               .forEach( p_return::add );
-
-        return CFuzzyValue.from( true );
+        super( Math::acos );
     }
 
 }
@@ -24,7 +24,6 @@
 package org.lightjason.agentspeak.action.buildin.math;
 
 import org.apache.commons.math3.primes.Primes;
-import org.lightjason.agentspeak.action.buildin.IBuildinAction;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
@@ -33,12 +32,14 @@ import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
 import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 
 /**
- * action for checking for a prime number
+ * action for checking for a prime number,
+ * a double array argument returns a boolean array
  */
-public final class CIsPrime extends IBuildinAction
+public final class CIsPrime extends IBatchAction
 {
 
     @Override
@@ -52,6 +53,17 @@ public final class CIsPrime extends IBuildinAction
                                                final List<ITerm> p_annotation
     )
     {
+        final double[] l_batch = batch( p_argument );
+        if ( l_batch != null )
+        {
+            final boolean[] l_result = new boolean[l_batch.length];
+            final IntStream l_index = IntStream.range( 0, l_batch.length );
+            ( p_parallel ? l_index.parallel() : l_index ).forEach( i -> l_result[i] = Primes.isPrime( (int) l_batch[i] ) );
+
+            p_return.add( CRawTerm.from( l_result ) );
+            return CFuzzyValue.from( true );
+        }
+
         CCommon.flatcollection( p_argument ).stream()
                .map( i -> Primes.isPrime( i.<Number>raw().intValue() ) )
                .map( CRawTerm::from )
@@ -23,9 +23,7 @@
 
 package org.lightjason.agentspeak.action.buildin.math;
 
-import org.lightjason.agentspeak.action.buildin.IBuildinAction;
 import org.lightjason.agentspeak.error.CRuntimeException;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -38,7 +36,7 @@ import java.util.List;
 /**
  * action for minimum \f$ min( x_0, x_1, \ldots, x_i ) \f$
  */
-public final class CMin extends IBuildinAction
+public final class CMin extends IBatchAction
 {
 
     @Override
@@ -53,7 +51,7 @@ public final class CMin extends IBuildinAction
     )
     {
         p_return.add( CRawTerm.from(
-            CCommon.flatcollection( p_argument ).stream().mapToDouble( i -> i.<Number>raw().doubleValue() ).min().orElseThrow( () -> new CRuntimeException( p_context ) )
+            values( p_argument, p_parallel ).min().orElseThrow( () -> new CRuntimeException( p_context ) )
         ) );
         return CFuzzyValue.from( true );
     }
@@ -23,8 +23,6 @@
 
 package org.lightjason.agentspeak.action.buildin.math;
 
-import org.lightjason.agentspeak.action.buildin.IBuildinAction;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -37,7 +35,7 @@ import java.util.List;
 /**
  * action for sum of elements \f$ \sum_{i} x_i \f$
  */
-public final class CSum extends IBuildinAction
+public final class CSum extends IBatchAction
 {
 
     @Override
@@ -51,7 +49,7 @@ public final class CSum extends IBuildinAction
                                                final List<ITerm> p_annotation
     )
     {
-        p_return.add( CRawTerm.from( CCommon.flatcollection( p_argument ).stream().mapToDouble( i -> i.<Number>raw().doubleValue() ).sum() ) );
+        p_return.add( CRawTerm.from( values( p_argument, p_parallel ).sum() ) );
         return CFuzzyValue.from( true );
     }
 }
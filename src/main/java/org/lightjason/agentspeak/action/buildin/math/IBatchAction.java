@@ -0,0 +1,132 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.buildin.math;
+
+import org.lightjason.agentspeak.action.buildin.IBuildinAction;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+
+/**
+ * base class of math actions with a batch evaluation,
+ * if the action is called with a single double array,
+ * the values are calculated without flatting and boxing
+ * within tight loops, the parallel flag calculates the loop
+ * in chunks, all other arguments (also lists of the blas
+ * actions) are flatten and calculated value by value, within
+ * an agent the array is created by math/blas/vector/toarray
+ * and converted back to a list by math/blas/vector/tolist
+ */
+public abstract class IBatchAction extends IBuildinAction
+{
+    /**
+     * number of values of a parallel chunk
+     */
+    private static final int CHUNKSIZE = 4096;
+
+    /**
+     * ctor
+     */
+    protected IBatchAction()
+    {
+        super();
+    }
+
+    /**
+     * returns the primitive values of a batch call, the call
+     * is a batch call only with a single double array argument
+     *
+     * @param p_argument arguments
+     * @return values or null if the call is not a batch call
+     */
+    protected static double[] batch( final List<ITerm> p_argument )
+    {
+        return ( p_argument.size() == 1 ) && ( p_argument.get( 0 ).raw() instanceof double[] )
+               ? p_argument.get( 0 ).<double[]>raw()
+               : null;
+    }
+
+    /**
+     * returns the values of the arguments, a batch call
+     * returns the values of the primitive array without boxing
+     *
+     * @param p_argument arguments
+     * @param p_parallel parallel execution of a batch call
+     * @return value stream
+     */
+    protected static DoubleStream values( final List<ITerm> p_argument, final boolean p_parallel )
+    {
+        final double[] l_batch = batch( p_argument );
+        if ( l_batch == null )
+            return CCommon.flatcollection( p_argument ).stream().mapToDouble( i -> i.<Number>raw().doubleValue() );
+
+        final DoubleStream l_stream = Arrays.stream( l_batch );
+        return p_parallel ? l_stream.parallel() : l_stream;
+    }
+
+    /**
+     * applies a function on each value
+     *
+     * @param p_values values
+     * @param p_function function
+     * @param p_parallel parallel execution
+     * @return new array with the function values
+     */
+    protected static double[] map( final double[] p_values, final DoubleUnaryOperator p_function, final boolean p_parallel )
+    {
+        final double[] l_result = new double[p_values.length];
+        if ( !p_parallel )
+        {
+            map( p_values, l_result, p_function, 0, p_values.length );
+            return l_result;
+        }
+
+        IntStream.range( 0, ( p_values.length + CHUNKSIZE - 1 ) / CHUNKSIZE )
+                 .parallel()
+                 .forEach( i -> map( p_values, l_result, p_function, i * CHUNKSIZE, Math.min( ( i + 1 ) * CHUNKSIZE, p_values.length ) ) );
+        return l_result;
+    }
+
+    /**
+     * applies a function on a range of values
+     *
+     * @param p_values values
+     * @param p_result result values
+     * @param p_function function
+     * @param p_start start index (inclusive)
+     * @param p_end end index (exclusive)
+     */
+    private static void map( final double[] p_values, final double[] p_result, final DoubleUnaryOperator p_function, final int p_start, final int p_end )
+    {
+        for ( int i = p_start; i < p_end; i++ )
+            p_result[i] = p_function.applyAsDouble( p_values[i] );
+    }
+
+}
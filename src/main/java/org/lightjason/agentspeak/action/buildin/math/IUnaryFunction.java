@@ -0,0 +1,86 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.buildin.math;
+
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
+import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
+
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+
+
+/**
+ * base class of math actions, which apply a function on each value
+ * \f$ f( x_i ) \f$, a double array argument returns a double array
+ */
+public abstract class IUnaryFunction extends IBatchAction
+{
+    /**
+     * function
+     */
+    private final DoubleUnaryOperator m_function;
+
+    /**
+     * ctor
+     *
+     * @param p_function function
+     */
+    protected IUnaryFunction( final DoubleUnaryOperator p_function )
+    {
+        super();
+        m_function = p_function;
+    }
+
+    @Override
+    public final int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Override
+    public final IFuzzyValue<Boolean> execute( final IContext p_context, final boolean p_parallel, final List<ITerm> p_argument, final List<ITerm> p_return,
+                                               final List<ITerm> p_annotation
+    )
+    {
+        final double[] l_batch = batch( p_argument );
+        if ( l_batch != null )
+        {
+            p_return.add( CRawTerm.from( map( l_batch, m_function, p_parallel ) ) );
+            return CFuzzyValue.from( true );
+        }
+
+        CCommon.flatcollection( p_argument ).stream()
+               .mapToDouble( i -> i.<Number>raw().doubleValue() )
+               .map( m_function )
+               .mapToObj( CRawTerm::from )
+               .forEach( p_return::add );
+
+        return CFuzzyValue.from( true );
+    }
+
+}
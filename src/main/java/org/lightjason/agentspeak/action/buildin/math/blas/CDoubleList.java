@@ -0,0 +1,215 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.buildin.math.blas;
+
+import cern.colt.matrix.DoubleMatrix1D;
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.error.CIllegalStateException;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+
+/**
+ * list of primitive double values, which is used as list term
+ * of the blas actions, so vectors can be converted without boxing,
+ * the list can be used with all list actions
+ */
+public final class CDoubleList extends AbstractList<Number> implements RandomAccess
+{
+    /**
+     * values, the length can be greater than the size
+     */
+    private double[] m_elements;
+    /**
+     * number of values
+     */
+    private int m_size;
+
+
+    /**
+     * ctor
+     *
+     * @param p_elements values, which are used without copy
+     */
+    private CDoubleList( final double[] p_elements )
+    {
+        m_elements = p_elements;
+        m_size = p_elements.length;
+    }
+
+    @Override
+    public final Double get( final int p_index )
+    {
+        this.check( p_index, m_size );
+        return m_elements[p_index];
+    }
+
+    @Override
+    public final Double set( final int p_index, final Number p_value )
+    {
+        this.check( p_index, m_size );
+        final double l_value = m_elements[p_index];
+        m_elements[p_index] = p_value.doubleValue();
+        return l_value;
+    }
+
+    @Override
+    public final void add( final int p_index, final Number p_value )
+    {
+        this.check( p_index, m_size + 1 );
+        if ( m_size == m_elements.length )
+            m_elements = Arrays.copyOf( m_elements, Math.max( 8, 2 * m_size ) );
+
+        System.arraycopy( m_elements, p_index, m_elements, p_index + 1, m_size - p_index );
+        m_elements[p_index] = p_value.doubleValue();
+        m_size++;
+        modCount++;
+    }
+
+    @Override
+    public final Double remove( final int p_index )
+    {
+        this.check( p_index, m_size );
+        final double l_value = m_elements[p_index];
+        System.arraycopy( m_elements, p_index + 1, m_elements, p_index, m_size - p_index - 1 );
+        m_size--;
+        modCount++;
+        return l_value;
+    }
+
+    @Override
+    public final int size()
+    {
+        return m_size;
+    }
+
+    /**
+     * returns the values without copy, so changes
+     * of the array are changes of the list
+     *
+     * @return values, the array length is the list size
+     * @throws CIllegalStateException if the list has got
+     * unused capacity, so it must be trimmed before
+     */
+    public final double[] elements()
+    {
+        if ( m_elements.length != m_size )
+            throw new CIllegalStateException( CCommon.languagestring( this, "capacity", m_size, m_elements.length ) );
+        return m_elements;
+    }
+
+    /**
+     * returns a copy of the values
+     *
+     * @return values, the array length is the list size
+     */
+    public final double[] toDoubleArray()
+    {
+        return Arrays.copyOf( m_elements, m_size );
+    }
+
+    /**
+     * reduces the capacity to the size, so a new
+     * array is allocated if the list has got unused capacity
+     *
+     * @return self reference
+     */
+    public final CDoubleList trim()
+    {
+        if ( m_elements.length != m_size )
+        {
+            m_elements = Arrays.copyOf( m_elements, m_size );
+            modCount++;
+        }
+        return this;
+    }
+
+    /**
+     * checks the index
+     *
+     * @param p_index index
+     * @param p_size exclusive upper bound
+     */
+    private void check( final int p_index, final int p_size )
+    {
+        if ( ( p_index < 0 ) || ( p_index >= p_size ) )
+            throw new IndexOutOfBoundsException( Integer.toString( p_index ) );
+    }
+
+    /**
+     * creates a list of values
+     *
+     * @param p_values values, which are used without copy
+     * @return list
+     */
+    public static CDoubleList from( final double... p_values )
+    {
+        return new CDoubleList( p_values );
+    }
+
+    /**
+     * creates a list of the vector values
+     *
+     * @param p_vector vector
+     * @return list
+     */
+    public static CDoubleList from( final DoubleMatrix1D p_vector )
+    {
+        return new CDoubleList( p_vector.toArray() );
+    }
+
+    /**
+     * returns a copy of the values of a term value
+     *
+     * @param p_value double array, double list or list of numbers
+     * @return values
+     */
+    public static double[] values( final Object p_value )
+    {
+        return CDoubleList.values( p_value, false );
+    }
+
+    /**
+     * returns the values of a term value
+     *
+     * @param p_value double array, double list or list of numbers
+     * @param p_share a double array and the values of a double list are used
+     * without copy, the double list is trimmed before, a list of numbers is always copied
+     * @return values
+     */
+    public static double[] values( final Object p_value, final boolean p_share )
+    {
+        if ( p_value instanceof double[] )
+            return p_share ? (double[]) p_value : ( (double[]) p_value ).clone();
+
+        if ( p_value instanceof CDoubleList )
+            return p_share ? ( (CDoubleList) p_value ).trim().elements() : ( (CDoubleList) p_value ).toDoubleArray();
+
+        return ( (List<?>) p_value ).stream().mapToDouble( i -> ( (Number) i ).doubleValue() ).toArray();
+    }
+
+}
@@ -23,6 +23,7 @@
 
 package org.lightjason.agentspeak.action.buildin.math.blas;
 
+import cern.colt.function.DoubleFunction;
 import cern.colt.matrix.DoubleMatrix1D;
 import cern.colt.matrix.DoubleMatrix2D;
 import cern.colt.matrix.impl.AbstractMatrix;
@@ -59,28 +60,32 @@ public class CElementWise extends IBuildinAction
             case "+":
                 this.plus(
                     p_argument.get( 0 ).<AbstractMatrix>raw(),
-                    p_argument.get( 2 ).<Number>raw().doubleValue()
+                    p_argument.get( 2 ).<Number>raw().doubleValue(),
+                    p_parallel
                 );
                 return CFuzzyValue.from( true );
 
             case "-":
                 this.minus(
                     p_argument.get( 0 ).<AbstractMatrix>raw(),
-                    p_argument.get( 2 ).<Number>raw().doubleValue()
+                    p_argument.get( 2 ).<Number>raw().doubleValue(),
+                    p_parallel
                 );
                 return CFuzzyValue.from( true );
 
             case "*":
                 this.multiply(
                     p_argument.get( 0 ).<AbstractMatrix>raw(),
-                    p_argument.get( 2 ).<Number>raw().doubleValue()
+                    p_argument.get( 2 ).<Number>raw().doubleValue(),
+                    p_parallel
                 );
                 return CFuzzyValue.from( true );
 
             case "/":
                 this.divide(
                     p_argument.get( 0 ).<AbstractMatrix>raw(),
-                    p_argument.get( 2 ).<Number>raw().doubleValue()
+                    p_argument.get( 2 ).<Number>raw().doubleValue(),
+                    p_parallel
                 );
                 return CFuzzyValue.from( true );
 
@@ -96,13 +101,11 @@ public class CElementWise extends IBuildinAction
      *
      * @param p_matrix matrix element
      * @param p_value value element
+     * @param p_parallel parallel execution
      */
-    private void plus( final AbstractMatrix p_matrix, final double p_value )
+    private void plus( final AbstractMatrix p_matrix, final double p_value, final boolean p_parallel )
     {
-        if ( p_matrix instanceof DoubleMatrix1D )
-            ( (DoubleMatrix1D) p_matrix ).assign( Functions.plus( p_value ) );
-        else
-            ( (DoubleMatrix2D) p_matrix ).assign( Functions.plus( p_value ) );
+        this.assign( p_matrix, Functions.plus( p_value ), p_parallel );
     }
 
 
@@ -111,13 +114,11 @@ public class CElementWise extends IBuildinAction
      *
      * @param p_matrix matrix element
      * @param p_value value element
+     * @param p_parallel parallel execution
      */
-    private void minus( final AbstractMatrix p_matrix, final double p_value )
+    private void minus( final AbstractMatrix p_matrix, final double p_value, final boolean p_parallel )
     {
-        if ( p_matrix instanceof DoubleMatrix1D )
-            ( (DoubleMatrix1D) p_matrix ).assign( Functions.minus( p_value ) );
-        else
-            ( (DoubleMatrix2D) p_matrix ).assign( Functions.minus( p_value ) );
+        this.assign( p_matrix, Functions.minus( p_value ), p_parallel );
     }
 
 
@@ -126,13 +127,11 @@ public class CElementWise extends IBuildinAction
      *
      * @param p_matrix matrix element
      * @param p_value value element
+     * @param p_parallel parallel execution
      */
-    private void multiply( final AbstractMatrix p_matrix, final double p_value )
+    private void multiply( final AbstractMatrix p_matrix, final double p_value, final boolean p_parallel )
     {
-        if ( p_matrix instanceof DoubleMatrix1D )
-            ( (DoubleMatrix1D) p_matrix ).assign( Functions.mult( p_value ) );
-        else
-            ( (DoubleMatrix2D) p_matrix ).assign( Functions.mult( p_value ) );
+        this.assign( p_matrix, Functions.mult( p_value ), p_parallel );
     }
 
 
@@ -141,13 +140,29 @@ public class CElementWise extends IBuildinAction
      *
      * @param p_matrix matrix element
      * @param p_value value element
+     * @param p_parallel parallel execution
+     */
+    private void divide( final AbstractMatrix p_matrix, final double p_value, final boolean p_parallel )
+    {
+        this.assign( p_matrix, Functions.div( p_value ), p_parallel );
+    }
+
+
+    /**
+     * assigns a function to each element
+     *
+     * @param p_matrix matrix element
+     * @param p_function function
+     * @param p_parallel parallel execution
      */
-    private void divide( final AbstractMatrix p_matrix, final double p_value )
+    private void assign( final AbstractMatrix p_matrix, final DoubleFunction p_function, final boolean p_parallel )
     {
-        if ( p_matrix instanceof DoubleMatrix1D )
-            ( (DoubleMatrix1D) p_matrix ).assign( Functions.div( p_value ) );
+        if ( p_parallel )
+            CKernel.assign( p_matrix, p_function );
+        else if ( p_matrix instanceof DoubleMatrix1D )
+            ( (DoubleMatrix1D) p_matrix ).assign( p_function );
         else
-            ( (DoubleMatrix2D) p_matrix ).assign( Functions.div( p_value ) );
+            ( (DoubleMatrix2D) p_matrix ).assign( p_function );
     }
 
 }
@@ -0,0 +1,533 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.buildin.math.blas;
+
+import cern.colt.function.DoubleFunction;
+import cern.colt.matrix.DoubleMatrix1D;
+import cern.colt.matrix.DoubleMatrix2D;
+import cern.colt.matrix.impl.AbstractMatrix;
+import cern.colt.matrix.impl.DenseDoubleMatrix1D;
+import cern.colt.matrix.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.linalg.Algebra;
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.error.CIllegalArgumentException;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+
+/**
+ * parallel kernels of the blas actions, which are used if the action
+ * is called with the parallel flag, the kernels work on primitive row-major
+ * arrays, dense operands are copied once into an array, sparse operands are
+ * compressed row-wise, so the kernels work for dense and sparse matrices,
+ * the parallel streams run within the pool of the agent executor
+ */
+public final class CKernel
+{
+    /**
+     * number of rows and columns of a block of the matrix product
+     */
+    private static final int BLOCKSIZE = 64;
+
+    /**
+     * private ctor - avoid instantiation
+     */
+    private CKernel()
+    {
+    }
+
+    /**
+     * parallel blocked matrix-matrix product
+     *
+     * @param p_first first matrix
+     * @param p_second second matrix
+     * @return product matrix with the type of the first matrix
+     */
+    public static DoubleMatrix2D multiply( final DoubleMatrix2D p_first, final DoubleMatrix2D p_second )
+    {
+        if ( p_first.columns() != p_second.rows() )
+            throw new CIllegalArgumentException( CCommon.languagestring( CKernel.class, "dimension", p_first.columns(), p_second.rows() ) );
+
+        final int l_rows = p_first.rows();
+        final int l_inner = p_first.columns();
+        final int l_columns = p_second.columns();
+
+        if ( ( p_first instanceof DenseDoubleMatrix2D ) && ( p_second instanceof DenseDoubleMatrix2D ) )
+        {
+            final double[] l_first = CKernel.values( p_first );
+            final double[] l_second = CKernel.values( p_second );
+            final double[] l_result = new double[Math.multiplyExact( l_rows, l_columns )];
+            final int l_columnblocks = ( l_columns + BLOCKSIZE - 1 ) / BLOCKSIZE;
+
+            // each block of the result is calculated by one task, the inner dimension is blocked for cache locality
+            IntStream.range( 0, ( ( l_rows + BLOCKSIZE - 1 ) / BLOCKSIZE ) * l_columnblocks ).parallel().forEach( t -> {
+                final int l_rowstart = t / l_columnblocks * BLOCKSIZE;
+                final int l_columnstart = t % l_columnblocks * BLOCKSIZE;
+
+                for ( int l_innerstart = 0; l_innerstart < l_inner; l_innerstart += BLOCKSIZE )
+                    for ( int i = l_rowstart; i < Math.min( l_rowstart + BLOCKSIZE, l_rows ); i++ )
+                        CKernel.multiplyblockrow(
+                            l_first, l_second, l_result, i, l_inner, l_columns,
+                            l_innerstart, Math.min( l_innerstart + BLOCKSIZE, l_inner ),
+                            l_columnstart, Math.min( l_columnstart + BLOCKSIZE, l_columns )
+                        );
+            } );
+
+            return EType.DENSE.matrix( l_rows, l_columns, l_result, true );
+        }
+
+        // sparse operands are multiplied row-wise over the non-zero values, each row is summed up
+        // within the sparse accumulator of the thread, so only the non-zero values of the result are stored
+        final CCompressedRows l_first = new CCompressedRows( p_first );
+        final CCompressedRows l_second = new CCompressedRows( p_second );
+        final ThreadLocal<CAccumulator> l_accumulator = ThreadLocal.withInitial( () -> new CAccumulator( l_columns ) );
+        final int[][] l_resultcolumn = new int[l_rows][];
+        final double[][] l_resultvalue = new double[l_rows][];
+
+        IntStream.range( 0, l_rows ).parallel().forEach( i -> {
+            final CAccumulator l_row = l_accumulator.get();
+            for ( int k = l_first.m_offset[i]; k < l_first.m_offset[i + 1]; k++ )
+            {
+                final int l_index = l_first.m_column[k];
+                for ( int j = l_second.m_offset[l_index]; j < l_second.m_offset[l_index + 1]; j++ )
+                    l_row.add( l_second.m_column[j], l_first.m_value[k] * l_second.m_value[j] );
+            }
+            l_resultcolumn[i] = l_row.columns();
+            l_resultvalue[i] = l_row.values( l_resultcolumn[i] );
+        } );
+
+        // the hash storage of sparse matrices is not thread-safe, so the result is assigned sequential
+        final DoubleMatrix2D l_result = p_first.like( l_rows, l_columns );
+        IntStream.range( 0, l_rows ).forEach( i -> {
+            for ( int j = 0; j < l_resultcolumn[i].length; j++ )
+                if ( l_resultvalue[i][j] != 0 )
+                    l_result.setQuick( i, l_resultcolumn[i][j], l_resultvalue[i][j] );
+        } );
+        return l_result;
+    }
+
+    /**
+     * parallel matrix-vector product
+     *
+     * @param p_matrix matrix
+     * @param p_vector vector
+     * @return product vector with the type of the matrix
+     */
+    public static DoubleMatrix1D multiply( final DoubleMatrix2D p_matrix, final DoubleMatrix1D p_vector )
+    {
+        if ( p_matrix.columns() != p_vector.size() )
+            throw new CIllegalArgumentException( CCommon.languagestring( CKernel.class, "dimension", p_matrix.columns(), p_vector.size() ) );
+
+        final double[] l_vector = p_vector.toArray();
+        final double[] l_result = new double[p_matrix.rows()];
+
+        if ( p_matrix instanceof DenseDoubleMatrix2D )
+            IntStream.range( 0, l_result.length ).parallel().forEach( i -> {
+                double l_sum = 0;
+                for ( int j = 0; j < l_vector.length; j++ )
+                    l_sum += p_matrix.getQuick( i, j ) * l_vector[j];
+                l_result[i] = l_sum;
+            } );
+        else
+        {
+            final CCompressedRows l_matrix = new CCompressedRows( p_matrix );
+            IntStream.range( 0, l_result.length ).parallel().forEach( i -> {
+                double l_sum = 0;
+                for ( int j = l_matrix.m_offset[i]; j < l_matrix.m_offset[i + 1]; j++ )
+                    l_sum += l_matrix.m_value[j] * l_vector[l_matrix.m_column[j]];
+                l_result[i] = l_sum;
+            } );
+        }
+
+        if ( p_matrix instanceof DenseDoubleMatrix2D )
+            return EType.DENSE.vector( l_result, true );
+
+        final DoubleMatrix1D l_return = p_matrix.like1D( l_result.length );
+        IntStream.range( 0, l_result.length ).filter( i -> l_result[i] != 0 ).forEach( i -> l_return.setQuick( i, l_result[i] ) );
+        return l_return;
+    }
+
+    /**
+     * parallel outer product of two vectors
+     *
+     * @param p_first first vector
+     * @param p_second second vector
+     * @return product matrix with the type of the first vector
+     */
+    public static DoubleMatrix2D multiplyouter( final DoubleMatrix1D p_first, final DoubleMatrix1D p_second )
+    {
+        final double[] l_first = p_first.toArray();
+        final double[] l_second = p_second.toArray();
+        final double[] l_result = new double[l_first.length * l_second.length];
+
+        IntStream.range( 0, l_first.length ).parallel().forEach( i -> {
+            if ( l_first[i] != 0 )
+                for ( int j = 0; j < l_second.length; j++ )
+                    l_result[i * l_second.length + j] = l_first[i] * l_second[j];
+        } );
+
+        return p_first instanceof DenseDoubleMatrix1D
+               ? EType.DENSE.matrix( l_first.length, l_second.length, l_result, true )
+               : CKernel.assign( p_first.like2D( l_first.length, l_second.length ), l_result );
+    }
+
+    /**
+     * solves the linear equation system A * X = B with a parallel LU decomposition
+     * with partial pivoting, non-square systems are solved with the least squares
+     * solution of the (sequential) QR decomposition
+     *
+     * @param p_matrix matrix A
+     * @param p_result matrix B
+     * @return solution X
+     */
+    public static DoubleMatrix2D solve( final DoubleMatrix2D p_matrix, final DoubleMatrix2D p_result )
+    {
+        if ( p_matrix.rows() != p_matrix.columns() )
+            return Algebra.DEFAULT.solve( p_matrix, p_result );
+        if ( p_matrix.rows() != p_result.rows() )
+            throw new CIllegalArgumentException( CCommon.languagestring( CKernel.class, "dimension", p_matrix.rows(), p_result.rows() ) );
+
+        final int l_size = p_matrix.rows();
+        final double[] l_lu = CKernel.values( p_matrix );
+        final int[] l_pivot = CKernel.decompose( l_lu, l_size );
+
+        // forward and backward substitution of each column of the result in parallel
+        final int l_columns = p_result.columns();
+        final double[] l_solution = new double[l_size * l_columns];
+        IntStream.range( 0, l_columns ).parallel().forEach( c -> {
+            final double[] l_column = CKernel.substitute(
+                l_lu, l_size,
+                IntStream.range( 0, l_size ).mapToDouble( i -> p_result.getQuick( l_pivot[i], c ) ).toArray()
+            );
+            IntStream.range( 0, l_size ).forEach( i -> l_solution[i * l_columns + c] = l_column[i] );
+        } );
+
+        return p_result instanceof DenseDoubleMatrix2D
+               ? EType.DENSE.matrix( l_size, l_columns, l_solution, true )
+               : CKernel.assign( p_result.like( l_size, l_columns ), l_solution );
+    }
+
+    /**
+     * inverts a matrix with the parallel LU decomposition,
+     * non-square matrices get the pseudo inverse
+     *
+     * @param p_matrix matrix
+     * @return inverse matrix
+     */
+    public static DoubleMatrix2D invert( final DoubleMatrix2D p_matrix )
+    {
+        final double[] l_identity = new double[p_matrix.rows() * p_matrix.rows()];
+        IntStream.range( 0, p_matrix.rows() ).forEach( i -> l_identity[i * p_matrix.rows() + i] = 1 );
+        return CKernel.solve( p_matrix, EType.DENSE.matrix( p_matrix.rows(), p_matrix.rows(), l_identity, true ) );
+    }
+
+    /**
+     * applies a function on each element in parallel, the hash storage
+     * of sparse matrices is not thread-safe, so sparse matrices are
+     * assigned sequential
+     *
+     * @param p_matrix vector or matrix, which is changed
+     * @param p_function function
+     * @return vector or matrix
+     */
+    public static AbstractMatrix assign( final AbstractMatrix p_matrix, final DoubleFunction p_function )
+    {
+        if ( p_matrix instanceof DenseDoubleMatrix1D )
+        {
+            final DoubleMatrix1D l_vector = (DoubleMatrix1D) p_matrix;
+            IntStream.range( 0, l_vector.size() ).parallel().forEach( i -> l_vector.setQuick( i, p_function.apply( l_vector.getQuick( i ) ) ) );
+            return l_vector;
+        }
+
+        if ( p_matrix instanceof DenseDoubleMatrix2D )
+        {
+            final DoubleMatrix2D l_matrix = (DoubleMatrix2D) p_matrix;
+            IntStream.range( 0, l_matrix.rows() ).parallel().forEach( i -> {
+                for ( int j = 0; j < l_matrix.columns(); j++ )
+                    l_matrix.setQuick( i, j, p_function.apply( l_matrix.getQuick( i, j ) ) );
+            } );
+            return l_matrix;
+        }
+
+        return p_matrix instanceof DoubleMatrix1D
+               ? ( (DoubleMatrix1D) p_matrix ).assign( p_function )
+               : ( (DoubleMatrix2D) p_matrix ).assign( p_function );
+    }
+
+    /**
+     * multiplies a row of a block of the first matrix with a block of the second matrix
+     *
+     * @param p_first row-major values of the first matrix
+     * @param p_second row-major values of the second matrix
+     * @param p_result row-major values of the result matrix
+     * @param p_row row index
+     * @param p_inner inner dimension
+     * @param p_columns number of result columns
+     * @param p_innerstart start of the inner block
+     * @param p_innerend end of the inner block
+     * @param p_columnstart start of the column block
+     * @param p_columnend end of the column block
+     */
+    private static void multiplyblockrow( final double[] p_first, final double[] p_second, final double[] p_result, final int p_row,
+                                          final int p_inner, final int p_columns, final int p_innerstart, final int p_innerend,
+                                          final int p_columnstart, final int p_columnend
+    )
+    {
+        for ( int k = p_innerstart; k < p_innerend; k++ )
+        {
+            final double l_value = p_first[p_row * p_inner + k];
+            if ( l_value != 0 )
+                for ( int j = p_columnstart; j < p_columnend; j++ )
+                    p_result[p_row * p_columns + j] += l_value * p_second[k * p_columns + j];
+        }
+    }
+
+    /**
+     * in-place LU decomposition with partial pivoting, the
+     * elimination of the rows below the pivot row is run in parallel
+     *
+     * @param p_lu row-major values of the matrix, which are replaced by the decomposition
+     * @param p_size size of the matrix
+     * @return row permutation
+     */
+    private static int[] decompose( final double[] p_lu, final int p_size )
+    {
+        final int[] l_pivot = IntStream.range( 0, p_size ).toArray();
+
+        for ( int k = 0; k < p_size; k++ )
+        {
+            final int l_diagonal = k;
+            final int l_row = IntStream.range( k, p_size )
+                                       .reduce( ( i, j ) -> Math.abs( p_lu[j * p_size + l_diagonal] ) > Math.abs( p_lu[i * p_size + l_diagonal] ) ? j : i )
+                                       .getAsInt();
+            if ( p_lu[l_row * p_size + k] == 0 )
+                throw new CIllegalArgumentException( CCommon.languagestring( CKernel.class, "singular" ) );
+
+            if ( l_row != k )
+            {
+                final double[] l_swap = Arrays.copyOfRange( p_lu, k * p_size, ( k + 1 ) * p_size );
+                System.arraycopy( p_lu, l_row * p_size, p_lu, k * p_size, p_size );
+                System.arraycopy( l_swap, 0, p_lu, l_row * p_size, p_size );
+
+                final int l_index = l_pivot[k];
+                l_pivot[k] = l_pivot[l_row];
+                l_pivot[l_row] = l_index;
+            }
+
+            IntStream.range( k + 1, p_size ).parallel().forEach( i -> {
+                final double l_factor = p_lu[i * p_size + l_diagonal] / p_lu[l_diagonal * p_size + l_diagonal];
+                p_lu[i * p_size + l_diagonal] = l_factor;
+                if ( l_factor != 0 )
+                    for ( int j = l_diagonal + 1; j < p_size; j++ )
+                        p_lu[i * p_size + j] -= l_factor * p_lu[l_diagonal * p_size + j];
+            } );
+        }
+
+        return l_pivot;
+    }
+
+    /**
+     * forward and backward substitution of a permuted column
+     *
+     * @param p_lu row-major values of the LU decomposition
+     * @param p_size size of the matrix
+     * @param p_column permuted column, which is replaced by the solution
+     * @return solution column
+     */
+    private static double[] substitute( final double[] p_lu, final int p_size, final double[] p_column )
+    {
+        for ( int i = 0; i < p_size; i++ )
+            for ( int j = 0; j < i; j++ )
+                p_column[i] -= p_lu[i * p_size + j] * p_column[j];
+
+        for ( int i = p_size - 1; i > -1; i-- )
+        {
+            for ( int j = i + 1; j < p_size; j++ )
+                p_column[i] -= p_lu[i * p_size + j] * p_column[j];
+            p_column[i] /= p_lu[i * p_size + i];
+        }
+
+        return p_column;
+    }
+
+    /**
+     * returns the row-major values of a matrix
+     *
+     * @param p_matrix matrix
+     * @return values
+     */
+    private static double[] values( final DoubleMatrix2D p_matrix )
+    {
+        final int l_columns = p_matrix.columns();
+        final double[] l_values = new double[p_matrix.rows() * l_columns];
+        IntStream.range( 0, p_matrix.rows() ).parallel().forEach( i -> {
+            for ( int j = 0; j < l_columns; j++ )
+                l_values[i * l_columns + j] = p_matrix.getQuick( i, j );
+        } );
+        return l_values;
+    }
+
+    /**
+     * assigns the non-zero row-major values to a matrix
+     *
+     * @param p_matrix matrix
+     * @param p_values row-major values
+     * @return matrix
+     */
+    private static DoubleMatrix2D assign( final DoubleMatrix2D p_matrix, final double[] p_values )
+    {
+        IntStream.range( 0, p_values.length )
+                 .filter( i -> p_values[i] != 0 )
+                 .forEach( i -> p_matrix.setQuick( i / p_matrix.columns(), i % p_matrix.columns(), p_values[i] ) );
+        return p_matrix;
+    }
+
+
+    /**
+     * compressed rows of the non-zero values of a matrix
+     */
+    private static final class CCompressedRows
+    {
+        /**
+         * start index of each row, the last element is the number of values
+         */
+        private final int[] m_offset;
+        /**
+         * column of each value
+         */
+        private final int[] m_column;
+        /**
+         * values
+         */
+        private final double[] m_value;
+
+        /**
+         * ctor
+         *
+         * @param p_matrix matrix
+         */
+        CCompressedRows( final DoubleMatrix2D p_matrix )
+        {
+            m_offset = new int[p_matrix.rows() + 1];
+            p_matrix.forEachNonZero( ( i, j, v ) -> {
+                m_offset[i + 1]++;
+                return v;
+            } );
+            Arrays.parallelPrefix( m_offset, Integer::sum );
+
+            final int[] l_cursor = Arrays.copyOf( m_offset, p_matrix.rows() );
+            m_column = new int[m_offset[p_matrix.rows()]];
+            m_value = new double[m_column.length];
+            p_matrix.forEachNonZero( ( i, j, v ) -> {
+                m_column[l_cursor[i]] = j;
+                m_value[l_cursor[i]++] = v;
+                return v;
+            } );
+        }
+    }
+
+    /**
+     * sparse accumulator of a result row, the values are summed up
+     * in a dense array and the used columns are stored, so a row
+     * is reset in the number of its non-zero values
+     */
+    private static final class CAccumulator
+    {
+        /**
+         * values of the columns
+         */
+        private final double[] m_value;
+        /**
+         * flag that a column is used
+         */
+        private final boolean[] m_used;
+        /**
+         * used columns
+         */
+        private final int[] m_column;
+        /**
+         * number of used columns
+         */
+        private int m_size;
+
+        /**
+         * ctor
+         *
+         * @param p_columns number of columns
+         */
+        CAccumulator( final int p_columns )
+        {
+            m_value = new double[p_columns];
+            m_used = new boolean[p_columns];
+            m_column = new int[p_columns];
+        }
+
+        /**
+         * adds a value to a column
+         *
+         * @param p_column column
+         * @param p_value value
+         */
+        final void add( final int p_column, final double p_value )
+        {
+            if ( !m_used[p_column] )
+            {
+                m_used[p_column] = true;
+                m_column[m_size++] = p_column;
+            }
+            m_value[p_column] += p_value;
+        }
+
+        /**
+         * returns the used columns
+         *
+         * @return columns
+         */
+        final int[] columns()
+        {
+            return Arrays.copyOf( m_column, m_size );
+        }
+
+        /**
+         * returns the values of the columns and resets the accumulator
+         *
+         * @param p_columns used columns
+         * @return values
+         */
+        final double[] values( final int[] p_columns )
+        {
+            final double[] l_values = new double[p_columns.length];
+            for ( int i = 0; i < p_columns.length; i++ )
+            {
+                l_values[i] = m_value[p_columns[i]];
+                m_value[p_columns[i]] = 0;
+                m_used[p_columns[i]] = false;
+            }
+            m_size = 0;
+            return l_values;
+        }
+    }
+
+}
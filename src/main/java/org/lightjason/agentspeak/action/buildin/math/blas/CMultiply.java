@@ -65,16 +65,16 @@ public final class CMultiply extends IAlgebra
         final AbstractMatrix l_second = p_argument.get( 1 ).raw();
 
         if ( ( l_first instanceof DoubleMatrix1D ) && ( l_second instanceof DoubleMatrix1D ) )
-            return this.multiplyVectorVector( (DoubleMatrix1D) l_first, (DoubleMatrix1D) l_second, p_return );
+            return this.multiplyVectorVector( (DoubleMatrix1D) l_first, (DoubleMatrix1D) l_second, p_parallel, p_return );
 
         if ( ( l_first instanceof DoubleMatrix2D ) && ( l_second instanceof DoubleMatrix2D ) )
-            return this.multiplyVectorVector( (DoubleMatrix2D) l_first, (DoubleMatrix2D) l_second, p_return );
+            return this.multiplyMatrixMatrix( (DoubleMatrix2D) l_first, (DoubleMatrix2D) l_second, p_parallel, p_return );
 
         if ( ( l_first instanceof DoubleMatrix2D ) && ( l_second instanceof DoubleMatrix1D ) )
-            return this.multiplyMatrixVector( (DoubleMatrix2D) l_first, (DoubleMatrix1D) l_second, p_return );
+            return this.multiplyMatrixVector( (DoubleMatrix2D) l_first, (DoubleMatrix1D) l_second, p_parallel, p_return );
 
         if ( ( l_first instanceof DoubleMatrix1D ) && ( l_second instanceof DoubleMatrix2D ) )
-            return this.multiplyMatrixVector( (DoubleMatrix2D) l_second, (DoubleMatrix1D) l_first, p_return );
+            return this.multiplyMatrixVector( (DoubleMatrix2D) l_second, (DoubleMatrix1D) l_first, p_parallel, p_return );
 
         return CFuzzyValue.from( false );
     }
@@ -84,12 +84,14 @@ public final class CMultiply extends IAlgebra
      *
      * @param p_first vector
      * @param p_second vector
+     * @param p_parallel parallel execution
      * @param p_return return matrix
      * @return fuzzy boolean
      */
-    private IFuzzyValue<Boolean> multiplyVectorVector( final DoubleMatrix1D p_first, final DoubleMatrix1D p_second, final List<ITerm> p_return )
+    private IFuzzyValue<Boolean> multiplyVectorVector( final DoubleMatrix1D p_first, final DoubleMatrix1D p_second, final boolean p_parallel,
+                                                       final List<ITerm> p_return )
     {
-        p_return.add( CRawTerm.from( ALGEBRA.multOuter( p_first, p_second, null ) ) );
+        p_return.add( CRawTerm.from( p_parallel ? CKernel.multiplyouter( p_first, p_second ) : ALGEBRA.multOuter( p_first, p_second, null ) ) );
         return CFuzzyValue.from( true );
     }
 
@@ -98,12 +100,14 @@ public final class CMultiply extends IAlgebra
      *
      * @param p_first matrix
      * @param p_second vector
+     * @param p_parallel parallel execution
      * @param p_return return vector
      * @return fuzzy boolean
      */
-    private IFuzzyValue<Boolean> multiplyMatrixVector( final DoubleMatrix2D p_first, final DoubleMatrix1D p_second, final List<ITerm> p_return )
+    private IFuzzyValue<Boolean> multiplyMatrixVector( final DoubleMatrix2D p_first, final DoubleMatrix1D p_second, final boolean p_parallel,
+                                                       final List<ITerm> p_return )
     {
-        p_return.add( CRawTerm.from( ALGEBRA.mult( p_first, p_second ) ) );
+        p_return.add( CRawTerm.from( p_parallel ? CKernel.multiply( p_first, p_second ) : ALGEBRA.mult( p_first, p_second ) ) );
         return CFuzzyValue.from( true );
     }
 
@@ -112,12 +116,14 @@ public final class CMultiply extends IAlgebra
      *
      * @param p_first matrix
      * @param p_second matrix
+     * @param p_parallel parallel execution
      * @param p_return return matrix
      * @return fuzzy boolean
      */
-    private IFuzzyValue<Boolean> multiplyVectorVector( final DoubleMatrix2D p_first, final DoubleMatrix2D p_second, final List<ITerm> p_return )
+    private IFuzzyValue<Boolean> multiplyMatrixMatrix( final DoubleMatrix2D p_first, final DoubleMatrix2D p_second, final boolean p_parallel,
+                                                       final List<ITerm> p_return )
     {
-        p_return.add( CRawTerm.from( ALGEBRA.mult( p_first, p_second ) ) );
+        p_return.add( CRawTerm.from( p_parallel ? CKernel.multiply( p_first, p_second ) : ALGEBRA.mult( p_first, p_second ) ) );
         return CFuzzyValue.from( true );
     }
 
@@ -24,7 +24,17 @@
 package org.lightjason.agentspeak.action.buildin.math.blas;
 
 
+import cern.colt.matrix.DoubleMatrix1D;
+import cern.colt.matrix.DoubleMatrix2D;
+import cern.colt.matrix.impl.DenseDoubleMatrix1D;
+import cern.colt.matrix.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.impl.SparseDoubleMatrix1D;
+import cern.colt.matrix.impl.SparseDoubleMatrix2D;
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.error.CIllegalStateException;
+
 import java.util.Locale;
+import java.util.stream.IntStream;
 
 
 /**
@@ -45,4 +55,119 @@ public enum EType
     {
         return EType.valueOf( p_name.trim().toUpperCase( Locale.ROOT ) );
     }
+
+    /**
+     * creates a vector of a copy of the values
+     *
+     * @param p_values values
+     * @return vector
+     */
+    public final DoubleMatrix1D vector( final double[] p_values )
+    {
+        return this.vector( p_values, false );
+    }
+
+    /**
+     * creates a vector of the values
+     *
+     * @param p_values values
+     * @param p_share the dense vector uses the array without copy,
+     * the sparse vector copies always the non-zero values
+     * @return vector
+     */
+    public final DoubleMatrix1D vector( final double[] p_values, final boolean p_share )
+    {
+        switch ( this )
+        {
+            case DENSE:
+                return p_share ? new CDenseVector( p_values ) : new DenseDoubleMatrix1D( p_values );
+
+            case SPARSE:
+                return new SparseDoubleMatrix1D( p_values );
+
+            default:
+                throw new CIllegalStateException( CCommon.languagestring( this, "unknown", this ) );
+        }
+    }
+
+    /**
+     * creates a matrix of a copy of the row-major values
+     *
+     * @param p_rows number of rows
+     * @param p_columns number of columns
+     * @param p_values row-major values
+     * @return matrix
+     */
+    public final DoubleMatrix2D matrix( final int p_rows, final int p_columns, final double[] p_values )
+    {
+        return this.matrix( p_rows, p_columns, p_values, false );
+    }
+
+    /**
+     * creates a matrix of the row-major values
+     *
+     * @param p_rows number of rows
+     * @param p_columns number of columns
+     * @param p_values row-major values
+     * @param p_share the dense matrix uses the array without copy,
+     * the sparse matrix copies always the non-zero values
+     * @return matrix
+     */
+    public final DoubleMatrix2D matrix( final int p_rows, final int p_columns, final double[] p_values, final boolean p_share )
+    {
+        switch ( this )
+        {
+            case DENSE:
+                return new CDenseMatrix( p_rows, p_columns, p_share ? p_values : p_values.clone() );
+
+            case SPARSE:
+                final DoubleMatrix2D l_matrix = new SparseDoubleMatrix2D( p_rows, p_columns );
+                IntStream.range( 0, p_values.length )
+                         .filter( i -> p_values[i] != 0 )
+                         .forEach( i -> l_matrix.setQuick( i / p_columns, i % p_columns, p_values[i] ) );
+                return l_matrix;
+
+            default:
+                throw new CIllegalStateException( CCommon.languagestring( this, "unknown", this ) );
+        }
+    }
+
+
+    /**
+     * dense vector, which uses the array without copy,
+     * because the Colt constructor is protected
+     */
+    @SuppressWarnings( "serial" )
+    private static final class CDenseVector extends DenseDoubleMatrix1D
+    {
+        /**
+         * ctor
+         *
+         * @param p_values values
+         */
+        CDenseVector( final double[] p_values )
+        {
+            super( p_values.length, p_values, 0, 1 );
+        }
+    }
+
+    /**
+     * dense matrix, which uses the row-major
+     * array without copy, because the Colt constructor is protected
+     */
+    @SuppressWarnings( "serial" )
+    private static final class CDenseMatrix extends DenseDoubleMatrix2D
+    {
+        /**
+         * ctor
+         *
+         * @param p_rows number of rows
+         * @param p_columns number of columns
+         * @param p_values row-major values
+         */
+        CDenseMatrix( final int p_rows, final int p_columns, final double[] p_values )
+        {
+            super( p_rows, p_columns, p_values, 0, 0, p_columns, 1 );
+        }
+    }
 }
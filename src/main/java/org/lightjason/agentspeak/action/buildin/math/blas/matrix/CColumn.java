@@ -25,16 +25,15 @@ package org.lightjason.agentspeak.action.buildin.math.blas.matrix;
 
 import cern.colt.matrix.DoubleMatrix2D;
 import org.lightjason.agentspeak.action.buildin.IBuildinAction;
+import org.lightjason.agentspeak.action.buildin.math.blas.CDoubleList;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
 import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 
 /**
@@ -63,20 +62,13 @@ public final class CColumn extends IBuildinAction
     )
     {
         // first argument must be a term with a matrix object, second column index
+        final List<Number> l_list = CDoubleList.from(
+            p_argument.get( 0 ).<DoubleMatrix2D>raw().viewColumn( p_argument.get( 1 ).<Number>raw().intValue() )
+        );
         p_return.add( CRawTerm.from(
             p_parallel
-            ? Collections.synchronizedList(
-                Arrays.stream(
-                    p_argument.get( 0 ).<DoubleMatrix2D>raw()
-                        .viewColumn( p_argument.get( 1 ).<Number>raw().intValue() ).toArray()
-                )
-                      .boxed().collect( Collectors.toList() )
-            )
-            : Arrays.stream(
-                p_argument.get( 0 ).<DoubleMatrix2D>raw()
-                    .viewColumn( p_argument.get( 1 ).<Number>raw().intValue() ).toArray()
-            )
-                    .boxed().collect( Collectors.toList() )
+            ? Collections.synchronizedList( l_list )
+            : l_list
         ) );
 
         return CFuzzyValue.from( true );
@@ -24,6 +24,7 @@
 package org.lightjason.agentspeak.action.buildin.math.blas.matrix;
 
 import cern.colt.matrix.DoubleMatrix2D;
+import org.lightjason.agentspeak.action.buildin.math.blas.CKernel;
 import org.lightjason.agentspeak.action.buildin.math.blas.IAlgebra;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
@@ -62,7 +63,9 @@ public final class CInvert extends IAlgebra
         // first argument must be a term with a matrix object
         p_return.add(
             CRawTerm.from(
-                ALGEBRA.inverse( p_argument.get( 0 ).<DoubleMatrix2D>raw() )
+                p_parallel
+                ? CKernel.invert( p_argument.get( 0 ).<DoubleMatrix2D>raw() )
+                : ALGEBRA.inverse( p_argument.get( 0 ).<DoubleMatrix2D>raw() )
             )
         );
 
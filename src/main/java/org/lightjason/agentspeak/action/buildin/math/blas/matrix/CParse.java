@@ -23,8 +23,6 @@
 
 package org.lightjason.agentspeak.action.buildin.math.blas.matrix;
 
-import cern.colt.matrix.impl.DenseDoubleMatrix2D;
-import cern.colt.matrix.impl.SparseDoubleMatrix2D;
 import org.lightjason.agentspeak.action.buildin.IBuildinAction;
 import org.lightjason.agentspeak.action.buildin.math.blas.EType;
 import org.lightjason.agentspeak.error.CRuntimeException;
@@ -34,10 +32,8 @@ import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
 import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 
@@ -66,62 +62,23 @@ public final class CParse extends IBuildinAction
                                                final List<ITerm> p_annotation
     )
     {
-        switch ( p_argument.size() > 1 ? EType.from( p_argument.get( 1 ).<String>raw() ) : EType.DENSE )
-        {
-            case DENSE:
-                p_return.add(
-                    CRawTerm.from( new DenseDoubleMatrix2D( CParse.parse( p_context, p_argument.get( 0 ).<String>raw() ) ) )
-                );
-                break;
+        // the values are parsed into one row-major array, so the dense matrix uses the array without copy
+        final double[][] l_rows = Arrays.stream( p_argument.get( 0 ).<String>raw().split( ";" ) )
+                                        .map( i -> Arrays.stream( i.trim().split( ",|\\s" ) )
+                                                         .map( String::trim )
+                                                         .filter( j -> !j.isEmpty() )
+                                                         .mapToDouble( Double::parseDouble )
+                                                         .toArray() )
+                                        .toArray( double[][]::new );
+        final int l_columns = Arrays.stream( l_rows ).mapToInt( i -> i.length ).max().orElseThrow( () -> new CRuntimeException( p_context ) );
 
-            case SPARSE:
-                p_return.add(
-                    CRawTerm.from( new SparseDoubleMatrix2D( CParse.parse( p_context, p_argument.get( 0 ).<String>raw() ) ) )
-                );
-                break;
-
-            default:
-        }
+        final double[] l_values = new double[l_rows.length * l_columns];
+        IntStream.range( 0, l_rows.length ).forEach( i -> System.arraycopy( l_rows[i], 0, l_values, i * l_columns, l_rows[i].length ) );
 
+        p_return.add( CRawTerm.from(
+            ( p_argument.size() > 1 ? EType.from( p_argument.get( 1 ).<String>raw() ) : EType.DENSE ).matrix( l_rows.length, l_columns, l_values, true )
+        ) );
         return CFuzzyValue.from( true );
     }
 
-    /**
-     * parse the string in a list of lists with doubles
-     *
-     * @param p_context execution context
-     * @param p_string string
-     * @return 2D double array
-     */
-    private static double[][] parse( final IContext p_context, final String p_string )
-    {
-        final String[] l_rows = p_string.split( ";" );
-        final List<List<Double>> l_matrix = new ArrayList<>();
-
-        final double[][] l_return = new double[l_rows.length][
-            Arrays.stream( l_rows )
-                  .map( i -> Arrays.stream( i.trim().split( ",|\\s" ) )
-                                   .map( String::trim )
-                                   .filter( j -> !j.isEmpty() )
-                                   .mapToDouble( Double::parseDouble )
-                                   .boxed()
-                                   .collect( Collectors.toList() )
-                  )
-                  .mapToInt( i -> {
-                      l_matrix.add( i );
-                      return i.size();
-                  } )
-                  .max()
-                  .orElseThrow( () -> new CRuntimeException( p_context ) )
-            ];
-
-        IntStream.range( 0, l_return.length )
-                 .boxed()
-                 .forEach( i -> IntStream.range( 0, l_return[i].length )
-                                         .boxed()
-                                         .forEach( j -> l_return[i][j] = l_matrix.get( i ).get( j ) ) );
-
-        return l_return;
-    }
-
 }
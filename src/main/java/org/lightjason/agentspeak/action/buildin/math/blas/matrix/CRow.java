@@ -25,16 +25,15 @@ package org.lightjason.agentspeak.action.buildin.math.blas.matrix;
 
 import cern.colt.matrix.DoubleMatrix2D;
 import org.lightjason.agentspeak.action.buildin.IBuildinAction;
+import org.lightjason.agentspeak.action.buildin.math.blas.CDoubleList;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
 import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 
 /**
@@ -62,20 +61,13 @@ public final class CRow extends IBuildinAction
     )
     {
         // first argument must be a term with a matrix object, second row index
+        final List<Number> l_list = CDoubleList.from(
+            p_argument.get( 0 ).<DoubleMatrix2D>raw().viewRow( p_argument.get( 1 ).<Number>raw().intValue() )
+        );
         p_return.add( CRawTerm.from(
             p_parallel
-            ? Collections.synchronizedList(
-                Arrays.stream(
-                    p_argument.get( 0 ).<DoubleMatrix2D>raw()
-                        .viewRow( p_argument.get( 1 ).<Number>raw().intValue() ).toArray()
-                )
-                      .boxed().collect( Collectors.toList() )
-            )
-            : Arrays.stream(
-                p_argument.get( 0 ).<DoubleMatrix2D>raw()
-                    .viewRow( p_argument.get( 1 ).<Number>raw().intValue() ).toArray()
-            )
-                    .boxed().collect( Collectors.toList() )
+            ? Collections.synchronizedList( l_list )
+            : l_list
         ) );
 
         return CFuzzyValue.from( true );
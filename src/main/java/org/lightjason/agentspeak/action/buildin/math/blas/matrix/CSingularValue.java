@@ -26,6 +26,7 @@ package org.lightjason.agentspeak.action.buildin.math.blas.matrix;
 import cern.colt.matrix.DoubleMatrix2D;
 import cern.colt.matrix.linalg.SingularValueDecomposition;
 import org.lightjason.agentspeak.action.buildin.IBuildinAction;
+import org.lightjason.agentspeak.action.buildin.math.blas.CDoubleList;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -35,7 +36,6 @@ import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 
 /**
@@ -63,16 +63,14 @@ public final class CSingularValue extends IBuildinAction
     )
     {
         // argument must be a term with a matrix object
+        final double[] l_values = new SingularValueDecomposition( p_argument.get( 0 ).<DoubleMatrix2D>raw() ).getSingularValues();
+        Arrays.sort( l_values );
+
+        final List<Number> l_list = CDoubleList.from( l_values );
         p_return.add( CRawTerm.from(
             p_parallel
-            ? Collections.synchronizedList(
-                Arrays.stream(
-                    new SingularValueDecomposition( p_argument.get( 0 ).<DoubleMatrix2D>raw() ).getSingularValues()
-                ).boxed().sorted().collect( Collectors.toList() )
-            )
-            : Arrays.stream(
-                new SingularValueDecomposition( p_argument.get( 0 ).<DoubleMatrix2D>raw() ).getSingularValues()
-            ).boxed().sorted().collect( Collectors.toList() )
+            ? Collections.synchronizedList( l_list )
+            : l_list
         ) );
 
         return CFuzzyValue.from( true );
@@ -24,6 +24,7 @@
 package org.lightjason.agentspeak.action.buildin.math.blas.matrix;
 
 import cern.colt.matrix.DoubleMatrix2D;
+import org.lightjason.agentspeak.action.buildin.math.blas.CKernel;
 import org.lightjason.agentspeak.action.buildin.math.blas.IAlgebra;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
@@ -52,11 +53,13 @@ public final class CSolve extends IAlgebra
     )
     {
         // first argument matrix, second argument result matrix
+        final DoubleMatrix2D l_matrix = p_argument.get( 0 ).<DoubleMatrix2D>raw();
+        final DoubleMatrix2D l_result = p_argument.get( 1 ).<DoubleMatrix2D>raw();
+
         p_return.add( CRawTerm.from(
-            ALGEBRA.solve(
-                p_return.get( 0 ).<DoubleMatrix2D>raw(),
-                p_return.get( 1 ).<DoubleMatrix2D>raw()
-            )
+            p_parallel
+            ? CKernel.solve( l_matrix, l_result )
+            : ALGEBRA.solve( l_matrix, l_result )
         ) );
         return CFuzzyValue.from( true );
     }
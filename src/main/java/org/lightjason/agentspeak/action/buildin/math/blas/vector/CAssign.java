@@ -25,6 +25,7 @@ package org.lightjason.agentspeak.action.buildin.math.blas.vector;
 
 import cern.colt.matrix.DoubleMatrix1D;
 import org.lightjason.agentspeak.action.buildin.IBuildinAction;
+import org.lightjason.agentspeak.action.buildin.math.blas.CDoubleList;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -56,7 +57,6 @@ public final class CAssign extends IBuildinAction
     }
 
     @Override
-    @SuppressWarnings( "unchecked" )
     public final IFuzzyValue<Boolean> execute( final IContext p_context, final boolean p_parallel, final List<ITerm> p_argument, final List<ITerm> p_return,
                                                final List<ITerm> p_annotation
     )
@@ -77,10 +77,10 @@ public final class CAssign extends IBuildinAction
             return CFuzzyValue.from( true );
         }
 
-        if ( l_value instanceof List<?> )
+        if ( ( l_value instanceof List<?> ) || ( l_value instanceof double[] ) )
         {
-            final List<Double> l_data = (List<Double>) l_value;
-            IntStream.range( 0, Math.min( l_vector.size(), l_data.size() ) ).boxed().forEach( i -> l_vector.setQuick( i, l_data.get( i ) ) );
+            final double[] l_data = CDoubleList.values( l_value );
+            IntStream.range( 0, Math.min( l_vector.size(), l_data.length ) ).forEach( i -> l_vector.setQuick( i, l_data[i] ) );
             return CFuzzyValue.from( true );
         }
 
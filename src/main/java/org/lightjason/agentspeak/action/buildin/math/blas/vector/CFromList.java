@@ -23,10 +23,8 @@
 
 package org.lightjason.agentspeak.action.buildin.math.blas.vector;
 
-import cern.colt.matrix.DoubleMatrix1D;
-import cern.colt.matrix.impl.DenseDoubleMatrix1D;
-import cern.colt.matrix.impl.SparseDoubleMatrix1D;
 import org.lightjason.agentspeak.action.buildin.IBuildinAction;
+import org.lightjason.agentspeak.action.buildin.math.blas.CDoubleList;
 import org.lightjason.agentspeak.action.buildin.math.blas.EType;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
@@ -35,11 +33,13 @@ import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
 import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
 
 import java.util.List;
-import java.util.stream.IntStream;
 
 
 /**
- * creates a dense- or sparse-vector from a list
+ * creates a dense- or sparse-vector from a list, the values are
+ * copied, so changes of the vector are not changes of the list,
+ * with the optional share flag the dense vector uses a double array
+ * or the values of a double list without copy
  */
 public final class CFromList extends IBuildinAction
 {
@@ -62,35 +62,16 @@ public final class CFromList extends IBuildinAction
                                                final List<ITerm> p_annotation
     )
     {
-        // first argument is the list type
-        // optional second argument is matrix type (default dense-matrix)
-        final List<Double> l_data = p_argument.get( 0 ).raw();
-        switch ( p_argument.size() > 1 ? EType.from( p_argument.get( 1 ).<String>raw() ) : EType.DENSE )
-        {
-            case DENSE:
-                p_return.add( assign( l_data, new DenseDoubleMatrix1D( l_data.size() ) ) );
-                break;
-
-            case SPARSE:
-                p_return.add( assign( l_data, new SparseDoubleMatrix1D( l_data.size() ) ) );
-                break;
-
-            default:
-        }
+        // first argument is the list, optional second argument is matrix type (default dense-matrix),
+        // optional third argument is the share flag (default false), so a double array or a double list is used without copy,
+        // otherwise the values are copied once and the vector uses the copy
+        p_return.add( CRawTerm.from(
+            ( p_argument.size() > 1 ? EType.from( p_argument.get( 1 ).<String>raw() ) : EType.DENSE ).vector(
+                CDoubleList.values( p_argument.get( 0 ).raw(), ( p_argument.size() > 2 ) && p_argument.get( 2 ).<Boolean>raw() ),
+                true
+            )
+        ) );
         return CFuzzyValue.from( true );
     }
 
-    /**
-     * assigns the list values to the vector
-     *
-     * @param p_data list
-     * @param p_vector vector
-     * @return term
-     */
-    private static ITerm assign( final List<Double> p_data, final DoubleMatrix1D p_vector )
-    {
-        IntStream.range( 0, p_data.size() ).boxed().forEach( i -> p_vector.setQuick( i, p_data.get( i ) ) );
-        return CRawTerm.from( p_vector );
-    }
-
 }
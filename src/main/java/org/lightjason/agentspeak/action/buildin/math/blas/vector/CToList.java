@@ -25,20 +25,20 @@ package org.lightjason.agentspeak.action.buildin.math.blas.vector;
 
 import cern.colt.matrix.DoubleMatrix1D;
 import org.lightjason.agentspeak.action.buildin.IBuildinAction;
+import org.lightjason.agentspeak.action.buildin.math.blas.CDoubleList;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
 import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 
 /**
- * converts a vector to a list
+ * converts a vector or a double array to a list,
+ * so the result of a batch call can be used as list
  */
 public final class CToList extends IBuildinAction
 {
@@ -61,18 +61,15 @@ public final class CToList extends IBuildinAction
                                                final List<ITerm> p_annotation
     )
     {
-        // first argument must be a term with a vector object
+        // first argument must be a term with a vector object or a double array, the values are copied
+        final Object l_value = p_argument.get( 0 ).raw();
+        final List<Number> l_list = l_value instanceof double[]
+                                    ? CDoubleList.from( ( (double[]) l_value ).clone() )
+                                    : CDoubleList.from( (DoubleMatrix1D) l_value );
         p_return.add( CRawTerm.from(
             p_parallel
-            ? Collections.synchronizedList(
-                Arrays.stream(
-                    p_argument.get( 0 ).<DoubleMatrix1D>raw().toArray()
-                )
-                      .boxed()
-                      .collect( Collectors.toList() ) )
-            : Arrays.stream( p_argument.get( 0 ).<DoubleMatrix1D>raw().toArray() )
-                    .boxed()
-                    .collect( Collectors.toList() )
+            ? Collections.synchronizedList( l_list )
+            : l_list
         ) );
         return CFuzzyValue.from( true );
     }
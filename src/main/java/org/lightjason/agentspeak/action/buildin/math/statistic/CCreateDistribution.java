@@ -98,12 +98,15 @@ public final class CCreateDistribution extends IBuildinAction
         if ( p_argument.size() < l_requiredarguments )
             throw new CIllegalArgumentException( org.lightjason.agentspeak.common.CCommon.languagestring( this, "distributionarguments" ) );
 
+        // generator is seeded by the agent generator, so deterministic executions are reproducible
+        final RandomGenerator l_generator = ( p_argument.size() > l_requiredarguments
+                                              ? EGenerator.from( p_argument.get( l_requiredarguments + 1 ).<String>raw() )
+                                              : EGenerator.MERSENNETWISTER ).get();
+        l_generator.setSeed( p_context.agent().random().nextLong() );
 
         p_return.add( CRawTerm.from(
             l_distribution.get(
-                ( p_argument.size() > l_requiredarguments
-                  ? EGenerator.from( p_argument.get( l_requiredarguments + 1 ).<String>raw() )
-                  : EGenerator.MERSENNETWISTER ).get(),
+                l_generator,
                 p_argument.subList( 1, l_requiredarguments ).stream().mapToDouble( i -> i.<Number>raw().doubleValue() ).boxed()
                           .collect( Collectors.toList() )
             )
@@ -31,7 +31,6 @@ import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
 import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
 
 import java.util.List;
-import java.util.Random;
 import java.util.stream.IntStream;
 
 
@@ -40,11 +39,6 @@ import java.util.stream.IntStream;
  */
 public final class CRandomSimple extends IBuildinAction
 {
-    /**
-     * random instance
-     */
-    private final Random m_random = new Random();
-
     /**
      * ctor
      */
@@ -69,7 +63,7 @@ public final class CRandomSimple extends IBuildinAction
             p_argument.size() > 0
             ? p_argument.get( 0 ).<Number>raw().intValue()
             : 1
-        ).forEach( i -> p_return.add( CRawTerm.from( m_random.nextDouble() ) ) );
+        ).forEach( i -> p_return.add( CRawTerm.from( p_context.agent().random().nextDouble() ) ) );
 
         return CFuzzyValue.from( true );
     }
@@ -31,7 +31,6 @@ import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
 import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
 
 import java.util.List;
-import java.util.Random;
 import java.util.stream.Stream;
 
 
@@ -41,11 +40,6 @@ import java.util.stream.Stream;
  */
 public abstract class ISelection extends IBuildinAction
 {
-    /**
-     * random instance
-     */
-    private final Random m_random = new Random();
-
     /**
      * ctor
      */
@@ -84,7 +78,7 @@ public abstract class ISelection extends IBuildinAction
             return CFuzzyValue.from( false );
 
         // select a random value and scale with the sum
-        double l_random = m_random.nextDouble() * l_weight.stream().mapToDouble( i -> i ).sum();
+        double l_random = p_context.agent().random().nextDouble() * l_weight.stream().mapToDouble( i -> i ).sum();
         for ( int i = 0; i < l_weight.size(); i++ )
         {
             l_random -= l_weight.get( i );
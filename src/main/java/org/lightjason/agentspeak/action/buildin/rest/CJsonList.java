@@ -49,6 +49,7 @@ public final class CJsonList extends IBaseRest
         try
         {
             final List<?> l_data = IBaseRest.json(
+                                            p_context,
                                             p_argument.get( 0 ).<String>raw(),
                                             List.class
             );
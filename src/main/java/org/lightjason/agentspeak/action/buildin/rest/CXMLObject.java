@@ -46,7 +46,7 @@ public class CXMLObject extends IBaseRest
     {
         try
         {
-            final Map<String, ?> l_data = IBaseRest.xml( p_argument.get( 0 ).<String>raw() );
+            final Map<String, ?> l_data = IBaseRest.xml( p_context, p_argument.get( 0 ).<String>raw() );
             p_return.add(
                 p_argument.size() == 2
                 ? CLiteral.from( p_argument.get( p_argument.size() - 1 ).<String>raw(), flatterm( l_data ) )
@@ -34,6 +34,7 @@ import org.lightjason.agentspeak.language.CLiteral;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -44,6 +45,7 @@ import java.nio.charset.Charset;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -65,27 +67,50 @@ public abstract class IBaseRest extends IBuildinAction
     /**
      * reads a json structure from an url
      *
+     * @param p_context execution context
      * @param p_url url
      * @param p_class convert class type
      * @return data object
      * @throws IOException is thrown on io errors
      */
-    protected static <T> T json( final String p_url, final Class<T> p_class ) throws IOException
+    protected static <T> T json( final IContext p_context, final String p_url, final Class<T> p_class ) throws IOException
     {
-        return new ObjectMapper().readValue( IBaseRest.httpdata( p_url ), p_class );
+        return new ObjectMapper().readValue( IBaseRest.httpdata( p_context, p_url ), p_class );
     }
 
     /**
      * reads a xml structure from an url
      *
+     * @param p_context execution context
      * @param p_url url
      * @return map with xml data
      * @throws IOException is thrown on io errors
      */
     @SuppressWarnings( "unchecked" )
-    protected static Map<String, ?> xml( final String p_url ) throws IOException
+    protected static Map<String, ?> xml( final IContext p_context, final String p_url ) throws IOException
     {
-        return new XmlMapper().readValue( IBaseRest.httpdata( p_url ), Map.class );
+        return new XmlMapper().readValue( IBaseRest.httpdata( p_context, p_url ), Map.class );
+    }
+
+    /**
+     * reads the data of an url, the connection is a blocking
+     * call, so the plan execution is suspended during reading
+     *
+     * @param p_context execution context
+     * @param p_url url
+     * @return url data
+     * @throws IOException is thrown on connection errors
+     */
+    private static String httpdata( final IContext p_context, final String p_url ) throws IOException
+    {
+        try
+        {
+            return p_context.await( p_url, () -> IBaseRest.httpdata( p_url ) );
+        }
+        catch ( final CompletionException l_exception )
+        {
+            throw new IOException( l_exception.getCause() );
+        }
     }
 
     /**
@@ -24,23 +24,27 @@
 package org.lightjason.agentspeak.agent;
 
 import com.google.common.collect.Multimap;
-import org.apache.commons.lang3.tuple.MutableTriple;
+import org.apache.commons.lang3.tuple.Pair;
+import org.lightjason.agentspeak.agent.executor.IExecutor;
 import org.lightjason.agentspeak.agent.fuzzy.IFuzzy;
 import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IVariableBuilder;
 import org.lightjason.agentspeak.language.execution.action.unify.IUnifier;
 import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.instantiable.plan.IConditionMemory;
 import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
 import org.lightjason.agentspeak.language.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.instantiable.rule.IRuleCache;
 import org.lightjason.agentspeak.language.score.IAggregation;
 
 import java.util.Map;
+import java.util.Random;
 import java.util.concurrent.Callable;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 
@@ -161,7 +165,25 @@ public interface IAgent<T extends IAgent<?>> extends Callable<T>
      *
      * @return plan map
      */
-    Multimap<ITrigger, MutableTriple<IPlan, AtomicLong, AtomicLong>> plans();
+    Multimap<ITrigger, IPlan> plans();
+
+    /**
+     * returns the execution statistic of a plan
+     *
+     * @param p_plan plan
+     * @return pair with number of successful and failed runs
+     */
+    Pair<Long, Long> planstatistic( final IPlan p_plan );
+
+    /**
+     * reloads plans and rules, the plans and rules of the configuration
+     * are swapped at the beginning of the next cycle, so the beliefs are
+     * kept and the execution statistic of unchanged plans is kept also
+     *
+     * @param p_configuration configuration with the new plans and rules, other parts of the configuration are not used
+     * @return agent reference
+     */
+    IAgent<T> reload( final IAgentConfiguration<?> p_configuration );
 
     /**
      * return fuzzy operator
@@ -192,6 +214,36 @@ public interface IAgent<T extends IAgent<?>> extends Callable<T>
      */
     Multimap<IPath, IRule> rules();
 
+    /**
+     * returns the rule result cache, the cache
+     * is invalidated by belief changes on each cycle
+     *
+     * @return rule cache
+     */
+    IRuleCache rulecache();
+
+    /**
+     * returns the condition memory of the plans, the
+     * memory is invalidated by belief changes on each cycle
+     *
+     * @return condition memory
+     */
+    IConditionMemory conditionmemory();
+
+    /**
+     * returns the executor of the agent cycles
+     *
+     * @return executor
+     */
+    IExecutor executor();
+
+    /**
+     * returns the random generator of the agent
+     *
+     * @return random generator
+     */
+    Random random();
+
     /**
      * cast the interface agent object
      * to a specified agent object
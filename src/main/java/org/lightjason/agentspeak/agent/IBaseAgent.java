@@ -25,21 +25,22 @@ package org.lightjason.agentspeak.agent;
 
 import com.codepoetics.protonpack.StreamUtils;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
 import com.google.common.collect.Sets;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.ImmutableTriple;
-import org.apache.commons.lang3.tuple.MutableTriple;
 import org.apache.commons.lang3.tuple.Pair;
+import org.lightjason.agentspeak.agent.executor.IExecutor;
 import org.lightjason.agentspeak.agent.fuzzy.IFuzzy;
 import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.configuration.IAgentConfiguration;
 import org.lightjason.agentspeak.error.CIllegalArgumentException;
+import org.lightjason.agentspeak.error.CSuspendException;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CLiteral;
 import org.lightjason.agentspeak.language.ILiteral;
@@ -49,10 +50,12 @@ import org.lightjason.agentspeak.language.execution.IVariableBuilder;
 import org.lightjason.agentspeak.language.execution.action.unify.IUnifier;
 import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
 import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.instantiable.plan.IConditionMemory;
 import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
 import org.lightjason.agentspeak.language.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.instantiable.rule.IRuleCache;
 import org.lightjason.agentspeak.language.score.IAggregation;
 import org.lightjason.agentspeak.language.variable.CConstant;
 import org.lightjason.agentspeak.language.variable.IVariable;
@@ -61,11 +64,19 @@ import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -77,6 +88,10 @@ import java.util.stream.Stream;
  */
 public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
 {
+    /**
+     * stable order of triggers on deterministic execution
+     */
+    private static final Comparator<ITrigger> TRIGGERORDER = Comparator.comparing( Object::toString );
     /**
      * beliefbase
      */
@@ -91,14 +106,6 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
      * execution trigger
      */
     protected final Set<ITrigger> m_trigger = Sets.newConcurrentHashSet();
-    /**
-     * multimap with rules
-     */
-    protected final Multimap<IPath, IRule> m_rules = Multimaps.synchronizedMultimap( LinkedHashMultimap.create() );
-    /**
-     * map with all existing plans and successful / fail runs
-     */
-    protected final Multimap<ITrigger, MutableTriple<IPlan, AtomicLong, AtomicLong>> m_plans = Multimaps.synchronizedMultimap( HashMultimap.create() );
     /**
      * curent agent cycle
      */
@@ -138,6 +145,26 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
      * running plans (thread-safe)
      */
     private final Multimap<IPath, ILiteral> m_runningplans = Multimaps.synchronizedSetMultimap( HashMultimap.create() );
+    /**
+     * suspended plan executions with the suspension (thread-safe)
+     */
+    private final Set<Pair<Pair<IPlan, IContext>, CSuspendException>> m_suspended = Sets.newConcurrentHashSet();
+    /**
+     * executor of the cycles
+     */
+    private final IExecutor m_executor;
+    /**
+     * random generator
+     */
+    private final Random m_random;
+    /**
+     * plans and rules, which are swapped on reloading
+     */
+    private volatile CBehavior m_behavior;
+    /**
+     * configuration with plans and rules, which are used on the next cycle
+     */
+    private final AtomicReference<IAgentConfiguration<?>> m_reload = new AtomicReference<>();
 
 
     /**
@@ -153,12 +180,16 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
         m_aggregation = p_configuration.aggregation();
         m_variablebuilder = p_configuration.variablebuilder();
         m_fuzzy = p_configuration.fuzzy();
+        m_executor = p_configuration.executor();
+        m_random = m_executor.random();
+
+        m_behavior = new CBehavior( p_configuration, null );
 
-        // initial plans and rules
-        p_configuration.plans().parallelStream()
-                       .forEach( i -> m_plans.put( i.getTrigger(), new MutableTriple<>( i, new AtomicLong( 0 ), new AtomicLong( 0 ) ) ) );
-        p_configuration.rules().parallelStream()
-                       .forEach( i -> m_rules.put( i.getIdentifier().fqnfunctor(), i ) );
+        // each belief change invalidates the rule results and plan conditions, which depends on the belief
+        m_beliefbase.observe( i -> {
+            m_behavior.m_rulecache.invalidate( Stream.of( i ) );
+            m_behavior.m_conditionmemory.invalidate( Stream.of( i ) );
+        } );
 
         if ( p_configuration.initialgoal() != null )
             m_trigger.add( p_configuration.initialgoal() );
@@ -180,12 +211,13 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
             i.inspectcycle( m_cycle.get() );
             i.inspectsleeping( m_sleepingcycles.get() );
             i.inspectbelief( m_beliefbase.stream().parallel() );
-            i.inspectplans( m_plans.entries().parallelStream().map( j -> new ImmutableTriple<>( j.getValue().getLeft(), j.getValue().getMiddle().get(),
-                                                                                                j.getValue().getRight().get()
-            ) ) );
+            i.inspectplans( m_behavior.m_configuration.planindex().values().parallelStream().map( j -> {
+                final Pair<Long, Long> l_statistic = this.planstatistic( j );
+                return new ImmutableTriple<>( j, l_statistic.getLeft(), l_statistic.getRight() );
+            } ) );
             i.inspectrunningplans( m_runningplans.values().parallelStream() );
             i.inspectstorage( m_storage.entrySet().parallelStream() );
-            i.inspectrules( m_rules.values().parallelStream() );
+            i.inspectrules( m_behavior.m_configuration.ruleindex().values().parallelStream() );
             return i;
         } );
     }
@@ -202,7 +234,7 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
 
         // run plan immediatly and return
         if ( ( p_immediately != null ) && ( p_immediately.length > 0 ) && ( p_immediately[0] ) )
-            return this.execute( this.executionlist( p_trigger ) );
+            return this.execute( this.executionlist( p_trigger ), Collections.emptyList(), true );
 
         // add trigger for the next cycle
         m_trigger.add( p_trigger );
@@ -283,9 +315,22 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     }
 
     @Override
-    public final Multimap<ITrigger, MutableTriple<IPlan, AtomicLong, AtomicLong>> plans()
+    public final Multimap<ITrigger, IPlan> plans()
     {
-        return m_plans;
+        return m_behavior.m_configuration.planindex();
+    }
+
+    @Override
+    public final Pair<Long, Long> planstatistic( final IPlan p_plan )
+    {
+        return m_behavior.planstatistic( p_plan );
+    }
+
+    @Override
+    public final IAgent<T> reload( final IAgentConfiguration<?> p_configuration )
+    {
+        m_reload.set( p_configuration );
+        return this;
     }
 
     @Override
@@ -309,7 +354,31 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     @Override
     public final Multimap<IPath, IRule> rules()
     {
-        return m_rules;
+        return m_behavior.m_configuration.ruleindex();
+    }
+
+    @Override
+    public final IRuleCache rulecache()
+    {
+        return m_behavior.m_rulecache;
+    }
+
+    @Override
+    public final IConditionMemory conditionmemory()
+    {
+        return m_behavior.m_conditionmemory;
+    }
+
+    @Override
+    public final IExecutor executor()
+    {
+        return m_executor;
+    }
+
+    @Override
+    public final Random random()
+    {
+        return m_random;
     }
 
     @Override
@@ -338,9 +407,24 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     }
 
     @Override
-    @SuppressWarnings( "unchecked" )
     public T call() throws Exception
     {
+        return m_executor.execute( this::runcycle );
+    }
+
+    /**
+     * runs the agent cycle
+     *
+     * @return agent reference
+     */
+    @SuppressWarnings( "unchecked" )
+    private T runcycle()
+    {
+        // reloaded plans and rules are swapped at the cycle boundary
+        final IAgentConfiguration<?> l_reload = m_reload.getAndSet( null );
+        if ( l_reload != null )
+            m_behavior = new CBehavior( l_reload, m_behavior );
+
         // run beliefbase update, because environment can be changed and decrement sleeping value
         m_beliefbase.update( (T) this );
         if ( !this.active( false ) )
@@ -350,16 +434,34 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
         // update defuzzification
         m_fuzzy.getDefuzzyfication().update( (T) this );
 
+        // read belief changes and invalidate all rule and condition results, which depends on the changed beliefs
+        final Collection<ITrigger> l_beliefchanges = m_beliefbase.trigger().collect( Collectors.toList() );
+        final Set<IPath> l_changedbeliefs = l_beliefchanges.stream().map( i -> i.getLiteral().fqnfunctor() ).collect( Collectors.toSet() );
+        m_behavior.m_rulecache.invalidate( l_changedbeliefs.stream() );
+        m_behavior.m_conditionmemory.invalidate( l_changedbeliefs.stream() );
+
         // create a list of all possible execution elements, that is a local cache for well-defined execution
-        final Collection<Pair<MutableTriple<IPlan, AtomicLong, AtomicLong>, IContext>> l_execution = Stream.concat(
-            m_trigger.parallelStream(),
-            m_beliefbase.trigger().parallel()
-        ).flatMap( i -> this.executionlist( i ).parallelStream() ).collect( Collectors.toList() );
+        final Collection<Pair<IPlan, IContext>> l_execution = m_executor.deterministic()
+            ? Stream.concat( m_trigger.stream(), l_beliefchanges.stream() )
+                    .sorted( TRIGGERORDER )
+                    .flatMap( i -> this.executionlist( i ).stream() )
+                    .collect( Collectors.toList() )
+            : Stream.concat( m_trigger.parallelStream(), l_beliefchanges.parallelStream() )
+                    .flatMap( i -> this.executionlist( i ).parallelStream() )
+                    .collect( Collectors.toList() );
+
+        // suspended plan executions, which blocking calls are finished, are resumed,
+        // on deterministic execution all blocking calls are awaited
+        final Collection<Pair<Pair<IPlan, IContext>, CSuspendException>> l_resume = m_suspended.stream()
+            .filter( i -> m_executor.deterministic() ? i.getRight().await().future().isDone() : i.getRight().future().isDone() )
+            .sorted( Comparator.comparingInt( i -> m_behavior.m_configuration.planid( i.getLeft().getLeft() ) ) )
+            .collect( Collectors.toList() );
+        m_suspended.removeAll( l_resume );
 
         // clear running plan- and trigger list and execute elements
         m_runningplans.clear();
         m_trigger.clear();
-        this.execute( l_execution );
+        this.execute( l_execution, l_resume, false );
 
         // increment cycle and set the cycle time
         m_cycle.incrementAndGet();
@@ -373,45 +475,29 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
      * create execution list with plan and context
      *
      * @param p_trigger trigger
-     * @return list with tupel of plan-triple and context for execution
+     * @return list with tupel of plan and context for execution
      */
-    @SuppressWarnings( "unchecked" )
-    private Collection<Pair<MutableTriple<IPlan, AtomicLong, AtomicLong>, IContext>> executionlist( final ITrigger p_trigger )
+    private Collection<Pair<IPlan, IContext>> executionlist( final ITrigger p_trigger )
     {
-        return m_plans.get( p_trigger ).parallelStream()
+        return (
+            m_executor.deterministic()
+            ? m_behavior.m_configuration.planindex().get( p_trigger ).stream()
+            : m_behavior.m_configuration.planindex().get( p_trigger ).parallelStream()
+        )
 
                       // tries to unify trigger literal and filter of valid unification (returns set of unified variables)
-                      .map( i -> new ImmutablePair<>( i, CCommon.unifytrigger( m_unifier, p_trigger, i.getLeft().getTrigger() ) ) )
+                      .map( i -> new ImmutablePair<>( i, CCommon.unifytrigger( m_unifier, p_trigger, i.getTrigger() ) ) )
                       .filter( i -> i.getRight().getLeft() )
 
-                      // initialize context
-                      .map( i -> {
-                          final double l_fails = i.getLeft().getMiddle().get();
-                          final double l_succeed = i.getLeft().getRight().get();
-                          final double l_sum = l_succeed + l_fails;
-
-                          return new ImmutablePair<>( i.getLeft(), i.getLeft().getLeft().instantiate(
-                              this,
-                              (Stream<IVariable<?>>) Stream.of(
-                                  i.getRight().getRight().stream(),
-
-                                  // execution count
-                                  Stream.of( new CConstant<>( "PlanSuccessful", i.getLeft().getMiddle() ) ),
-                                  Stream.of( new CConstant<>( "PlanFail", i.getLeft().getRight() ) ),
-                                  Stream.of( new CConstant<>( "PlanRuns", l_sum ) ),
-
-                                  // execution ratio
-                                  Stream.of( new CConstant<>( "PlanSuccessfulRatio", l_sum == 0 ? 0 : l_succeed / l_sum ) ),
-                                  Stream.of( new CConstant<>( "PlanFailRatio", l_sum == 0 ? 0 : l_fails / l_sum ) )
-
-                              )
-                                                           .reduce( Stream::concat )
-                                                           .orElseGet( Stream::<IVariable<?>>empty )
-                          ) );
-                      } )
+                      // initialize context, statistic variables are created only if the plan uses them
+                      .map( i -> new ImmutablePair<>( i.getLeft(), i.getLeft().instantiate(
+                          this,
+                          i.getRight().getRight().stream(),
+                          this.statisticvariables( i.getLeft() )
+                      ) ) )
 
                       // check plan condition
-                      .filter( i -> m_fuzzy.getDefuzzyfication().defuzzify( i.getLeft().getLeft().condition( i.getRight() ) ) )
+                      .filter( i -> m_fuzzy.getDefuzzyfication().defuzzify( m_behavior.m_conditionmemory.condition( i.getLeft(), p_trigger, i.getRight() ) ) )
 
                       // create execution collection
                       .collect( Collectors.toList() );
@@ -421,29 +507,92 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
      * execute list of plans
      *
      * @param p_execution execution list
+     * @param p_resume list of resumed executions
+     * @param p_blocking waits on suspended executions
      * @return fuzzy result
      */
-    private IFuzzyValue<Boolean> execute( final Collection<Pair<MutableTriple<IPlan, AtomicLong, AtomicLong>, IContext>> p_execution )
+    private IFuzzyValue<Boolean> execute( final Collection<Pair<IPlan, IContext>> p_execution,
+                                          final Collection<Pair<Pair<IPlan, IContext>, CSuspendException>> p_resume, final boolean p_blocking
+    )
     {
-        // update executable plan list, so that test-goals are defined all the time
-        p_execution.parallelStream().forEach( i -> m_runningplans.put(
-            i.getLeft().getLeft().getTrigger().getLiteral().fqnfunctor(),
-            i.getLeft().getLeft().getTrigger().getLiteral().unify( i.getRight() )
-        ) );
+        // update executable plan list, so that test-goals are defined all the time, suspended plans are running also
+        Stream.of(
+            p_execution.parallelStream(),
+            p_resume.parallelStream().map( Pair::getLeft ),
+            m_suspended.parallelStream().map( Pair::getLeft )
+        )
+              .reduce( Stream::concat )
+              .orElseGet( Stream::empty )
+              .forEach( i -> m_runningplans.put(
+                  i.getLeft().getTrigger().getLiteral().fqnfunctor(),
+                  i.getLeft().getTrigger().getLiteral().unify( i.getRight() )
+              ) );
 
         // execute plan and return values and return execution result
-        return p_execution.parallelStream().map( i -> {
+        // on deterministic execution the plans are run sequential in the order of the execution list
+        return Stream.concat(
+            ( m_executor.deterministic() ? p_execution.stream() : p_execution.parallelStream() ).map( i -> this.execute( i, 0, p_blocking ) ),
+            ( m_executor.deterministic() ? p_resume.stream() : p_resume.parallelStream() ).map( i -> this.execute( i.getLeft(), i.getRight().offset(), p_blocking ) )
+        ).collect( m_fuzzy.getResultOperator() );
+    }
 
-            final IFuzzyValue<Boolean> l_result = i.getLeft().getLeft().execute( i.getRight(), false, null, null, null );
-            if ( m_fuzzy.getDefuzzyfication().defuzzify( l_result ) )
-                // increment successful runs
-                i.getLeft().getMiddle().getAndIncrement();
-            else
-                // increment failed runs and create delete goal-event
-                i.getLeft().getRight().getAndIncrement();
+    /**
+     * execute a single plan, on a suspension the plan execution is stored
+     * for resuming, on a blocking execution the plan is resumed in place,
+     * so that the result is the result of the finished plan
+     *
+     * @param p_execution plan and context
+     * @param p_offset index of the first executed body element
+     * @param p_blocking waits on a suspension
+     * @return fuzzy result
+     */
+    private IFuzzyValue<Boolean> execute( final Pair<IPlan, IContext> p_execution, final int p_offset, final boolean p_blocking )
+    {
+        final IFuzzyValue<Boolean> l_result;
+        try
+        {
+            l_result = p_execution.getLeft().resume( p_execution.getRight(), p_offset );
+        }
+        catch ( final CSuspendException l_exception )
+        {
+            if ( p_blocking )
+                return this.execute( p_execution, l_exception.await().offset(), true );
+
+            // plan is running until the blocking call is finished
+            m_suspended.add( new ImmutablePair<>( p_execution, l_exception ) );
+            return CFuzzyValue.from( true );
+        }
+
+        // increment successful or failed runs
+        m_behavior.increment( p_execution.getLeft(), m_fuzzy.getDefuzzyfication().defuzzify( l_result ) );
 
-            return l_result;
-        } ).collect( m_fuzzy.getResultOperator() );
+        return l_result;
+    }
+
+    /**
+     * creates the statistic variables of a plan, the variables
+     * are created only if the plan execution accesses them
+     *
+     * @param p_plan plan
+     * @return map with variable name and variable supplier
+     */
+    private Map<IPath, Supplier<IVariable<?>>> statisticvariables( final IPlan p_plan )
+    {
+        final Pair<Long, Long> l_statistic = this.planstatistic( p_plan );
+        final double l_succeed = l_statistic.getLeft();
+        final double l_fails = l_statistic.getRight();
+        final double l_sum = l_succeed + l_fails;
+
+        return ImmutableMap.of(
+            // execution count
+            CCommon.PLANSUCCESSFUL, () -> new CConstant<>( CCommon.PLANSUCCESSFUL, l_statistic.getLeft() ),
+            CCommon.PLANFAIL, () -> new CConstant<>( CCommon.PLANFAIL, l_statistic.getRight() ),
+            CCommon.PLANRUNS, () -> new CConstant<>( CCommon.PLANRUNS, l_sum ),
+
+            // execution ratio
+            CCommon.PLANSUCCESSFULRATIO, () -> new CConstant<>( CCommon.PLANSUCCESSFULRATIO, l_sum == 0 ? 0 : l_succeed / l_sum ),
+            CCommon.PLANFAILRATIO, () -> new CConstant<>( CCommon.PLANFAILRATIO, l_sum == 0 ? 0 : l_fails / l_sum )
+        );
     }
 
     /**
@@ -485,4 +634,99 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
         return m_sleepingcycles.get() <= 0;
     }
 
+    /**
+     * plans and rules of the agent with the execution statistic of the plans and
+     * the result storages, the plan and rule indexes are shared by all agents
+     * of the configuration
+     */
+    private static final class CBehavior
+    {
+        /**
+         * configuration with plans and rules
+         */
+        private final IAgentConfiguration<?> m_configuration;
+        /**
+         * number of successful and failed runs of each plan, the
+         * successful runs of a plan are stored at the position two times
+         * the plan index, the failed runs at the following position
+         */
+        private final AtomicLongArray m_planstatistic;
+        /**
+         * rule result cache
+         */
+        private final IRuleCache m_rulecache;
+        /**
+         * plan condition memory
+         */
+        private final IConditionMemory m_conditionmemory;
+
+        /**
+         * ctor
+         *
+         * @param p_configuration configuration with plans and rules
+         * @param p_previous previous plans and rules, the statistic of unchanged plans is copied (can be null)
+         */
+        CBehavior( final IAgentConfiguration<?> p_configuration, final CBehavior p_previous )
+        {
+            m_configuration = p_configuration;
+            m_rulecache = p_configuration.rulecache();
+            m_conditionmemory = p_configuration.conditionmemory();
+            m_planstatistic = new AtomicLongArray( 2 * p_configuration.plans().size() );
+
+            if ( p_previous != null )
+                this.copy( p_previous );
+        }
+
+        /**
+         * copies the statistic of the unchanged plans, the plans of a reloaded source are
+         * new instances, so the plans are matched by their structure in the plan order
+         *
+         * @param p_previous previous plans and rules
+         */
+        private void copy( final CBehavior p_previous )
+        {
+            final Map<IPlan, Queue<Integer>> l_previous = new HashMap<>();
+            p_previous.m_configuration.plans().forEach( i -> l_previous.computeIfAbsent( i, j -> new LinkedList<>() ).add( p_previous.m_configuration.planid( i ) ) );
+
+            m_configuration.plans().forEach( i -> {
+                final Queue<Integer> l_ids = l_previous.get( i );
+                final Integer l_source = l_ids == null ? null : l_ids.poll();
+                final int l_target = m_configuration.planid( i );
+                if ( ( l_source == null ) || ( l_source < 0 ) || ( l_target < 0 ) )
+                    return;
+
+                m_planstatistic.set( 2 * l_target, p_previous.m_planstatistic.get( 2 * l_source ) );
+                m_planstatistic.set( 2 * l_target + 1, p_previous.m_planstatistic.get( 2 * l_source + 1 ) );
+            } );
+        }
+
+        /**
+         * returns the execution statistic of a plan
+         *
+         * @param p_plan plan
+         * @return pair with number of successful and failed runs
+         */
+        Pair<Long, Long> planstatistic( final IPlan p_plan )
+        {
+            final int l_id = m_configuration.planid( p_plan );
+            return l_id < 0
+                   ? new ImmutablePair<>( 0L, 0L )
+                   : new ImmutablePair<>( m_planstatistic.get( 2 * l_id ), m_planstatistic.get( 2 * l_id + 1 ) );
+        }
+
+        /**
+         * increments the successful or failed runs of a plan,
+         * plans which are removed by a reload are ignored
+         *
+         * @param p_plan plan
+         * @param p_successful successful flag
+         */
+        void increment( final IPlan p_plan, final boolean p_successful )
+        {
+            final int l_id = m_configuration.planid( p_plan );
+            if ( l_id >= 0 )
+                m_planstatistic.getAndIncrement( p_successful ? 2 * l_id : 2 * l_id + 1 );
+        }
+    }
+
 }
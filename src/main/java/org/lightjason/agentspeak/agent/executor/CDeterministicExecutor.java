@@ -0,0 +1,102 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.executor;
+
+import java.text.MessageFormat;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * deterministic executor, the agent cycle is run in the calling
+ * thread with a stable order of triggers, plans and unification
+ * candidates and each agent gets a seeded random generator, so
+ * that runs are reproducible
+ *
+ * @note parallelism is defined by the caller, agents can be run
+ * in parallel, but the cycles of a single agent must be called
+ * sequentially and agents must be generated in a stable order
+ */
+public final class CDeterministicExecutor implements IExecutor
+{
+    /**
+     * seed of the random generators
+     */
+    private final long m_seed;
+    /**
+     * number of created random generators
+     */
+    private final AtomicLong m_generators = new AtomicLong();
+
+
+    /**
+     * ctor
+     *
+     * @param p_seed seed of the random generators
+     */
+    public CDeterministicExecutor( final long p_seed )
+    {
+        m_seed = p_seed;
+    }
+
+    @Override
+    public final <T> T execute( final Callable<T> p_call ) throws Exception
+    {
+        return p_call.call();
+    }
+
+    @Override
+    public final Executor blocking()
+    {
+        return CExecutor.BLOCKING;
+    }
+
+    @Override
+    public final ForkJoinPool pool()
+    {
+        return ForkJoinPool.commonPool();
+    }
+
+    @Override
+    public final boolean deterministic()
+    {
+        return true;
+    }
+
+    @Override
+    public final Random random()
+    {
+        return new Random( m_seed + m_generators.getAndIncrement() );
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format( "{0} ( seed: {1} / generators: {2} )", super.toString(), m_seed, m_generators.get() );
+    }
+
+}
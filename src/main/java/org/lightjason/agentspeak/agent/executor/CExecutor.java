@@ -0,0 +1,236 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.executor;
+
+import java.text.MessageFormat;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * executor with an own work-stealing pool, so that
+ * agents of different simulations are isolated
+ *
+ * @note a parallel stream uses the pool of the
+ * thread, which runs the terminal operation
+ */
+public final class CExecutor implements IExecutor
+{
+    /**
+     * maximum number of threads of blocking calls
+     */
+    static final int BLOCKINGTHREADS = Math.max( 4, 2 * Runtime.getRuntime().availableProcessors() );
+    /**
+     * default executor for blocking calls
+     */
+    static final ExecutorService BLOCKING = CExecutor.bounded( "agentspeak-blocking", BLOCKINGTHREADS );
+    /**
+     * instance counter
+     */
+    private static final AtomicLong INSTANCES = new AtomicLong();
+    /**
+     * work-stealing pool
+     */
+    private final ForkJoinPool m_pool;
+    /**
+     * executor for blocking calls
+     */
+    private final ExecutorService m_blocking;
+    /**
+     * number of executed tasks
+     */
+    private final LongAdder m_tasks = new LongAdder();
+    /**
+     * execution time of the tasks
+     */
+    private final LongAdder m_time = new LongAdder();
+
+
+    /**
+     * ctor
+     */
+    public CExecutor()
+    {
+        this( Runtime.getRuntime().availableProcessors() );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_parallelism number of threads
+     */
+    public CExecutor( final int p_parallelism )
+    {
+        final String l_name = MessageFormat.format( "agentspeak-executor-{0}", INSTANCES.incrementAndGet() );
+        final AtomicLong l_worker = new AtomicLong();
+
+        m_blocking = CExecutor.bounded( l_name + "-blocking", BLOCKINGTHREADS );
+        m_pool = new ForkJoinPool(
+            p_parallelism,
+            i -> {
+                final ForkJoinWorkerThread l_thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( i );
+                l_thread.setName( MessageFormat.format( "{0}-worker-{1}", l_name, l_worker.incrementAndGet() ) );
+                l_thread.setDaemon( true );
+                return l_thread;
+            },
+            null,
+            false
+        );
+    }
+
+    @Override
+    public final <T> T execute( final Callable<T> p_call ) throws Exception
+    {
+        // nested calls are run directly, otherwise the pool blocks itself
+        if ( ( Thread.currentThread() instanceof ForkJoinWorkerThread ) && ( ( (ForkJoinWorkerThread) Thread.currentThread() ).getPool() == m_pool ) )
+            return p_call.call();
+
+        final long l_start = System.nanoTime();
+        try
+        {
+            return m_pool.submit( p_call ).get();
+        }
+        catch ( final ExecutionException l_exception )
+        {
+            if ( l_exception.getCause() instanceof Exception )
+                throw (Exception) l_exception.getCause();
+            if ( l_exception.getCause() instanceof Error )
+                throw (Error) l_exception.getCause();
+            throw l_exception;
+        }
+        finally
+        {
+            m_tasks.increment();
+            m_time.add( System.nanoTime() - l_start );
+        }
+    }
+
+    @Override
+    public final Executor blocking()
+    {
+        return m_blocking;
+    }
+
+    @Override
+    public final ForkJoinPool pool()
+    {
+        return m_pool;
+    }
+
+    @Override
+    public final boolean deterministic()
+    {
+        return false;
+    }
+
+    @Override
+    public final Random random()
+    {
+        return new Random();
+    }
+
+    /**
+     * returns the number of tasks, which
+     * are executed with the executor
+     *
+     * @return number of tasks
+     */
+    public final long executedtasks()
+    {
+        return m_tasks.sum();
+    }
+
+    /**
+     * returns the execution time of all tasks
+     *
+     * @return time in nano seconds
+     */
+    public final long executiontime()
+    {
+        return m_time.sum();
+    }
+
+    /**
+     * shutdown the executor
+     */
+    public final void shutdown()
+    {
+        m_pool.shutdown();
+        m_blocking.shutdown();
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format(
+            "{0} ( parallelism: {1} / active: {2} / queued: {3} / steals: {4} / tasks: {5} )",
+            super.toString(), m_pool.getParallelism(), m_pool.getActiveThreadCount(),
+            m_pool.getQueuedTaskCount() + m_pool.getQueuedSubmissionCount(), m_pool.getStealCount(), m_tasks.sum()
+        );
+    }
+
+    /**
+     * creates an executor with a bounded number of daemon threads,
+     * further tasks are queued and idle threads are released
+     *
+     * @param p_name thread name
+     * @param p_threads maximum number of threads
+     * @return executor
+     */
+    private static ExecutorService bounded( final String p_name, final int p_threads )
+    {
+        final ThreadPoolExecutor l_executor = new ThreadPoolExecutor(
+            p_threads, p_threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), CExecutor.daemon( p_name )
+        );
+        l_executor.allowCoreThreadTimeOut( true );
+        return l_executor;
+    }
+
+    /**
+     * creates a thread factory of daemon threads
+     *
+     * @param p_name thread name
+     * @return thread factory
+     */
+    private static ThreadFactory daemon( final String p_name )
+    {
+        return i -> {
+            final Thread l_thread = new Thread( i, p_name );
+            l_thread.setDaemon( true );
+            return l_thread;
+        };
+    }
+
+}
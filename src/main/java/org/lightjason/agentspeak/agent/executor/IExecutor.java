@@ -0,0 +1,117 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.executor;
+
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * executor of the agent cycles, all parallel
+ * streams of a cycle are run within the executor
+ */
+public interface IExecutor
+{
+    /**
+     * empty executor, the cycle is run in the calling
+     * thread, so parallel streams use the common pool
+     */
+    IExecutor EMPTY = new IExecutor()
+    {
+        @Override
+        public final <T> T execute( final Callable<T> p_call ) throws Exception
+        {
+            return p_call.call();
+        }
+
+        @Override
+        public final Executor blocking()
+        {
+            return CExecutor.BLOCKING;
+        }
+
+        @Override
+        public final ForkJoinPool pool()
+        {
+            return ForkJoinPool.commonPool();
+        }
+
+        @Override
+        public final boolean deterministic()
+        {
+            return false;
+        }
+
+        @Override
+        public final Random random()
+        {
+            return new Random();
+        }
+    };
+
+    /**
+     * runs a task within the executor and
+     * blocks until the task is finished
+     *
+     * @param p_call task
+     * @return result of the task
+     * @throws Exception is thrown on task error
+     * @tparam T result type
+     */
+    <T> T execute( final Callable<T> p_call ) throws Exception;
+
+    /**
+     * returns the executor for blocking calls
+     *
+     * @return executor
+     */
+    Executor blocking();
+
+    /**
+     * returns the work-stealing pool, which
+     * defines the metrics of the pool utilisation
+     *
+     * @return pool
+     */
+    ForkJoinPool pool();
+
+    /**
+     * returns the execution mode, on a deterministic
+     * execution the plans, triggers and unification candidates
+     * are run sequential in a stable order
+     *
+     * @return deterministic flag
+     */
+    boolean deterministic();
+
+    /**
+     * creates the random generator of a new agent
+     *
+     * @return random generator
+     */
+    Random random();
+
+}
@@ -97,6 +97,10 @@ public final class CUnifier implements IUnifier
                                                 final IExpression p_expression
     )
     {
+        // on deterministic execution the candidates are checked in order
+        if ( p_context.agent().executor().deterministic() )
+            return this.sequential( p_context, p_literal, p_variablenumber, p_expression );
+
         // get all possible variables
         final List<Set<IVariable<?>>> l_variables = this.unify( p_context.agent(), p_literal, p_variablenumber );
         if ( l_variables.isEmpty() )
@@ -29,7 +29,6 @@ import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.common.CCommon;
 import org.lightjason.agentspeak.error.CIllegalArgumentException;
 import org.lightjason.agentspeak.language.ILiteral;
-import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
 
 import java.util.Collection;
@@ -146,11 +145,7 @@ public final class CBeliefbasePersistent<T extends IAgent<?>> extends IBaseBelie
         m_storage
             .streamMultiElements()
             .parallel()
-            .forEach(
-                i -> m_events
-                    .keySet()
-                    .forEach( j -> m_events.put( j, CTrigger.from( ITrigger.EType.DELETEBELIEF, i ) ) )
-            );
+            .forEach( i -> this.event( ITrigger.EType.DELETEBELIEF, i ) );
 
         m_storage.streamSingleElements().parallel().forEach( i -> i.clear() );
         m_storage.clear();
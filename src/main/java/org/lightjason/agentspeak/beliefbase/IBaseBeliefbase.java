@@ -111,14 +111,19 @@ public abstract class IBaseBeliefbase<T extends IAgent<?>> implements IBeliefbas
     }
 
     /**
-     * push an event and literal to the event map
+     * push an event and literal to the event map and
+     * notifies the views about the change
      *
      * @param p_event event
      * @param p_literal literal
+     * @return literal
      */
     protected ILiteral event( final ITrigger.EType p_event, final ILiteral p_literal )
     {
-        m_events.keySet().forEach( i -> m_events.put( i, CTrigger.from( p_event, p_literal ) ) );
+        m_events.keySet().forEach( i -> {
+            m_events.put( i, CTrigger.from( p_event, p_literal ) );
+            i.changed( p_literal.fqnfunctor() );
+        } );
         return p_literal;
     }
 
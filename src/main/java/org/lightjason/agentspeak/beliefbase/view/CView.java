@@ -35,6 +35,8 @@ import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
 import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -57,6 +59,10 @@ public final class CView<T extends IAgent<?>> implements IView<T>
      * parent name
      */
     private final IView<T> m_parent;
+    /**
+     * observer of literal changes
+     */
+    private volatile Consumer<IPath> m_observer;
 
 
 
@@ -110,6 +116,26 @@ public final class CView<T extends IAgent<?>> implements IView<T>
         return m_beliefbase.update( p_agent );
     }
 
+    @Override
+    public final IView<T> observe( final Consumer<IPath> p_observer )
+    {
+        m_observer = p_observer;
+        return this;
+    }
+
+    @Override
+    public final IView<T> changed( final IPath p_functor )
+    {
+        // the root element is not used on the agent (asl) side, so the name is not added
+        if ( m_parent != null )
+            return m_parent.changed( new CPath( m_name ).append( p_functor ) );
+
+        final Consumer<IPath> l_observer = m_observer;
+        if ( l_observer != null )
+            l_observer.accept( p_functor );
+        return this;
+    }
+
     // ---------------------------------------------------------------------------------------------------------------------------------------------------------
 
 
@@ -265,6 +291,25 @@ public final class CView<T extends IAgent<?>> implements IView<T>
                                        .map( j -> j.shallowcopy( l_path ) ) );
     }
 
+    @Override
+    public final IntStream hashes( final IPath... p_path )
+    {
+        // the hash of a path is the sum of the element hashes, so the hash of a literal copy
+        // with a prefix path is the hash of the literal plus the hash of the prefix
+        final int l_prefix = this.path().getSubPath( 1 ).hashCode();
+        return ( p_path == null ) || ( p_path.length == 0 )
+
+               ? IntStream.concat(
+                   m_beliefbase.streamLiteral().mapToInt( i -> i.hashCode() + l_prefix ),
+                   m_beliefbase.streamView().flatMapToInt( i -> i.hashes().map( j -> j + l_prefix ) )
+               )
+
+               : Arrays.stream( p_path )
+                       .flatMapToInt( i -> this.leafview( this.walk( i.getSubPath( 0, -1 ) ) ).beliefbase().literal( i.getSuffix() )
+                                               .stream()
+                                               .mapToInt( j -> j.hashCode() + l_prefix ) );
+    }
+
     @Override
     @SafeVarargs
     public final Stream<IView<T>> walk( final IPath p_path, final IViewGenerator<T>... p_generator )
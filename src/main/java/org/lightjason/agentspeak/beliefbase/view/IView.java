@@ -30,6 +30,8 @@ import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
 
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -112,6 +114,25 @@ public interface IView<T extends IAgent<?>> extends IStructure<T>
      */
     Stream<ITrigger> trigger();
 
+    /**
+     * sets the observer of the literal changes, the observer
+     * gets the functor path of each added or removed literal
+     * of this view and all sub views
+     *
+     * @param p_observer observer
+     * @return self reference
+     */
+    IView<T> observe( final Consumer<IPath> p_observer );
+
+    /**
+     * notifies the view about an added or removed literal, the
+     * change is forwarded to the observer of the root view
+     *
+     * @param p_functor functor path relative to the view
+     * @return self reference
+     */
+    IView<T> changed( final IPath p_functor );
+
 
 
     /**
@@ -131,6 +152,16 @@ public interface IView<T extends IAgent<?>> extends IStructure<T>
      */
     Stream<ILiteral> stream( final boolean p_negated, final IPath... p_path );
 
+    /**
+     * returns the hashes of the literals, which are equal to the hashes
+     * of the literal stream, but the hashes are read from the stored literals
+     * without creating literal copies
+     *
+     * @param p_path paths of the literals
+     * @return hash stream
+     */
+    IntStream hashes( final IPath... p_path );
+
 
 
     /**
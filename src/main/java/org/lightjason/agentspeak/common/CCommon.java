@@ -23,7 +23,13 @@
 
 package org.lightjason.agentspeak.common;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.reflect.ClassPath;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.lightjason.agentspeak.action.IAction;
@@ -45,13 +51,22 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.text.MessageFormat;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.Objects;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
@@ -84,6 +99,30 @@ public final class CCommon
                                                         Locale.getDefault(),
                                                         new CUTF8Control()
     );
+    /**
+     * scanned class path of each class loader
+     */
+    private static final Cache<ClassLoader, ClassPath> CLASSPATH = CacheBuilder.newBuilder().weakKeys().softValues().build();
+    /**
+     * action classes of each class loader and package, the class loader is held weakly
+     */
+    private static final Cache<ClassLoader, Cache<String, List<Class<?>>>> PACKAGEACTIONS = CacheBuilder.newBuilder().weakKeys().softValues().build();
+    /**
+     * method actions of each agent class, method actions are stateless, so the instances are shared
+     */
+    private static final Cache<Class<?>, List<IAction>> CLASSACTIONS = CacheBuilder.newBuilder().weakKeys().softValues().build();
+    /**
+     * maximum number of cached name-action maps
+     */
+    private static final int ACTIONMAPCAPACITY = 64;
+    /**
+     * name-action maps of each set of action instances, so all parsers of
+     * a generator resolve the actions with the same map, the key is an immutable
+     * copy, which compares the action instances, because actions are equal by name
+     */
+    private static final LoadingCache<Set<IAction>, Map<IPath, IAction>> ACTIONMAP = CacheBuilder.newBuilder().maximumSize( ACTIONMAPCAPACITY ).softValues().build(
+        CacheLoader.from( i -> ImmutableMap.copyOf( i.stream().collect( Collectors.toMap( IAction::name, j -> j ) ) ) )
+    );
 
 
     /**
@@ -141,53 +180,112 @@ public final class CCommon
      *
      * @param p_package full-qualified package name or empty for default package
      * @return action stream
+     * @note the class path is scanned once for each class loader and package, further
+     * calls instantiate the actions from the cached class list
      */
     @SuppressWarnings( "unchecked" )
     public static Stream<IAction> actionsFromPackage( final String... p_package )
     {
+        final ClassLoader l_loader = Thread.currentThread().getContextClassLoader();
         return ( ( p_package == null ) || ( p_package.length == 0 )
                  ? Stream.of( MessageFormat.format( "{0}.{1}", PACKAGEROOT, "action.buildin" ) )
                  : Arrays.stream( p_package ) )
-            .flatMap( j -> {
+            .flatMap( j -> CCommon.cached(
+                CCommon.cached( PACKAGEACTIONS, l_loader, () -> CacheBuilder.newBuilder().softValues().build() ),
+                j,
+                () -> CCommon.actionclasses( l_loader, j )
+            ).parallelStream() )
+            .map( i -> {
                 try
                 {
-                    return ClassPath.from( Thread.currentThread().getContextClassLoader() )
-                                    .getTopLevelClassesRecursive( j )
-                                    .parallelStream()
-                                    .map( ClassPath.ClassInfo::load )
-                                    .filter( i -> !Modifier.isAbstract( i.getModifiers() ) )
-                                    .filter( i -> !Modifier.isInterface( i.getModifiers() ) )
-                                    .filter( i -> Modifier.isPublic( i.getModifiers() ) )
-                                    .filter( IAction.class::isAssignableFrom )
-                                    .map( i -> {
-                                        try
-                                        {
-                                            return (IAction) i.newInstance();
-                                        }
-                                        catch ( final IllegalAccessException | InstantiationException l_exception )
-                                        {
-                                            LOGGER.warning( CCommon.languagestring( CCommon.class, "actioninstantiate", i, l_exception ) );
-                                            return null;
-                                        }
-                                    } )
-
-                                    // action can be instantiate
-                                    .filter( Objects::nonNull )
-
-                                    // check usable action name
-                                    .filter( CCommon::actionusable );
+                    return (IAction) i.newInstance();
                 }
-                catch ( final IOException l_exception )
+                catch ( final IllegalAccessException | InstantiationException l_exception )
                 {
-                    throw new UncheckedIOException( l_exception );
+                    LOGGER.warning( CCommon.languagestring( CCommon.class, "actioninstantiate", i, l_exception ) );
+                    return null;
                 }
-            } );
+            } )
+
+            // action can be instantiate
+            .filter( Objects::nonNull )
+
+            // check usable action name
+            .filter( CCommon::actionusable );
+    }
+
+    /**
+     * returns a map of the actions with the action name as key,
+     * the map is created once for each set of action instances
+     *
+     * @param p_actions action collection
+     * @return unmodifiable map with name and action
+     * @note the collection is copied, so a later change of the collection creates a new map
+     */
+    public static Map<IPath, IAction> actionmap( final Collection<IAction> p_actions )
+    {
+        if ( p_actions.isEmpty() )
+            return Collections.emptyMap();
+
+        final Set<IAction> l_key = Collections.newSetFromMap( new IdentityHashMap<>( p_actions.size() ) );
+        l_key.addAll( p_actions );
+        return ACTIONMAP.getUnchecked( Collections.unmodifiableSet( l_key ) );
+    }
+
+    /**
+     * scans a package for public concrete action classes
+     *
+     * @param p_loader class loader
+     * @param p_package full-qualified package name
+     * @return list of action classes
+     */
+    private static List<Class<?>> actionclasses( final ClassLoader p_loader, final String p_package )
+    {
+        return Collections.unmodifiableList(
+            CCommon.cached( CLASSPATH, p_loader, () -> ClassPath.from( p_loader ) )
+                   .getTopLevelClassesRecursive( p_package )
+                   .parallelStream()
+                   .map( ClassPath.ClassInfo::load )
+                   .filter( i -> !Modifier.isAbstract( i.getModifiers() ) )
+                   .filter( i -> !Modifier.isInterface( i.getModifiers() ) )
+                   .filter( i -> Modifier.isPublic( i.getModifiers() ) )
+                   .filter( IAction.class::isAssignableFrom )
+                   .collect( Collectors.toList() )
+        );
+    }
+
+    /**
+     * reads a cache value and unpacks loading errors
+     *
+     * @param p_cache cache
+     * @param p_key key
+     * @param p_loader value loader
+     * @return cached value
+     *
+     * @tparam K key type
+     * @tparam V value type
+     */
+    private static <K, V> V cached( final Cache<K, V> p_cache, final K p_key, final Callable<? extends V> p_loader )
+    {
+        try
+        {
+            return p_cache.get( p_key, p_loader );
+        }
+        catch ( final ExecutionException | UncheckedExecutionException l_exception )
+        {
+            if ( l_exception.getCause() instanceof IOException )
+                throw new UncheckedIOException( (IOException) l_exception.getCause() );
+            if ( l_exception.getCause() instanceof RuntimeException )
+                throw (RuntimeException) l_exception.getCause();
+            throw new UncheckedExecutionException( l_exception.getCause() );
+        }
     }
 
 
     /**
      * returns actions by a class
-     * @note class must be an inheritance of the IAgent interface
+     * @note class must be an inheritance of the IAgent interface,
+     * the actions of each class are created once and shared
      *
      * @param p_class class list
      * @return action stream
@@ -198,26 +296,39 @@ public final class CCommon
         return p_class == null || p_class.length == 0
                ? Stream.of()
                : Arrays.stream( p_class )
-                       .parallel()
                        .filter( IAgent.class::isAssignableFrom )
-                       .flatMap( i -> CCommon.methods( i, i ) )
-                       .map( i -> {
-                           try
-                           {
-                               return (IAction) new CMethodAction( i );
-                           }
-                           catch ( final IllegalAccessException l_exception )
-                           {
-                               LOGGER.warning( CCommon.languagestring( CCommon.class, "actioninstantiate", i, l_exception ) );
-                               return null;
-                           }
-                       } )
-
-                       // action can be instantiate
-                       .filter( Objects::nonNull )
-
-                       // check usable action name
-                       .filter( CCommon::actionusable );
+                       .flatMap( i -> CCommon.cached( CLASSACTIONS, i, () -> CCommon.methodactions( i ) ).stream() );
+    }
+
+    /**
+     * creates the method actions of an agent class
+     *
+     * @param p_class agent class
+     * @return list of actions
+     */
+    private static List<IAction> methodactions( final Class<?> p_class )
+    {
+        return Collections.unmodifiableList(
+            CCommon.methods( p_class, p_class )
+                   .map( i -> {
+                       try
+                       {
+                           return (IAction) new CMethodAction( i );
+                       }
+                       catch ( final IllegalAccessException l_exception )
+                       {
+                           LOGGER.warning( CCommon.languagestring( CCommon.class, "actioninstantiate", i, l_exception ) );
+                           return null;
+                       }
+                   } )
+
+                   // action can be instantiate
+                   .filter( Objects::nonNull )
+
+                   // check usable action name
+                   .filter( CCommon::actionusable )
+                   .collect( Collectors.toList() )
+        );
     }
 
     /**
@@ -23,8 +23,11 @@
 
 package org.lightjason.agentspeak.configuration;
 
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.Multimap;
 import org.apache.commons.lang3.StringUtils;
 import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.executor.IExecutor;
 import org.lightjason.agentspeak.agent.fuzzy.CBoolFuzzy;
 import org.lightjason.agentspeak.agent.fuzzy.IFuzzy;
 import org.lightjason.agentspeak.agent.unify.CUnifier;
@@ -32,18 +35,27 @@ import org.lightjason.agentspeak.beliefbase.CBeliefbasePersistent;
 import org.lightjason.agentspeak.beliefbase.storage.CMultiStorage;
 import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.execution.IVariableBuilder;
 import org.lightjason.agentspeak.language.execution.action.unify.IUnifier;
+import org.lightjason.agentspeak.language.instantiable.plan.CConditionMemory;
+import org.lightjason.agentspeak.language.instantiable.plan.IConditionMemory;
 import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.instantiable.rule.CRuleCache;
+import org.lightjason.agentspeak.language.instantiable.rule.CRuleGraph;
 import org.lightjason.agentspeak.language.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.instantiable.rule.IRuleCache;
+import org.lightjason.agentspeak.language.instantiable.rule.IRuleGraph;
 import org.lightjason.agentspeak.language.score.IAggregation;
 
 import java.text.MessageFormat;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -94,6 +106,31 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
      * rules
      */
     protected final Set<IRule> m_rules;
+    /**
+     * rule dependency graph
+     */
+    protected final IRuleGraph m_rulegraph;
+    /**
+     * executor of the agent cycles
+     */
+    protected final IExecutor m_executor;
+    /**
+     * plans indexed by the trigger, shared by all agents
+     */
+    protected final Multimap<ITrigger, IPlan> m_planindex;
+    /**
+     * rules indexed by the functor, shared by all agents
+     */
+    protected final Multimap<IPath, IRule> m_ruleindex;
+    /**
+     * index of each plan instance
+     */
+    protected final Map<IPlan, Integer> m_planid;
+    /**
+     * condition memory with the plan dependencies, which is
+     * copied for each agent, null if conditions cannot be stored
+     */
+    protected final CConditionMemory m_conditionmemory;
 
 
     /**
@@ -146,6 +183,29 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
                                        final IVariableBuilder p_variablebuilder
     )
     {
+        this( p_fuzzy, p_initalbeliefs, p_plans, p_rules, p_initialgoal, p_unifier, p_aggregation, p_variablebuilder, IExecutor.EMPTY );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_fuzzy fuzzy operator
+     * @param p_initalbeliefs set with initial beliefs
+     * @param p_plans plans
+     * @param p_rules rules
+     * @param p_initialgoal initial goal
+     * @param p_aggregation aggregation function
+     * @param p_unifier unifier component
+     * @param p_variablebuilder variable builder
+     * @param p_executor executor of the agent cycles
+     */
+    public CDefaultAgentConfiguration( final IFuzzy<Boolean, T> p_fuzzy, final Collection<ILiteral> p_initalbeliefs,
+                                       final Set<IPlan> p_plans, final Set<IRule> p_rules,
+                                       final ILiteral p_initialgoal, final IUnifier p_unifier, final IAggregation p_aggregation,
+                                       final IVariableBuilder p_variablebuilder, final IExecutor p_executor
+    )
+    {
+        m_executor = p_executor;
         m_unifier = p_unifier;
         m_aggregation = p_aggregation;
         m_fuzzy = p_fuzzy;
@@ -155,6 +215,20 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
 
         m_plans = Collections.unmodifiableSet( p_plans );
         m_rules = Collections.unmodifiableSet( p_rules );
+
+        // indexes are build once and shared by all agents, so the agent instantiation does not need to build any index
+        m_planindex = m_plans.stream().collect( ImmutableListMultimap.toImmutableListMultimap( IPlan::getTrigger, i -> i ) );
+        m_ruleindex = m_rules.stream().collect( ImmutableListMultimap.toImmutableListMultimap( i -> i.getIdentifier().fqnfunctor(), i -> i ) );
+        m_rulegraph = new CRuleGraph( m_ruleindex );
+
+        // plans are compared by their structure, so each plan instance gets its own index
+        final Map<IPlan, Integer> l_planid = new IdentityHashMap<>();
+        m_plans.forEach( i -> l_planid.putIfAbsent( i, l_planid.size() ) );
+        m_planid = Collections.unmodifiableMap( l_planid );
+
+        // generated variables are pushed into the rule context, so results can be stored only without a variable builder
+        m_conditionmemory = IVariableBuilder.EMPTY.equals( m_variablebuilder ) ? new CConditionMemory( m_plans, m_rulegraph ) : null;
+
         m_initialgoal = p_initialgoal != null ? CTrigger.from( ITrigger.EType.ADDGOAL, p_initialgoal ) : null;
 
         LOGGER.info( MessageFormat.format( "create agent configuration: {0}", this ) );
@@ -164,7 +238,7 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
     public IView<T> beliefbase()
     {
         final IView<T> l_beliefbase = new CBeliefbasePersistent<T>( new CMultiStorage<>() ).create( BELIEFBASEROOTNAME );
-        m_initialbeliefs.parallelStream().forEach( i -> l_beliefbase.add( i.shallowcopy() ) );
+        m_initialbeliefs.forEach( i -> l_beliefbase.add( i.shallowcopy() ) );
 
         // clear all events of the initial beliefs
         l_beliefbase.trigger();
@@ -220,6 +294,48 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
         return m_rules;
     }
 
+    @Override
+    public final IRuleGraph rulegraph()
+    {
+        return m_rulegraph;
+    }
+
+    @Override
+    public final IExecutor executor()
+    {
+        return m_executor;
+    }
+
+    @Override
+    public final Multimap<ITrigger, IPlan> planindex()
+    {
+        return m_planindex;
+    }
+
+    @Override
+    public final Multimap<IPath, IRule> ruleindex()
+    {
+        return m_ruleindex;
+    }
+
+    @Override
+    public final int planid( final IPlan p_plan )
+    {
+        return m_planid.getOrDefault( p_plan, -1 );
+    }
+
+    @Override
+    public final IRuleCache rulecache()
+    {
+        return IVariableBuilder.EMPTY.equals( m_variablebuilder ) ? new CRuleCache( m_rulegraph ) : IRuleCache.EMPTY;
+    }
+
+    @Override
+    public final IConditionMemory conditionmemory()
+    {
+        return m_conditionmemory == null ? IConditionMemory.EMPTY : m_conditionmemory.shallowcopy();
+    }
+
     @Override
     public final String toString()
     {
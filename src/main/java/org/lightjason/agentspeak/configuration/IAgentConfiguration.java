@@ -24,12 +24,20 @@
 package org.lightjason.agentspeak.configuration;
 
 import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.executor.IExecutor;
 import org.lightjason.agentspeak.agent.fuzzy.IFuzzy;
+import com.google.common.collect.Multimap;
 import org.lightjason.agentspeak.beliefbase.view.IView;
+import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.execution.IVariableBuilder;
 import org.lightjason.agentspeak.language.execution.action.unify.IUnifier;
+import org.lightjason.agentspeak.language.instantiable.plan.IConditionMemory;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.instantiable.rule.IRuleCache;
+import org.lightjason.agentspeak.language.instantiable.rule.IRuleGraph;
 import org.lightjason.agentspeak.language.score.IAggregation;
 
 import java.util.Collection;
@@ -93,4 +101,58 @@ public interface IAgentConfiguration<T extends IAgent<?>> extends IConfiguration
      */
     Collection<ILiteral> initialbeliefs();
 
+    /**
+     * returns the dependency graph of the rules
+     *
+     * @return rule graph
+     */
+    IRuleGraph rulegraph();
+
+    /**
+     * returns the plans indexed by the trigger,
+     * the index is immutable and shared by all agents
+     *
+     * @return multimap with trigger and plans in order of the configuration
+     */
+    Multimap<ITrigger, IPlan> planindex();
+
+    /**
+     * returns the rules indexed by the functor,
+     * the index is immutable and shared by all agents
+     *
+     * @return multimap with functor and rules in order of the configuration
+     */
+    Multimap<IPath, IRule> ruleindex();
+
+    /**
+     * returns the index of a plan within the configuration,
+     * the index defines the order of the plans and the position
+     * of the plan statistic within the agent
+     *
+     * @param p_plan plan
+     * @return index or -1 if the plan does not exist
+     */
+    int planid( final IPlan p_plan );
+
+    /**
+     * returns a rule cache of the agent
+     *
+     * @return rule cache
+     */
+    IRuleCache rulecache();
+
+    /**
+     * returns a plan condition memory of the agent
+     *
+     * @return condition memory
+     */
+    IConditionMemory conditionmemory();
+
+    /**
+     * returns the executor of the agent cycles
+     *
+     * @return executor
+     */
+    IExecutor executor();
+
 }
@@ -24,11 +24,14 @@
 package org.lightjason.agentspeak.consistency;
 
 import cern.colt.function.DoubleFunction;
+import cern.colt.list.DoubleArrayList;
+import cern.colt.list.IntArrayList;
 import cern.colt.matrix.DoubleFactory1D;
 import cern.colt.matrix.DoubleMatrix1D;
 import cern.colt.matrix.DoubleMatrix2D;
 import cern.colt.matrix.impl.DenseDoubleMatrix1D;
 import cern.colt.matrix.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.impl.SparseDoubleMatrix2D;
 import cern.colt.matrix.linalg.Algebra;
 import cern.colt.matrix.linalg.EigenvalueDecomposition;
 import cern.jet.math.Functions;
@@ -38,13 +41,20 @@ import org.apache.commons.math3.stat.descriptive.SynchronizedDescriptiveStatisti
 import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.common.CCommon;
 import org.lightjason.agentspeak.consistency.filter.IFilter;
+import org.lightjason.agentspeak.consistency.metric.IBaseHashMetric;
 import org.lightjason.agentspeak.consistency.metric.IMetric;
 import org.lightjason.agentspeak.error.CIllegalStateException;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -67,6 +77,18 @@ public final class CConsistency implements IConsistency
             return 1 - p_value;
         }
     };
+    /**
+     * number of rows and columns of a tile of the metric value matrix
+     */
+    private static final int BLOCKSIZE = 64;
+    /**
+     * default maximum number of iterations
+     */
+    private static final int ITERATION = 64;
+    /**
+     * default tolerance of the stochastic algorithm
+     */
+    private static final double TOLERANCE = 1e-9;
     /**
      * algorithm to calculate stationary probability
      **/
@@ -92,9 +114,34 @@ public final class CConsistency implements IConsistency
      **/
     private final double m_epsilon;
     /**
-     * number of iterations of the stochastic algorithm
+     * maximum number of iterations of the stochastic algorithm
      **/
     private final int m_iteration;
+    /**
+     * the stochastic algorithm stops if the 1-norm of the change is less than the tolerance
+     */
+    private final double m_tolerance;
+    /**
+     * metric values less or equal the threshold are not stored,
+     * a positive threshold creates sparse matrices
+     */
+    private final double m_threshold;
+    /**
+     * index of each agent within the previous calculation
+     */
+    private Map<IAgent<?>, Integer> m_index = Collections.emptyMap();
+    /**
+     * fingerprint of the filtered agent data within the previous calculation
+     */
+    private long[] m_fingerprint = new long[0];
+    /**
+     * metric values of the previous calculation
+     */
+    private DoubleMatrix2D m_metricvalues = new DenseDoubleMatrix2D( 0, 0 );
+    /**
+     * stationary distribution of the previous calculation
+     */
+    private DoubleMatrix1D m_stationary = new DenseDoubleMatrix1D( 0 );
 
 
     /**
@@ -103,16 +150,22 @@ public final class CConsistency implements IConsistency
      * @param p_algorithm algorithm
      * @param p_filter metric filter
      * @param p_metric object metric
-     * @param p_iteration iterations
+     * @param p_iteration maximum iterations
+     * @param p_tolerance tolerance
      * @param p_epsilon epsilon value
+     * @param p_threshold metric threshold
      */
-    private CConsistency( final EAlgorithm p_algorithm, final IFilter p_filter, final IMetric p_metric, final int p_iteration, final double p_epsilon )
+    private CConsistency( final EAlgorithm p_algorithm, final IFilter p_filter, final IMetric p_metric, final int p_iteration, final double p_tolerance,
+                          final double p_epsilon, final double p_threshold
+    )
     {
         m_filter = p_filter;
         m_metric = p_metric;
         m_algorithm = p_algorithm;
         m_iteration = p_iteration;
+        m_tolerance = p_tolerance;
         m_epsilon = p_epsilon;
+        m_threshold = p_threshold;
     }
 
     @Override
@@ -135,43 +188,47 @@ public final class CConsistency implements IConsistency
     }
 
     @Override
-    public final IConsistency call() throws Exception
+    public final synchronized IConsistency call() throws Exception
     {
         if ( m_data.size() < 2 )
             return this;
 
-        // get key list of map for addressing elements in the correct order
-        final ArrayList<IAgent<?>> l_keys = new ArrayList<>( m_data.keySet() );
-
-        // calculate markov chain transition matrix
-        final DoubleMatrix2D l_matrix = new DenseDoubleMatrix2D( m_data.size(), m_data.size() );
-        IntStream.range( 0, l_keys.size() ).parallel().boxed().forEach( i -> {
-
-            final IAgent<?> l_item = l_keys.get( i );
-            IntStream.range( i + 1, l_keys.size() ).boxed().forEach( j -> {
-
-                final double l_value = this.getMetricValue( l_item, l_keys.get( j ) );
-                l_matrix.setQuick( i, j, l_value );
-                l_matrix.setQuick( j, i, l_value );
-
-            } );
-
-            // row-wise normalization for getting probabilities
-            final double l_norm = Algebra.DEFAULT.norm1( l_matrix.viewRow( i ) );
-            if ( l_norm != 0 )
-                l_matrix.viewRow( i ).assign( Mult.div( l_norm ) );
-
-            // set epsilon slope for preventing periodic markov chains
-            l_matrix.setQuick( i, i, m_epsilon );
-        } );
+        // get key list of map for addressing elements in the correct order,
+        // the term hashes are read once for each agent
+        final List<IAgent<?>> l_keys = new ArrayList<>( m_data.keySet() );
+        final int[][] l_hashes = l_keys.parallelStream().map( i -> m_filter.hashes( i ).toArray() ).toArray( int[][]::new );
+
+        // index of the previous calculation, agents with changed data get a negative index, so their metric values are calculated again
+        final long[] l_fingerprint = Arrays.stream( l_hashes ).mapToLong( CConsistency::fingerprint ).toArray();
+        final int[] l_previous = IntStream.range( 0, l_keys.size() )
+                                          .map( i -> {
+                                              final int l_index = m_index.getOrDefault( l_keys.get( i ), -1 );
+                                              return ( l_index < 0 ) || ( m_fingerprint[l_index] != l_fingerprint[i] ) ? -1 : l_index;
+                                          } )
+                                          .toArray();
+
+        // calculate metric values, hash metrics use the term hashes, so the terms are not materialized
+        final DoubleMatrix2D l_metricvalues = this.metricvalues(
+            l_keys,
+            m_metric instanceof IBaseHashMetric
+            ? Arrays.stream( l_hashes ).parallel().map( i -> ( (IBaseHashMetric) m_metric ).feature( Arrays.stream( i ) ) ).collect( Collectors.toList() )
+            : l_keys.parallelStream().map( i -> m_metric.feature( m_filter.apply( i ) ) ).collect( Collectors.toList() ),
+            l_previous
+        );
 
         // check for a zero-matrix
-        final DoubleMatrix1D l_eigenvector = l_matrix.zSum() <= m_data.size() * m_epsilon
+        final DoubleMatrix1D l_stationary = l_metricvalues.cardinality() == 0
                                              ? new DenseDoubleMatrix1D( m_data.size() )
-                                             : m_algorithm.getStationaryDistribution( m_iteration, l_matrix );
+                                             : m_algorithm.getStationaryDistribution( this, l_metricvalues, this.initialdistribution( l_keys ) );
+
+        // store data for the next calculation, a degenerated distribution (e.g. of a zero-matrix) is not used as warm-start
+        m_index = IntStream.range( 0, l_keys.size() ).boxed().collect( Collectors.toMap( l_keys::get, i -> i, ( i, j ) -> i, HashMap::new ) );
+        m_fingerprint = l_fingerprint;
+        m_metricvalues = l_metricvalues;
+        m_stationary = CConsistency.isdistribution( l_stationary ) ? l_stationary.copy() : new DenseDoubleMatrix1D( 0 );
 
         // calculate the inverted probability and normalize with 1-norm
-        l_eigenvector.assign( PROBABILITYINVERT );
+        final DoubleMatrix1D l_eigenvector = l_stationary.assign( PROBABILITYINVERT );
         l_eigenvector.assign( Functions.div( Algebra.DEFAULT.norm1( l_eigenvector ) ) );
 
         // set consistency value for each entry and update statistic
@@ -186,6 +243,258 @@ public final class CConsistency implements IConsistency
         return this;
     }
 
+    /**
+     * calculates the symmetric metric values, values of unchanged
+     * agents are copied from the previous calculation, the upper
+     * triangle is split into tiles, which are calculated in parallel
+     *
+     * @param p_keys agents
+     * @param p_features metric feature of each agent
+     * @param p_previous index of the previous calculation
+     * @return metric value matrix
+     */
+    private DoubleMatrix2D metricvalues( final List<IAgent<?>> p_keys, final List<?> p_features, final int[] p_previous )
+    {
+        final DoubleMatrix2D l_matrix = m_threshold > 0
+                                        ? new SparseDoubleMatrix2D( p_keys.size(), p_keys.size() )
+                                        : new DenseDoubleMatrix2D( p_keys.size(), p_keys.size() );
+
+        // tile coordinates of the upper triangle
+        final int l_blocks = ( p_keys.size() + BLOCKSIZE - 1 ) / BLOCKSIZE;
+        final int[] l_tilerow = new int[l_blocks * ( l_blocks + 1 ) / 2];
+        final int[] l_tilecolumn = new int[l_tilerow.length];
+        for ( int i = 0, l_tile = 0; i < l_blocks; i++ )
+            for ( int j = i; j < l_blocks; j++, l_tile++ )
+            {
+                l_tilerow[l_tile] = i * BLOCKSIZE;
+                l_tilecolumn[l_tile] = j * BLOCKSIZE;
+            }
+
+        IntStream.range( 0, l_tilerow.length ).parallel().forEach( t -> {
+
+            final int l_rowend = Math.min( l_tilerow[t] + BLOCKSIZE, p_keys.size() );
+            final int l_columnend = Math.min( l_tilecolumn[t] + BLOCKSIZE, p_keys.size() );
+            final IntArrayList l_rows = new IntArrayList();
+            final IntArrayList l_columns = new IntArrayList();
+            final DoubleArrayList l_values = new DoubleArrayList();
+
+            for ( int i = l_tilerow[t]; i < l_rowend; i++ )
+                for ( int j = Math.max( i + 1, l_tilecolumn[t] ); j < l_columnend; j++ )
+                {
+                    final double l_value = ( p_previous[i] < 0 ) || ( p_previous[j] < 0 )
+                                           ? this.getMetricValue( p_keys.get( i ), p_features.get( i ), p_keys.get( j ), p_features.get( j ) )
+                                           : m_metricvalues.getQuick( p_previous[i], p_previous[j] );
+
+                    if ( l_value > m_threshold )
+                    {
+                        l_rows.add( i );
+                        l_columns.add( j );
+                        l_values.add( l_value );
+                    }
+                }
+
+            // the cells of the dense matrix are disjoint for each tile, but the hash map of the sparse matrix is not thread-safe,
+            // so the values of a tile are written together
+            if ( l_matrix instanceof SparseDoubleMatrix2D )
+                synchronized ( l_matrix )
+                {
+                    CConsistency.setsymmetric( l_matrix, l_rows, l_columns, l_values );
+                }
+            else
+                CConsistency.setsymmetric( l_matrix, l_rows, l_columns, l_values );
+
+        } );
+
+        return l_matrix;
+    }
+
+    /**
+     * writes symmetric values into a matrix
+     *
+     * @param p_matrix matrix
+     * @param p_rows row indices
+     * @param p_columns column indices
+     * @param p_values values
+     */
+    private static void setsymmetric( final DoubleMatrix2D p_matrix, final IntArrayList p_rows, final IntArrayList p_columns, final DoubleArrayList p_values )
+    {
+        for ( int i = 0; i < p_values.size(); i++ )
+        {
+            p_matrix.setQuick( p_rows.getQuick( i ), p_columns.getQuick( i ), p_values.getQuick( i ) );
+            p_matrix.setQuick( p_columns.getQuick( i ), p_rows.getQuick( i ), p_values.getQuick( i ) );
+        }
+    }
+
+    /**
+     * creates the transition matrix with row-wise normalization of the metric values
+     *
+     * @param p_metricvalues metric values
+     * @return transition matrix
+     */
+    private DoubleMatrix2D transition( final DoubleMatrix2D p_metricvalues )
+    {
+        final double[] l_norm = new double[p_metricvalues.rows()];
+        final DoubleMatrix2D l_matrix = p_metricvalues.copy();
+
+        // row-wise normalization for getting probabilities
+        l_matrix.forEachNonZero( ( i, j, v ) -> {
+            l_norm[i] += Math.abs( v );
+            return v;
+        } );
+        l_matrix.forEachNonZero( ( i, j, v ) -> l_norm[i] == 0 ? v : v / l_norm[i] );
+
+        // set epsilon slope for preventing periodic markov chains
+        IntStream.range( 0, l_matrix.rows() ).forEach( i -> l_matrix.setQuick( i, i, m_epsilon ) );
+
+        return l_matrix;
+    }
+
+    /**
+     * calculates the stationary distribution with a parallel power iteration on
+     * primitive arrays, the transition matrix is not created, because the symmetry
+     * of the metric values allows to multiply the row-wise normalized distribution,
+     * the iteration stops if the 1-norm of the change is less than the tolerance
+     *
+     * @param p_metricvalues metric values
+     * @param p_initial initial distribution or null for a random distribution, a
+     * distribution with a zero or non-finite 1-norm is replaced by a random distribution
+     * @return stationary distribution (not normalized)
+     */
+    private DoubleMatrix1D poweriteration( final DoubleMatrix2D p_metricvalues, final DoubleMatrix1D p_initial )
+    {
+        final int l_size = p_metricvalues.rows();
+        final double[] l_current = CConsistency.isdistribution( p_initial ) ? p_initial.toArray() : DoubleFactory1D.dense.random( l_size ).toArray();
+        final double[] l_next = new double[l_size];
+        final double[] l_scaled = new double[l_size];
+        final IntToDoubleFunction l_product = CConsistency.rowproduct( p_metricvalues, l_scaled );
+
+        // row norms of the metric values, which are non-negative distances
+        Arrays.fill( l_scaled, 1 );
+        final double[] l_norm = IntStream.range( 0, l_size ).parallel().mapToDouble( l_product ).toArray();
+
+        final double l_initialnorm = Arrays.stream( l_current ).map( Math::abs ).sum();
+        IntStream.range( 0, l_size ).forEach( i -> l_current[i] /= l_initialnorm );
+
+        for ( int l_iteration = 0; l_iteration < m_iteration; l_iteration++ )
+        {
+            IntStream.range( 0, l_size ).parallel().forEach( i -> l_scaled[i] = l_norm[i] == 0 ? 0 : l_current[i] / l_norm[i] );
+            IntStream.range( 0, l_size ).parallel().forEach( i -> l_next[i] = m_epsilon * l_current[i] + l_product.applyAsDouble( i ) );
+
+            final double l_sum = Arrays.stream( l_next ).parallel().map( Math::abs ).sum();
+            final double l_change = IntStream.range( 0, l_size )
+                                             .parallel()
+                                             .mapToDouble( i -> {
+                                                 final double l_value = l_next[i] / l_sum;
+                                                 final double l_difference = Math.abs( l_value - l_current[i] );
+                                                 l_current[i] = l_value;
+                                                 return l_difference;
+                                             } )
+                                             .sum();
+
+            if ( l_change < m_tolerance )
+                break;
+        }
+
+        return new DenseDoubleMatrix1D( l_current );
+    }
+
+    /**
+     * creates the product of a matrix row and a vector, the
+     * rows of a sparse matrix are compressed once
+     *
+     * @param p_matrix matrix
+     * @param p_vector vector, which can be changed after the creation
+     * @return function, which calculates the product of the row with the vector
+     */
+    private static IntToDoubleFunction rowproduct( final DoubleMatrix2D p_matrix, final double[] p_vector )
+    {
+        if ( !( p_matrix instanceof SparseDoubleMatrix2D ) )
+            return i -> {
+                double l_sum = 0;
+                for ( int j = 0; j < p_vector.length; j++ )
+                    l_sum += p_matrix.getQuick( i, j ) * p_vector[j];
+                return l_sum;
+            };
+
+        // compressed sparse rows
+        final int[] l_offset = new int[p_matrix.rows() + 1];
+        p_matrix.forEachNonZero( ( i, j, v ) -> {
+            l_offset[i + 1]++;
+            return v;
+        } );
+        Arrays.parallelPrefix( l_offset, Integer::sum );
+
+        final int[] l_cursor = Arrays.copyOf( l_offset, p_matrix.rows() );
+        final int[] l_column = new int[l_offset[p_matrix.rows()]];
+        final double[] l_value = new double[l_column.length];
+        p_matrix.forEachNonZero( ( i, j, v ) -> {
+            l_column[l_cursor[i]] = j;
+            l_value[l_cursor[i]++] = v;
+            return v;
+        } );
+
+        return i -> {
+            double l_sum = 0;
+            for ( int j = l_offset[i]; j < l_offset[i + 1]; j++ )
+                l_sum += l_value[j] * p_vector[l_column[j]];
+            return l_sum;
+        };
+    }
+
+    /**
+     * returns the initial distribution of the iterative algorithm,
+     * the stationary distribution of the previous calculation is used
+     * as warm-start, new agents get the uniform probability
+     *
+     * @param p_keys agents
+     * @return initial distribution or null if no previous calculation
+     * or no distribution of the previous calculation exists
+     */
+    private DoubleMatrix1D initialdistribution( final List<IAgent<?>> p_keys )
+    {
+        if ( ( m_index.isEmpty() ) || ( m_stationary.size() != m_index.size() ) )
+            return null;
+
+        final DoubleMatrix1D l_distribution = new DenseDoubleMatrix1D( p_keys.size() );
+        IntStream.range( 0, p_keys.size() ).forEach( i -> {
+            final Integer l_index = m_index.get( p_keys.get( i ) );
+            l_distribution.setQuick( i, l_index == null ? 1.0 / p_keys.size() : m_stationary.getQuick( l_index ) );
+        } );
+        return l_distribution;
+    }
+
+    /**
+     * checks if a vector can be used as distribution,
+     * so the 1-norm must be finite and greater than zero
+     *
+     * @param p_vector vector or null
+     * @return flag of a distribution
+     */
+    private static boolean isdistribution( final DoubleMatrix1D p_vector )
+    {
+        if ( p_vector == null )
+            return false;
+
+        final double l_norm = Algebra.DEFAULT.norm1( p_vector );
+        return Double.isFinite( l_norm ) && ( l_norm > 0 );
+    }
+
+    /**
+     * fingerprint of the filtered terms, which is independent of the term order,
+     * the term hashes are mixed before the sum, because literal hashes are additive,
+     * so a plain sum does not change if one value grows and another one shrinks
+     *
+     * @param p_hashes term hashes
+     * @return fingerprint
+     */
+    private static long fingerprint( final int[] p_hashes )
+    {
+        long l_fingerprint = CMinHashConsistency.mix( p_hashes.length );
+        for ( final int l_hash : p_hashes )
+            l_fingerprint += CMinHashConsistency.mix( ( l_hash & 0xffffffffL ) | ( 1L << Integer.SIZE ) );
+        return l_fingerprint;
+    }
+
     @Override
     public final IConsistency remove( final IAgent<?> p_object )
     {
@@ -194,10 +503,15 @@ public final class CConsistency implements IConsistency
     }
 
     @Override
-    public final IConsistency clear()
+    public final synchronized IConsistency clear()
     {
         m_statistic.clear();
         m_data.clear();
+
+        m_index = Collections.emptyMap();
+        m_fingerprint = new long[0];
+        m_metricvalues = new DenseDoubleMatrix2D( 0, 0 );
+        m_stationary = new DenseDoubleMatrix1D( 0 );
         return this;
     }
 
@@ -229,17 +543,19 @@ public final class CConsistency implements IConsistency
      * returns metric value
      *
      * @param p_first first element
+     * @param p_firstfeature metric feature of the first element
      * @param p_second secend element
+     * @param p_secondfeature metric feature of the second element
      * @return metric value
      */
-    private double getMetricValue( final IAgent<?> p_first, final IAgent<?> p_second )
+    private double getMetricValue( final IAgent<?> p_first, final Object p_firstfeature, final IAgent<?> p_second, final Object p_secondfeature )
     {
         if ( p_first.equals( p_second ) )
             return 0;
 
-        return m_metric.apply(
-            m_filter.apply( p_first ),
-            m_filter.apply( p_second )
+        return m_metric.distance(
+            p_firstfeature,
+            p_secondfeature
         );
     }
 
@@ -252,7 +568,7 @@ public final class CConsistency implements IConsistency
      */
     public static IConsistency numeric( final IFilter p_filter, final IMetric p_metric )
     {
-        return new CConsistency( EAlgorithm.NUMERICAL, p_filter, p_metric, 0, 0.001 );
+        return new CConsistency( EAlgorithm.NUMERICAL, p_filter, p_metric, 0, 0, 0.001, 0 );
     }
 
     /**
@@ -264,7 +580,7 @@ public final class CConsistency implements IConsistency
      */
     public static IConsistency heuristic( final IFilter p_filter, final IMetric p_metric )
     {
-        return new CConsistency( EAlgorithm.FIXPOINT, p_filter, p_metric, 8, 0.001 );
+        return new CConsistency( EAlgorithm.FIXPOINT, p_filter, p_metric, ITERATION, TOLERANCE, 0.001, 0 );
     }
 
     /**
@@ -272,12 +588,12 @@ public final class CConsistency implements IConsistency
      *
      * @param p_filter metric filter
      * @param p_metric object metric
-     * @param p_iteration number of iterations
+     * @param p_iteration maximum number of iterations
      * @return consistency
      */
     public static IConsistency heuristic( final IFilter p_filter, final IMetric p_metric, final int p_iteration )
     {
-        return new CConsistency( EAlgorithm.FIXPOINT, p_filter, p_metric, p_iteration, 0.001 );
+        return new CConsistency( EAlgorithm.FIXPOINT, p_filter, p_metric, p_iteration, TOLERANCE, 0.001, 0 );
     }
 
     /**
@@ -285,13 +601,83 @@ public final class CConsistency implements IConsistency
      *
      * @param p_filter metric filter
      * @param p_metric object metric
-     * @param p_iteration number of iterations
+     * @param p_iteration maximum number of iterations
      * @param p_epsilon epsilon
      * @return consistency
      */
     public static IConsistency heuristic( final IFilter p_filter, final IMetric p_metric, final int p_iteration, final double p_epsilon )
     {
-        return new CConsistency( EAlgorithm.FIXPOINT, p_filter, p_metric, p_iteration, p_epsilon );
+        return new CConsistency( EAlgorithm.FIXPOINT, p_filter, p_metric, p_iteration, TOLERANCE, p_epsilon, 0 );
+    }
+
+    /**
+     * factory heuristic algorithm with sparse matrices
+     *
+     * @param p_filter metric filter
+     * @param p_metric object metric
+     * @param p_iteration maximum number of iterations
+     * @param p_epsilon epsilon
+     * @param p_threshold metric values less or equal the threshold are not stored
+     * @return consistency
+     */
+    public static IConsistency heuristic( final IFilter p_filter, final IMetric p_metric, final int p_iteration, final double p_epsilon,
+                                          final double p_threshold
+    )
+    {
+        return new CConsistency( EAlgorithm.FIXPOINT, p_filter, p_metric, p_iteration, TOLERANCE, p_epsilon, p_threshold );
+    }
+
+    /**
+     * factory heuristic algorithm with sparse matrices and convergence tolerance
+     *
+     * @param p_filter metric filter
+     * @param p_metric object metric
+     * @param p_iteration maximum number of iterations
+     * @param p_tolerance the iteration stops if the 1-norm of the change is less than the tolerance
+     * @param p_epsilon epsilon
+     * @param p_threshold metric values less or equal the threshold are not stored
+     * @return consistency
+     */
+    public static IConsistency heuristic( final IFilter p_filter, final IMetric p_metric, final int p_iteration, final double p_tolerance,
+                                          final double p_epsilon, final double p_threshold
+    )
+    {
+        return new CConsistency( EAlgorithm.FIXPOINT, p_filter, p_metric, p_iteration, p_tolerance, p_epsilon, p_threshold );
+    }
+
+    /**
+     * factory approximated algorithm for large populations, the
+     * metric is calculated only between MinHash neighbours
+     *
+     * @param p_filter metric filter
+     * @param p_metric object metric
+     * @return consistency
+     *
+     * @see CMinHashConsistency
+     */
+    public static IConsistency approximate( final IFilter p_filter, final IMetric p_metric )
+    {
+        return CMinHashConsistency.from( p_filter, p_metric );
+    }
+
+    /**
+     * factory approximated algorithm for large populations, the
+     * metric is calculated only between MinHash neighbours
+     *
+     * @param p_filter metric filter
+     * @param p_metric object metric
+     * @param p_neighbours number of neighbours of each agent
+     * @param p_iteration number of iterations
+     * @param p_epsilon epsilon
+     * @return consistency
+     *
+     * @see CMinHashConsistency
+     */
+    public static IConsistency approximate( final IFilter p_filter, final IMetric p_metric, final int p_neighbours, final int p_iteration,
+                                            final double p_epsilon
+    )
+    {
+        return CMinHashConsistency.from( p_filter, p_metric, p_neighbours, 8, 4, p_iteration, p_epsilon );
     }
 
 
@@ -313,23 +699,27 @@ public final class CConsistency implements IConsistency
 
 
         /**
-         * calculates the stationary distribution
+         * calculates the stationary distribution, which is the
+         * left eigenvector of the transition matrix
          *
-         * @param p_iteration number of iteration
-         * @param p_matrix transition matrix
+         * @param p_consistency consistency
+         * @param p_metricvalues metric values
+         * @param p_initial initial distribution of the iteration or null for a random distribution
          * @return stationary distribution
          */
-        public final DoubleMatrix1D getStationaryDistribution( final int p_iteration, final DoubleMatrix2D p_matrix )
+        public final DoubleMatrix1D getStationaryDistribution( final CConsistency p_consistency, final DoubleMatrix2D p_metricvalues,
+                                                               final DoubleMatrix1D p_initial
+        )
         {
             final DoubleMatrix1D l_eigenvector;
             switch ( this )
             {
                 case FIXPOINT:
-                    l_eigenvector = getLargestEigenvector( p_matrix, p_iteration );
+                    l_eigenvector = p_consistency.poweriteration( p_metricvalues, p_initial );
                     break;
 
                 case NUMERICAL:
-                    l_eigenvector = getLargestEigenvector( p_matrix );
+                    l_eigenvector = getLargestEigenvector( p_consistency.transition( p_metricvalues ) );
                     break;
 
                 default:
@@ -344,33 +734,14 @@ public final class CConsistency implements IConsistency
         }
 
         /**
-         * get the largest eigen vector based on the perron-frobenius theorem
-         *
-         * @param p_matrix matrix
-         * @param p_iteration number of iterations
-         * @return largest eigenvector (not normalized)
-         *
-         * @see http://en.wikipedia.org/wiki/Perron%E2%80%93Frobenius_theorem
-         */
-        private static DoubleMatrix1D getLargestEigenvector( final DoubleMatrix2D p_matrix, final int p_iteration )
-        {
-            final DoubleMatrix1D l_probability = DoubleFactory1D.dense.random( p_matrix.rows() );
-            IntStream.range( 0, p_iteration ).forEach( i -> {
-                l_probability.assign( Algebra.DEFAULT.mult( p_matrix, l_probability ) );
-                l_probability.assign( Mult.div( Algebra.DEFAULT.norm2( l_probability ) ) );
-            } );
-            return l_probability;
-        }
-
-        /**
-         * get the largest eigen vector with QR decomposition
+         * get the largest left eigen vector with QR decomposition
          *
          * @param p_matrix matrix
          * @return largest eigenvector (not normalized)
          */
         private static DoubleMatrix1D getLargestEigenvector( final DoubleMatrix2D p_matrix )
         {
-            final EigenvalueDecomposition l_eigen = new EigenvalueDecomposition( p_matrix );
+            final EigenvalueDecomposition l_eigen = new EigenvalueDecomposition( Algebra.DEFAULT.transpose( p_matrix ) );
 
             // gets the position of the largest eigenvalue in parallel and returns the eigenvector
             final double[] l_eigenvalues = l_eigen.getRealEigenvalues().toArray();
@@ -0,0 +1,295 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.consistency;
+
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.apache.commons.math3.stat.descriptive.StatisticalSummaryValues;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.common.CCommon;
+
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+
+/**
+ * monitor, which calculates the consistency continuously in the background,
+ * agents notify the monitor after their cycle, the changed agents are batched
+ * and the consistency is calculated asynchronously on an own thread, the calculations
+ * are throttled by a minimal interval, so the notification never blocks the agent cycle
+ * and the result is published as an immutable versioned snapshot
+ */
+public final class CConsistencyMonitor
+{
+    /**
+     * logger
+     */
+    private static final Logger LOGGER = CCommon.logger( CConsistencyMonitor.class );
+    /**
+     * instance counter
+     */
+    private static final AtomicLong INSTANCES = new AtomicLong();
+    /**
+     * consistency
+     */
+    private final IConsistency m_consistency;
+    /**
+     * minimal interval between the start of two calculations in nano seconds
+     */
+    private final long m_interval;
+    /**
+     * executor of the calculation
+     */
+    private final ScheduledExecutorService m_executor;
+    /**
+     * agents, which are changed after the last calculation
+     */
+    private final Set<IAgent<?>> m_changed = ConcurrentHashMap.newKeySet();
+    /**
+     * agents, which are removed after the last calculation, the agents are
+     * removed on the calculation thread, so a running calculation cannot add them again
+     */
+    private final Set<IAgent<?>> m_removed = ConcurrentHashMap.newKeySet();
+    /**
+     * flag that a calculation is scheduled
+     */
+    private final AtomicBoolean m_scheduled = new AtomicBoolean();
+    /**
+     * start time of the last calculation in nano seconds
+     */
+    private final AtomicLong m_last = new AtomicLong( System.nanoTime() - TimeUnit.DAYS.toNanos( 1 ) );
+    /**
+     * current snapshot
+     */
+    private final AtomicReference<CConsistencySnapshot> m_snapshot = new AtomicReference<>(
+        new CConsistencySnapshot( 0, 0, Collections.emptyMap(), new StatisticalSummaryValues( Double.NaN, Double.NaN, 0, Double.NaN, Double.NaN, 0 ) )
+    );
+    /**
+     * subscribers of the snapshots
+     */
+    private final Set<Consumer<CConsistencySnapshot>> m_subscriber = Collections.newSetFromMap( new ConcurrentHashMap<>() );
+
+
+    /**
+     * ctor
+     *
+     * @param p_consistency consistency
+     * @param p_interval minimal interval between two calculations
+     * @param p_unit time unit of the interval
+     */
+    public CConsistencyMonitor( final IConsistency p_consistency, final long p_interval, final TimeUnit p_unit )
+    {
+        m_consistency = p_consistency;
+        m_interval = p_unit.toNanos( p_interval );
+        m_executor = Executors.newSingleThreadScheduledExecutor( i -> {
+            final Thread l_thread = new Thread( i, MessageFormat.format( "agentspeak-consistency-{0}", INSTANCES.incrementAndGet() ) );
+            l_thread.setDaemon( true );
+            return l_thread;
+        } );
+    }
+
+    /**
+     * runs the cycle of an agent and
+     * notifies the monitor afterwards
+     *
+     * @param p_agent agent
+     * @return agent reference
+     * @throws Exception is thrown on cycle error
+     * @tparam T agent type
+     */
+    public final <T extends IAgent<?>> T cycle( final T p_agent ) throws Exception
+    {
+        p_agent.call();
+        this.changed( p_agent );
+        return p_agent;
+    }
+
+    /**
+     * notifies the monitor, that the agent has
+     * finished a cycle, a new agent is added
+     *
+     * @param p_agent agent
+     * @return self reference
+     */
+    public final CConsistencyMonitor changed( final IAgent<?> p_agent )
+    {
+        m_removed.remove( p_agent );
+        m_changed.add( p_agent );
+        this.schedule();
+        return this;
+    }
+
+    /**
+     * removes an agent
+     *
+     * @param p_agent agent
+     * @return self reference
+     */
+    public final CConsistencyMonitor remove( final IAgent<?> p_agent )
+    {
+        m_changed.remove( p_agent );
+        m_removed.add( p_agent );
+        this.schedule();
+        return this;
+    }
+
+    /**
+     * subscribes a consumer, which is called
+     * with each published snapshot
+     *
+     * @param p_subscriber subscriber
+     * @return self reference
+     */
+    public final CConsistencyMonitor subscribe( final Consumer<CConsistencySnapshot> p_subscriber )
+    {
+        m_subscriber.add( p_subscriber );
+        return this;
+    }
+
+    /**
+     * unsubscribes a consumer
+     *
+     * @param p_subscriber subscriber
+     * @return self reference
+     */
+    public final CConsistencyMonitor unsubscribe( final Consumer<CConsistencySnapshot> p_subscriber )
+    {
+        m_subscriber.remove( p_subscriber );
+        return this;
+    }
+
+    /**
+     * returns the last published snapshot
+     *
+     * @return snapshot
+     */
+    public final CConsistencySnapshot snapshot()
+    {
+        return m_snapshot.get();
+    }
+
+    /**
+     * returns the monitored consistency
+     *
+     * @return consistency
+     */
+    public final IConsistency consistency()
+    {
+        return m_consistency;
+    }
+
+    /**
+     * shutdown the monitor, a running
+     * calculation is finished
+     */
+    public final void shutdown()
+    {
+        m_executor.shutdown();
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format( "{0} ( changed: {1} / {2} )", super.toString(), m_changed.size(), m_snapshot.get() );
+    }
+
+    /**
+     * schedules a calculation, if no calculation is scheduled,
+     * the calculation is delayed by the interval after the last start
+     */
+    private void schedule()
+    {
+        if ( ( m_executor.isShutdown() ) || ( !m_scheduled.compareAndSet( false, true ) ) )
+            return;
+
+        m_executor.schedule( this::calculate, Math.max( 0, m_last.get() + m_interval - System.nanoTime() ), TimeUnit.NANOSECONDS );
+    }
+
+    /**
+     * calculates the consistency with the changed agents and publishs the snapshot,
+     * notifications during the calculation are batched for the next calculation,
+     * removed agents are removed before the changed agents are added
+     */
+    private void calculate()
+    {
+        m_scheduled.set( false );
+        m_last.set( System.nanoTime() );
+
+        boolean l_changed = false;
+        for ( final IAgent<?> l_agent : m_removed )
+        {
+            m_removed.remove( l_agent );
+            m_consistency.remove( l_agent );
+            l_changed = true;
+        }
+        for ( final IAgent<?> l_agent : m_changed )
+        {
+            m_changed.remove( l_agent );
+            m_consistency.add( l_agent );
+            l_changed = true;
+        }
+        if ( !l_changed )
+            return;
+
+        try
+        {
+            m_consistency.call();
+        }
+        catch ( final Exception l_exception )
+        {
+            LOGGER.warning( CCommon.languagestring( this, "calculationerror", l_exception ) );
+            return;
+        }
+
+        final Map<IAgent<?>, Double> l_values = new HashMap<>();
+        final DescriptiveStatistics l_statistic = new DescriptiveStatistics();
+        m_consistency.stream().forEach( i -> {
+            l_values.put( i.getKey(), i.getValue() );
+            l_statistic.addValue( i.getValue() );
+        } );
+
+        final CConsistencySnapshot l_snapshot = new CConsistencySnapshot(
+            m_snapshot.get().version() + 1,
+            m_last.get(),
+            Collections.unmodifiableMap( l_values ),
+            new StatisticalSummaryValues(
+                l_statistic.getMean(), l_statistic.getVariance(), l_statistic.getN(), l_statistic.getMax(), l_statistic.getMin(), l_statistic.getSum()
+            )
+        );
+        m_snapshot.set( l_snapshot );
+        m_subscriber.forEach( i -> i.accept( l_snapshot ) );
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.consistency;
+
+import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
+import org.lightjason.agentspeak.agent.IAgent;
+
+import java.text.MessageFormat;
+import java.util.Map;
+
+
+/**
+ * immutable snapshot of the consistency values, which
+ * is published by the consistency monitor after each calculation
+ */
+public final class CConsistencySnapshot
+{
+    /**
+     * version of the snapshot
+     */
+    private final long m_version;
+    /**
+     * time of the calculation in nano seconds
+     */
+    private final long m_time;
+    /**
+     * consistency values of each agent
+     */
+    private final Map<IAgent<?>, Double> m_values;
+    /**
+     * statistic of the consistency values
+     */
+    private final StatisticalSummary m_statistic;
+
+
+    /**
+     * ctor
+     *
+     * @param p_version version
+     * @param p_time time of the calculation in nano seconds
+     * @param p_values unmodifiable map with consistency values
+     * @param p_statistic statistic
+     */
+    CConsistencySnapshot( final long p_version, final long p_time, final Map<IAgent<?>, Double> p_values, final StatisticalSummary p_statistic )
+    {
+        m_version = p_version;
+        m_time = p_time;
+        m_values = p_values;
+        m_statistic = p_statistic;
+    }
+
+    /**
+     * returns the version, which is increased
+     * on each calculation
+     *
+     * @return version
+     */
+    public final long version()
+    {
+        return m_version;
+    }
+
+    /**
+     * returns the time of the calculation
+     *
+     * @return time in nano seconds
+     */
+    public final long time()
+    {
+        return m_time;
+    }
+
+    /**
+     * returns the consistency value of an agent
+     *
+     * @param p_agent agent
+     * @return value or default value
+     */
+    public final double value( final IAgent<?> p_agent )
+    {
+        return m_values.getOrDefault( p_agent, 0.0 );
+    }
+
+    /**
+     * returns all consistency values
+     *
+     * @return unmodifiable map with agent and consistency value
+     */
+    public final Map<IAgent<?>, Double> values()
+    {
+        return m_values;
+    }
+
+    /**
+     * returns the statistic of the consistency values
+     *
+     * @return statistic
+     */
+    public final StatisticalSummary statistic()
+    {
+        return m_statistic;
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format( "{0} ( version: {1} / agents: {2} / mean: {3} )", super.toString(), m_version, m_values.size(), m_statistic.getMean() );
+    }
+
+}
@@ -0,0 +1,517 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.consistency;
+
+import cern.colt.list.DoubleArrayList;
+import cern.colt.list.IntArrayList;
+import cern.colt.map.OpenIntIntHashMap;
+import cern.colt.map.OpenLongObjectHashMap;
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.apache.commons.math3.stat.descriptive.SynchronizedDescriptiveStatistics;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.consistency.filter.IFilter;
+import org.lightjason.agentspeak.consistency.metric.IBaseHashMetric;
+import org.lightjason.agentspeak.consistency.metric.IMetric;
+import org.lightjason.agentspeak.error.CIllegalArgumentException;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * approximated consistency for large populations, the filtered
+ * terms of each agent are sketched with MinHash signatures, locality-sensitive
+ * hashing over the signature bands finds the nearest neighbours, so the metric
+ * is calculated only between neighbours and the markov-chain is defined
+ * over a sparse graph
+ *
+ * @see https://en.wikipedia.org/wiki/MinHash
+ * @see https://en.wikipedia.org/wiki/Locality-sensitive_hashing
+ */
+public final class CMinHashConsistency implements IConsistency
+{
+    /**
+     * multiplier to create the seeds of the hash functions
+     */
+    private static final long SEEDMULTIPLIER = 0x9E3779B97F4A7C15L;
+    /**
+     * map with object and consistency value
+     **/
+    private final Map<IAgent<?>, Double> m_data = new ConcurrentHashMap<>();
+    /**
+     * descriptive statistic
+     */
+    private final DescriptiveStatistics m_statistic = new SynchronizedDescriptiveStatistics();
+    /**
+     * metric filter
+     */
+    private final IFilter m_filter;
+    /**
+     * metric object to create the value of two objects
+     **/
+    private final IMetric m_metric;
+    /**
+     * number of neighbours of each agent
+     */
+    private final int m_neighbours;
+    /**
+     * number of bands of the signature
+     */
+    private final int m_bands;
+    /**
+     * number of signature values within a band
+     */
+    private final int m_rows;
+    /**
+     * maximum number of agents, which are read from a bucket
+     */
+    private final int m_bucketlimit;
+    /**
+     * number of iterations of the power iteration
+     **/
+    private final int m_iteration;
+    /**
+     * epsilon value to create an aperiodic markow-chain
+     **/
+    private final double m_epsilon;
+
+
+    /**
+     * ctor
+     *
+     * @param p_filter metric filter
+     * @param p_metric object metric
+     * @param p_neighbours number of neighbours of each agent
+     * @param p_bands number of signature bands
+     * @param p_rows number of signature values within a band
+     * @param p_iteration number of iterations
+     * @param p_epsilon epsilon value
+     */
+    private CMinHashConsistency( final IFilter p_filter, final IMetric p_metric, final int p_neighbours, final int p_bands, final int p_rows,
+                                 final int p_iteration, final double p_epsilon
+    )
+    {
+        if ( ( p_neighbours < 1 ) || ( p_bands < 1 ) || ( p_rows < 1 ) )
+            throw new CIllegalArgumentException( CCommon.languagestring( this, "parameter", p_neighbours, p_bands, p_rows ) );
+
+        m_filter = p_filter;
+        m_metric = p_metric;
+        m_neighbours = p_neighbours;
+        m_bands = p_bands;
+        m_rows = p_rows;
+        m_bucketlimit = 8 * p_neighbours;
+        m_iteration = p_iteration;
+        m_epsilon = p_epsilon;
+    }
+
+    @Override
+    public final double value( final IAgent<?> p_object )
+    {
+        return m_data.getOrDefault( p_object, 0.0 );
+    }
+
+    @Override
+    public final DescriptiveStatistics statistic()
+    {
+        return m_statistic;
+    }
+
+    @Override
+    public final IConsistency add( final IAgent<?> p_object )
+    {
+        m_data.putIfAbsent( p_object, 0.0 );
+        return this;
+    }
+
+    @Override
+    public final synchronized IConsistency call() throws Exception
+    {
+        if ( m_data.size() < 2 )
+            return this;
+
+        // get key list of map for addressing elements in the correct order,
+        // the term hashes are read once for each agent
+        final List<IAgent<?>> l_keys = new ArrayList<>( m_data.keySet() );
+        final int[][] l_hashes = l_keys.parallelStream().map( i -> m_filter.hashes( i ).toArray() ).toArray( int[][]::new );
+
+        // sketch each agent and find the neighbours
+        final int[][] l_signature = Arrays.stream( l_hashes ).parallel().map( this::signature ).toArray( int[][]::new );
+        final List<OpenLongObjectHashMap> l_buckets = IntStream.range( 0, m_bands )
+                                                               .parallel()
+                                                               .mapToObj( i -> this.buckets( l_signature, i ) )
+                                                               .collect( Collectors.toList() );
+        final int[][] l_neighbours = IntStream.range( 0, l_keys.size() )
+                                              .parallel()
+                                              .mapToObj( i -> this.neighbours( i, l_signature, l_buckets ) )
+                                              .toArray( int[][]::new );
+
+        // calculate metric values of the neighbours and stationary distribution
+        // hash metrics use the term hashes, so the terms are not materialized
+        final double[] l_eigenvector = this.stationary( l_neighbours, this.metricvalues(
+            l_keys,
+            m_metric instanceof IBaseHashMetric
+            ? Arrays.stream( l_hashes ).parallel().map( i -> ( (IBaseHashMetric) m_metric ).feature( Arrays.stream( i ) ) ).collect( Collectors.toList() )
+            : l_keys.parallelStream().map( i -> m_metric.feature( m_filter.apply( i ) ) ).collect( Collectors.toList() ),
+            l_neighbours
+        ) );
+
+        // calculate the inverted probability and normalize with 1-norm
+        final double l_norm = Arrays.stream( l_eigenvector ).map( i -> 1 - i ).sum();
+        m_statistic.clear();
+        IntStream.range( 0, l_keys.size() )
+                 .forEach( i -> {
+                     final double l_value = l_norm == 0 ? 0 : ( 1 - l_eigenvector[i] ) / l_norm;
+                     m_statistic.addValue( l_value );
+                     m_data.put( l_keys.get( i ), l_value );
+                 } );
+
+        return this;
+    }
+
+    @Override
+    public final IConsistency remove( final IAgent<?> p_object )
+    {
+        m_data.remove( p_object );
+        return this;
+    }
+
+    @Override
+    public final IConsistency clear()
+    {
+        m_statistic.clear();
+        m_data.clear();
+        return this;
+    }
+
+    @Override
+    public final IMetric metric()
+    {
+        return m_metric;
+    }
+
+    @Override
+    public final IFilter filter()
+    {
+        return m_filter;
+    }
+
+    @Override
+    public final Stream<Map.Entry<IAgent<?>, Double>> stream()
+    {
+        return m_data.entrySet().stream();
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format( "{0}{1}", super.toString(), m_data );
+    }
+
+    /**
+     * creates the MinHash signature of the terms
+     *
+     * @param p_hashes term hashes
+     * @return signature
+     */
+    private int[] signature( final int[] p_hashes )
+    {
+        final int[] l_signature = new int[m_bands * m_rows];
+        Arrays.fill( l_signature, Integer.MAX_VALUE );
+
+        Arrays.stream( p_hashes ).distinct().forEach( i -> {
+            for ( int j = 0; j < l_signature.length; j++ )
+                l_signature[j] = Math.min( l_signature[j], CMinHashConsistency.hash( i, j ) );
+        } );
+
+        return l_signature;
+    }
+
+    /**
+     * creates the buckets of a signature band
+     *
+     * @param p_signature signatures of all agents
+     * @param p_band band index
+     * @return map with band hash and agent indices
+     */
+    private OpenLongObjectHashMap buckets( final int[][] p_signature, final int p_band )
+    {
+        final OpenLongObjectHashMap l_buckets = new OpenLongObjectHashMap();
+        IntStream.range( 0, p_signature.length ).forEach( i -> {
+            final long l_key = this.bandhash( p_signature[i], p_band );
+            IntArrayList l_bucket = (IntArrayList) l_buckets.get( l_key );
+            if ( l_bucket == null )
+            {
+                l_bucket = new IntArrayList();
+                l_buckets.put( l_key, l_bucket );
+            }
+            l_bucket.add( i );
+        } );
+        return l_buckets;
+    }
+
+    /**
+     * returns the nearest neighbours of an agent, the candidates share
+     * at least one band, the neighbours are the candidates with the
+     * most equal signature values
+     *
+     * @param p_index agent index
+     * @param p_signature signatures of all agents
+     * @param p_buckets buckets of each band
+     * @return neighbour indices
+     */
+    private int[] neighbours( final int p_index, final int[][] p_signature, final List<OpenLongObjectHashMap> p_buckets )
+    {
+        // the neighbours are sorted descending by the similarity, candidates with the same similarity are sorted by the index
+        final int[] l_neighbours = new int[m_neighbours];
+        final int[] l_similarity = new int[m_neighbours];
+        final OpenIntIntHashMap l_visited = new OpenIntIntHashMap();
+        int l_size = 0;
+
+        for ( int i = 0; i < m_bands; i++ )
+        {
+            final IntArrayList l_bucket = (IntArrayList) p_buckets.get( i ).get( this.bandhash( p_signature[p_index], i ) );
+            for ( int j = 0; j < Math.min( l_bucket.size(), m_bucketlimit ); j++ )
+            {
+                final int l_candidate = l_bucket.getQuick( j );
+                if ( ( l_candidate == p_index ) || ( !l_visited.put( l_candidate, 0 ) ) )
+                    continue;
+
+                final int l_value = CMinHashConsistency.similarity( p_signature[p_index], p_signature[l_candidate] );
+                int l_position = l_size;
+                while ( ( l_position > 0 )
+                        && ( ( l_similarity[l_position - 1] < l_value )
+                             || ( ( l_similarity[l_position - 1] == l_value ) && ( l_neighbours[l_position - 1] > l_candidate ) ) ) )
+                    l_position--;
+
+                if ( l_position == m_neighbours )
+                    continue;
+
+                final int l_end = Math.min( l_size, m_neighbours - 1 );
+                System.arraycopy( l_neighbours, l_position, l_neighbours, l_position + 1, l_end - l_position );
+                System.arraycopy( l_similarity, l_position, l_similarity, l_position + 1, l_end - l_position );
+                l_neighbours[l_position] = l_candidate;
+                l_similarity[l_position] = l_value;
+                l_size = Math.min( l_size + 1, m_neighbours );
+            }
+        }
+
+        return Arrays.copyOf( l_neighbours, l_size );
+    }
+
+    /**
+     * calculates the metric values between each agent and its neighbours
+     *
+     * @param p_keys agents
+     * @param p_features metric feature of each agent
+     * @param p_neighbours neighbour indices of each agent
+     * @return metric values in order of the neighbours
+     */
+    private double[][] metricvalues( final List<IAgent<?>> p_keys, final List<?> p_features, final int[][] p_neighbours )
+    {
+        return IntStream.range( 0, p_keys.size() )
+                        .parallel()
+                        .mapToObj( i -> Arrays.stream( p_neighbours[i] )
+                                              .mapToDouble( j -> p_keys.get( i ).equals( p_keys.get( j ) )
+                                                                 ? 0
+                                                                 : m_metric.distance( p_features.get( i ), p_features.get( j ) ) )
+                                              .toArray() )
+                        .toArray( double[][]::new );
+    }
+
+    /**
+     * calculates the stationary distribution with a power iteration over the
+     * symmetric neighbour graph, the transitions of each agent are normalized
+     * with the 1-norm and the epsilon is used as self-transition
+     *
+     * @param p_neighbours neighbour indices of each agent
+     * @param p_metricvalues metric values of the neighbours
+     * @return stationary distribution normalized with the 1-norm
+     */
+    private double[] stationary( final int[][] p_neighbours, final double[][] p_metricvalues )
+    {
+        // undirected edges of the graph with non-zero metric value, an edge of mutual neighbours is used once
+        final IntArrayList l_first = new IntArrayList();
+        final IntArrayList l_second = new IntArrayList();
+        final DoubleArrayList l_value = new DoubleArrayList();
+        for ( int i = 0; i < p_neighbours.length; i++ )
+            for ( int j = 0; j < p_neighbours[i].length; j++ )
+            {
+                final int l_neighbour = p_neighbours[i][j];
+                if ( ( p_metricvalues[i][j] == 0 ) || ( ( i > l_neighbour ) && ( CMinHashConsistency.contains( p_neighbours[l_neighbour], i ) ) ) )
+                    continue;
+
+                l_first.add( i );
+                l_second.add( l_neighbour );
+                l_value.add( Math.abs( p_metricvalues[i][j] ) );
+            }
+
+        // row norm of the transition matrix
+        final double[] l_norm = new double[p_neighbours.length];
+        for ( int i = 0; i < l_value.size(); i++ )
+        {
+            l_norm[l_first.getQuick( i )] += l_value.getQuick( i );
+            l_norm[l_second.getQuick( i )] += l_value.getQuick( i );
+        }
+
+        final double[] l_probability = new double[p_neighbours.length];
+        Arrays.fill( l_probability, 1.0 / l_probability.length );
+        if ( Arrays.stream( l_norm ).allMatch( i -> i == 0 ) )
+            return l_probability;
+
+        // left multiplication with the transition matrix
+        final double[] l_next = new double[l_probability.length];
+        for ( int n = 0; n < m_iteration; n++ )
+        {
+            for ( int i = 0; i < l_next.length; i++ )
+                l_next[i] = l_probability[i] * m_epsilon;
+
+            for ( int i = 0; i < l_value.size(); i++ )
+            {
+                final int l_from = l_first.getQuick( i );
+                final int l_to = l_second.getQuick( i );
+                l_next[l_to] += l_probability[l_from] * l_value.getQuick( i ) / l_norm[l_from];
+                l_next[l_from] += l_probability[l_to] * l_value.getQuick( i ) / l_norm[l_to];
+            }
+
+            final double l_sum = Arrays.stream( l_next ).sum();
+            for ( int i = 0; i < l_next.length; i++ )
+                l_probability[i] = l_next[i] / l_sum;
+        }
+
+        return l_probability;
+    }
+
+    /**
+     * hash of a band
+     *
+     * @param p_signature signature
+     * @param p_band band index
+     * @return hash value
+     */
+    private long bandhash( final int[] p_signature, final int p_band )
+    {
+        long l_hash = p_band;
+        for ( int i = p_band * m_rows; i < ( p_band + 1 ) * m_rows; i++ )
+            l_hash = CMinHashConsistency.mix( l_hash * 31 + p_signature[i] );
+        return l_hash;
+    }
+
+    /**
+     * number of equal signature values
+     *
+     * @param p_first first signature
+     * @param p_second second signature
+     * @return number of equal values
+     */
+    private static int similarity( final int[] p_first, final int[] p_second )
+    {
+        int l_count = 0;
+        for ( int i = 0; i < p_first.length; i++ )
+            if ( p_first[i] == p_second[i] )
+                l_count++;
+        return l_count;
+    }
+
+    /**
+     * checks if an index array contains a value
+     *
+     * @param p_array array
+     * @param p_value value
+     * @return existing flag
+     */
+    private static boolean contains( final int[] p_array, final int p_value )
+    {
+        for ( final int l_value : p_array )
+            if ( l_value == p_value )
+                return true;
+        return false;
+    }
+
+    /**
+     * hash function of the signature
+     *
+     * @param p_value term hash
+     * @param p_function index of the hash function
+     * @return hash value
+     */
+    private static int hash( final int p_value, final int p_function )
+    {
+        return (int) CMinHashConsistency.mix( p_value ^ ( ( p_function + 1 ) * SEEDMULTIPLIER ) );
+    }
+
+    /**
+     * 64 bit finalizer of MurmurHash3
+     *
+     * @param p_value value
+     * @return mixed value
+     */
+    static long mix( final long p_value )
+    {
+        long l_value = p_value;
+        l_value = ( l_value ^ ( l_value >>> 33 ) ) * 0xff51afd7ed558ccdL;
+        l_value = ( l_value ^ ( l_value >>> 33 ) ) * 0xc4ceb9fe1a85ec53L;
+        return l_value ^ ( l_value >>> 33 );
+    }
+
+    /**
+     * factory
+     *
+     * @param p_filter metric filter
+     * @param p_metric object metric
+     * @return consistency
+     */
+    public static IConsistency from( final IFilter p_filter, final IMetric p_metric )
+    {
+        return new CMinHashConsistency( p_filter, p_metric, 10, 8, 4, 8, 0.001 );
+    }
+
+    /**
+     * factory
+     *
+     * @param p_filter metric filter
+     * @param p_metric object metric
+     * @param p_neighbours number of neighbours of each agent
+     * @param p_bands number of signature bands
+     * @param p_rows number of signature values within a band
+     * @param p_iteration number of iterations
+     * @param p_epsilon epsilon value
+     * @return consistency
+     */
+    public static IConsistency from( final IFilter p_filter, final IMetric p_metric, final int p_neighbours, final int p_bands, final int p_rows,
+                                     final int p_iteration, final double p_epsilon
+    )
+    {
+        return new CMinHashConsistency( p_filter, p_metric, p_neighbours, p_bands, p_rows, p_iteration, p_epsilon );
+    }
+
+}
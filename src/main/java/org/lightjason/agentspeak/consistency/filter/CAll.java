@@ -28,6 +28,7 @@ import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.ITerm;
 
 import java.util.Collection;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -66,4 +67,13 @@ public final class CAll extends IBaseFilter
         );
     }
 
+    @Override
+    public final IntStream hashes( final IAgent<?> p_agent )
+    {
+        return IntStream.concat(
+            p_agent.runningplans().values().stream().mapToInt( Object::hashCode ),
+            p_agent.beliefbase().hashes( m_paths.isEmpty() ? null : m_paths.toArray( new IPath[m_paths.size()] ) )
+        );
+    }
+
 }
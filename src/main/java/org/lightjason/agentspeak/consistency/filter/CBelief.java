@@ -28,6 +28,7 @@ import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.ITerm;
 
 import java.util.Collection;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -62,4 +63,10 @@ public final class CBelief extends IBaseFilter
         return p_agent.beliefbase().stream( m_paths.isEmpty() ? null : m_paths.toArray( new IPath[m_paths.size()] ) );
     }
 
+    @Override
+    public final IntStream hashes( final IAgent<?> p_agent )
+    {
+        return p_agent.beliefbase().hashes( m_paths.isEmpty() ? null : m_paths.toArray( new IPath[m_paths.size()] ) );
+    }
+
 }
@@ -27,6 +27,7 @@ import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.language.ITerm;
 
 import java.util.function.Function;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -35,4 +36,17 @@ import java.util.stream.Stream;
  */
 public interface IFilter extends Function<IAgent<?>, Stream<? extends ITerm>>
 {
+
+    /**
+     * returns the hashes of the filtered terms, filters can read
+     * the hashes from the beliefbase without materializing the terms
+     *
+     * @param p_agent agent
+     * @return hash stream, which is equal to the hashes of the filtered terms
+     */
+    default IntStream hashes( final IAgent<?> p_agent )
+    {
+        return this.apply( p_agent ).mapToInt( Object::hashCode );
+    }
+
 }
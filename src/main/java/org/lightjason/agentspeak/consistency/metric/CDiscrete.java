@@ -23,29 +23,20 @@
 
 package org.lightjason.agentspeak.consistency.metric;
 
-import org.lightjason.agentspeak.language.ITerm;
-
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
+import java.util.Arrays;
 
 /**
  * generic discrete metric
  *
  * @see http://mathworld.wolfram.com/DiscreteMetric.html
  */
-public final class CDiscrete implements IMetric
+public final class CDiscrete extends IBaseHashMetric
 {
 
     @Override
-    public final Double apply( final Stream<? extends ITerm> p_first, final Stream<? extends ITerm> p_second )
+    protected final double featuredistance( final int[] p_first, final int[] p_second )
     {
-        final Collection<ITerm> l_first = p_first.collect( Collectors.toCollection( HashSet<ITerm>::new ) );
-        final Collection<ITerm> l_second = p_second.collect( Collectors.toCollection( HashSet<ITerm>::new ) );
-
-        return ( l_first.containsAll( l_second ) ) && ( l_second.containsAll( l_first ) ) ? 0.0 : 1.0;
+        return Arrays.equals( p_first, p_second ) ? 0.0 : 1.0;
     }
 
 }
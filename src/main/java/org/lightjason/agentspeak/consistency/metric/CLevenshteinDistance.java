@@ -36,7 +36,7 @@ import java.util.stream.Stream;
  *
  * @see https://en.wikipedia.org/wiki/Levenshtein_distance
  */
-public final class CLevenshteinDistance implements IMetric
+public final class CLevenshteinDistance extends IBaseMetric<String>
 {
     /**
      * cost / weight of insert operation
@@ -75,12 +75,15 @@ public final class CLevenshteinDistance implements IMetric
 
 
     @Override
-    public final Double apply( final Stream<? extends ITerm> p_first, final Stream<? extends ITerm> p_second )
+    public final String feature( final Stream<? extends ITerm> p_terms )
     {
-        return this.levenshtein(
-            p_first.map( Object::toString ).collect( Collectors.joining( "" ) ),
-            p_second.map( Object::toString ).collect( Collectors.joining( "" ) )
-        );
+        return p_terms.map( Object::toString ).collect( Collectors.joining( "" ) );
+    }
+
+    @Override
+    protected final double featuredistance( final String p_first, final String p_second )
+    {
+        return this.levenshtein( p_first, p_second );
     }
 
     /**
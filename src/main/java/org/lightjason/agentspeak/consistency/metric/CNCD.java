@@ -28,20 +28,21 @@ import org.apache.commons.compress.compressors.deflate.DeflateCompressorOutputSt
 import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
 import org.apache.commons.compress.compressors.pack200.Pack200CompressorOutputStream;
 import org.apache.commons.compress.compressors.xz.XZCompressorOutputStream;
-import org.apache.commons.compress.utils.IOUtils;
 import org.apache.commons.io.output.NullOutputStream;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.lightjason.agentspeak.common.CCommon;
 import org.lightjason.agentspeak.error.CIllegalStateException;
 import org.lightjason.agentspeak.language.ITerm;
 
-import java.io.ByteArrayInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.Deflater;
 
 
 /**
@@ -49,8 +50,24 @@ import java.util.stream.Stream;
  *
  * @see https://en.wikipedia.org/wiki/Normalized_compression_distance
  */
-public final class CNCD implements IMetric
+public final class CNCD extends IBaseMetric<Pair<byte[], Double>>
 {
+    /**
+     * size of the gzip header and trailer
+     */
+    private static final int GZIPFRAME = 18;
+    /**
+     * thread-local deflater of the zlib format, which is reset on each compression
+     */
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial( () -> new Deflater( Deflater.DEFAULT_COMPRESSION, false ) );
+    /**
+     * thread-local deflater of the raw format, which is used for gzip
+     */
+    private static final ThreadLocal<Deflater> RAWDEFLATER = ThreadLocal.withInitial( () -> new Deflater( Deflater.DEFAULT_COMPRESSION, true ) );
+    /**
+     * thread-local buffer of the compressed output, which is only counted
+     */
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial( () -> new byte[8192] );
     /**
      * compression algorithm
      */
@@ -74,46 +91,62 @@ public final class CNCD implements IMetric
         m_compression = p_compression;
     }
 
+    /**
+     * creates the bytes of the terms and its compressed size
+     *
+     * @param p_terms terms
+     * @return pair of bytes and compressed size
+     */
     @Override
-    public final Double apply( final Stream<? extends ITerm> p_first, final Stream<? extends ITerm> p_second )
+    public final Pair<byte[], Double> feature( final Stream<? extends ITerm> p_terms )
     {
-        return this.ncd(
-            p_first.map( Object::toString ).collect( Collectors.joining( "" ) ),
-            p_second.map( Object::toString ).collect( Collectors.joining( "" ) )
-        );
+        final byte[] l_bytes = p_terms.map( Object::toString ).collect( Collectors.joining( "" ) ).getBytes( StandardCharsets.UTF_8 );
+        return new ImmutablePair<>( l_bytes, this.compress( l_bytes ) );
     }
 
     /**
      * normalized-compression-distance
      *
-     * @param p_first first string
-     * @param p_second second string
+     * @param p_first first bytes and its compressed size
+     * @param p_second second bytes and its compressed size
      * @return distance in [0,1]
      */
-    private double ncd( final String p_first, final String p_second )
+    @Override
+    protected final double featuredistance( final Pair<byte[], Double> p_first, final Pair<byte[], Double> p_second )
     {
-        final double l_first = this.compress( p_first );
-        final double l_second = this.compress( p_second );
-        return ( this.compress( p_first + p_second ) - Math.min( l_first, l_second ) ) / Math.max( l_first, l_second );
+        return ( this.compress( p_first.getLeft(), p_second.getLeft() ) - Math.min( p_first.getRight(), p_second.getRight() ) )
+               / Math.max( p_first.getRight(), p_second.getRight() );
     }
 
     /**
-     * compression algorithm
+     * compression algorithm, the inputs are compressed as concatenated
+     * sequence without copying them into one array
      *
-     * @param p_input input string
+     * @param p_input input bytes
      * @return number of compression bytes
      * @warning counting stream returns the correct number of bytes after flushing
      */
-    private double compress( final String p_input )
+    private double compress( final byte[]... p_input )
     {
-        final DataOutputStream l_counting = new DataOutputStream( new NullOutputStream() );
+        switch ( m_compression )
+        {
+            case DEFLATE:
+                return CNCD.deflate( DEFLATER.get(), p_input );
+
+            case GZIP:
+                return GZIPFRAME + CNCD.deflate( RAWDEFLATER.get(), p_input );
 
+            default:
+                break;
+        }
+
+        final DataOutputStream l_counting = new DataOutputStream( NullOutputStream.NULL_OUTPUT_STREAM );
         try (
-            final InputStream l_input = new ByteArrayInputStream( p_input.getBytes( StandardCharsets.UTF_8 ) );
-            final OutputStream l_compress = m_compression.get( l_counting )
+            final OutputStream l_compress = m_compression.get( l_counting, Arrays.stream( p_input ).mapToLong( i -> i.length ).sum() )
         )
         {
-            IOUtils.copy( l_input, l_compress );
+            for ( final byte[] l_input : p_input )
+                l_compress.write( l_input );
         }
         catch ( final IOException l_exception )
         {
@@ -123,6 +156,33 @@ public final class CNCD implements IMetric
         return l_counting.size();
     }
 
+    /**
+     * compresses with a reused deflater and counts the compressed bytes
+     *
+     * @param p_deflater deflater
+     * @param p_input input bytes
+     * @return number of compression bytes
+     */
+    private static double deflate( final Deflater p_deflater, final byte[]... p_input )
+    {
+        final byte[] l_buffer = BUFFER.get();
+        long l_size = 0;
+
+        p_deflater.reset();
+        for ( final byte[] l_input : p_input )
+        {
+            p_deflater.setInput( l_input );
+            while ( !p_deflater.needsInput() )
+                l_size += p_deflater.deflate( l_buffer );
+        }
+
+        p_deflater.finish();
+        while ( !p_deflater.finished() )
+            l_size += p_deflater.deflate( l_buffer );
+
+        return l_size;
+    }
+
 
 
     /**
@@ -144,10 +204,26 @@ public final class CNCD implements IMetric
          * @throws IOException throws on any io error
          */
         public final OutputStream get( final DataOutputStream p_datastream ) throws IOException
+        {
+            return this.get( p_datastream, -1 );
+        }
+
+        /**
+         * creates a compression stream
+         *
+         * @param p_datastream data-counting stream
+         * @param p_length number of input bytes or a negative value if it is unknown,
+         * the block size of bzip is adapted to the input, so small inputs do not allocate the maximum block
+         * @return compression output stream
+         * @throws IOException throws on any io error
+         */
+        public final OutputStream get( final DataOutputStream p_datastream, final long p_length ) throws IOException
         {
             switch ( this )
             {
-                case BZIP : return new BZip2CompressorOutputStream( p_datastream );
+                case BZIP : return p_length < 0
+                                   ? new BZip2CompressorOutputStream( p_datastream )
+                                   : new BZip2CompressorOutputStream( p_datastream, BZip2CompressorOutputStream.chooseBlockSize( p_length ) );
 
                 case GZIP : return new GzipCompressorOutputStream( p_datastream );
 
@@ -23,34 +23,19 @@
 
 package org.lightjason.agentspeak.consistency.metric;
 
-import org.lightjason.agentspeak.language.ITerm;
-
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
 
 /**
  * metric on collections returns the size of symmetric difference
  *
  * @see http://mathworld.wolfram.com/SymmetricDifference.html
  */
-public final class CSymmetricDifference implements IMetric
+public final class CSymmetricDifference extends IBaseHashMetric
 {
 
     @Override
-    public final Double apply( final Stream<? extends ITerm> p_first, final Stream<? extends ITerm> p_second )
+    protected final double featuredistance( final int[] p_first, final int[] p_second )
     {
-        final Collection<ITerm> l_first = p_first.collect( Collectors.toCollection( HashSet<ITerm>::new ) );
-        final Collection<ITerm> l_second = p_second.collect( Collectors.toCollection( HashSet<ITerm>::new ) );
-
-        return (double) Stream.concat( l_first.stream(), l_second.stream() )
-                              .sorted()
-                              .distinct()
-                              .parallel()
-                              .filter( i -> !( l_first.contains( i ) && ( l_second.contains( i ) ) ) )
-                              .count();
+        return p_first.length + p_second.length - 2 * IBaseHashMetric.intersection( p_first, p_second );
     }
 
 }
@@ -23,40 +23,28 @@
 
 package org.lightjason.agentspeak.consistency.metric;
 
-import org.lightjason.agentspeak.language.ITerm;
-
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
 
 /**
  * calculates the distance with respect
  * to size of union and intersection of beliefbases.
  */
-public final class CWeightedDifference implements IMetric
+public final class CWeightedDifference extends IBaseHashMetric
 {
 
     @Override
-    public final Double apply( final Stream<? extends ITerm> p_first, final Stream<? extends ITerm> p_second )
+    protected final double featuredistance( final int[] p_first, final int[] p_second )
     {
-        final Collection<ITerm> l_first = p_first.collect( Collectors.toCollection( HashSet<ITerm>::new ) );
-        final Collection<ITerm> l_second = p_second.collect( Collectors.toCollection( HashSet<ITerm>::new ) );
-
         // element aggregation
-        final double l_union = Stream.concat( l_first.stream(), l_second.stream() ).count();
-        final Set<? extends ITerm> l_intersection = l_first.stream().collect( Collectors.toSet() );
-        l_intersection.retainAll( l_second );
+        final double l_union = p_first.length + p_second.length;
+        final int l_intersection = IBaseHashMetric.intersection( p_first, p_second );
 
         // return distance
         return ( 2.0 * l_union
-                 - l_first.size()
-                 - l_second.size()
+                 - p_first.length
+                 - p_second.length
                )
                * l_union
-               / l_intersection.size();
+               / l_intersection;
     }
 
 }
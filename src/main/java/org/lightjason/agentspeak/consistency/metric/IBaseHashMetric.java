@@ -0,0 +1,84 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.consistency.metric;
+
+import org.lightjason.agentspeak.language.ITerm;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * metric on the distinct term hashes, terms are equal if the
+ * hashes are equal, so the feature can be created from hashes,
+ * which are read by the filter without materializing the terms
+ */
+public abstract class IBaseHashMetric extends IBaseMetric<int[]>
+{
+
+    @Override
+    public final int[] feature( final Stream<? extends ITerm> p_terms )
+    {
+        return this.feature( p_terms.mapToInt( Object::hashCode ) );
+    }
+
+    /**
+     * creates a sorted array of the distinct term hashes
+     *
+     * @param p_hashes term hashes
+     * @return sorted hash array
+     */
+    public final int[] feature( final IntStream p_hashes )
+    {
+        return p_hashes.distinct().sorted().toArray();
+    }
+
+    /**
+     * returns the size of the intersection of sorted hash arrays
+     *
+     * @param p_first first sorted hash array
+     * @param p_second second sorted hash array
+     * @return number of equal hashes
+     */
+    protected static int intersection( final int[] p_first, final int[] p_second )
+    {
+        int l_count = 0;
+        int i = 0;
+        int j = 0;
+        while ( ( i < p_first.length ) && ( j < p_second.length ) )
+            if ( p_first[i] < p_second[j] )
+                i++;
+            else if ( p_first[i] > p_second[j] )
+                j++;
+            else
+            {
+                l_count++;
+                i++;
+                j++;
+            }
+
+        return l_count;
+    }
+
+}
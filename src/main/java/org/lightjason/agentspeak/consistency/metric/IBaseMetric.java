@@ -0,0 +1,65 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.consistency.metric;
+
+import org.lightjason.agentspeak.language.ITerm;
+
+import java.util.stream.Stream;
+
+
+/**
+ * metric with a typed feature
+ *
+ * @tparam T feature type
+ */
+public abstract class IBaseMetric<T> implements IMetric
+{
+
+    @Override
+    public final Double apply( final Stream<? extends ITerm> p_first, final Stream<? extends ITerm> p_second )
+    {
+        return this.distance( this.feature( p_first ), this.feature( p_second ) );
+    }
+
+    @Override
+    public abstract T feature( final Stream<? extends ITerm> p_terms );
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public final double distance( final Object p_first, final Object p_second )
+    {
+        return this.featuredistance( (T) p_first, (T) p_second );
+    }
+
+    /**
+     * calculates the metric value of two features
+     *
+     * @param p_first feature of the first agent
+     * @param p_second feature of the second agent
+     * @return metric value
+     */
+    protected abstract double featuredistance( final T p_first, final T p_second );
+
+}
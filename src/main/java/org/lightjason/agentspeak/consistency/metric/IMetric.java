@@ -21,19 +21,49 @@
  * @endcond
  */
 
+
 package org.lightjason.agentspeak.consistency.metric;
 
 import org.lightjason.agentspeak.language.ITerm;
 
+import java.util.List;
 import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 /**
- * metric interface of the coherency structure
+ * metric interface of the coherency structure,
+ * the metric can be calculated in two phases, the feature
+ * of each agent is created once and the features are compared pairwise
  *
  * @see http://en.wikipedia.org/wiki/Metric_space
  */
 public interface IMetric extends BiFunction<Stream<? extends ITerm>, Stream<? extends ITerm>, Double>
 {
+
+    /**
+     * creates the feature of the terms of an agent
+     *
+     * @param p_terms terms
+     * @return feature
+     */
+    default Object feature( final Stream<? extends ITerm> p_terms )
+    {
+        return p_terms.collect( Collectors.toList() );
+    }
+
+    /**
+     * calculates the metric value of two features
+     *
+     * @param p_first feature of the first agent
+     * @param p_second feature of the second agent
+     * @return metric value
+     */
+    @SuppressWarnings( "unchecked" )
+    default double distance( final Object p_first, final Object p_second )
+    {
+        return this.apply( ( (List<? extends ITerm>) p_first ).stream(), ( (List<? extends ITerm>) p_second ).stream() );
+    }
+
 }
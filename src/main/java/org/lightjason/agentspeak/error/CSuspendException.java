@@ -0,0 +1,113 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.error;
+
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * exception to suspend a plan execution, the exception
+ * is thrown by a blocking action call and the plan execution
+ * is resumed at the body element, when the blocking call is finished
+ *
+ * @note the exception is a control structure without stacktrace
+ */
+@SuppressWarnings( "serial" )
+public final class CSuspendException extends RuntimeException implements IException
+{
+    /**
+     * future of the blocking call
+     */
+    private final transient CompletableFuture<?> m_future;
+    /**
+     * index of the body element, which is suspended
+     */
+    private final int m_offset;
+
+    /**
+     * ctor
+     *
+     * @param p_future future of the blocking call
+     */
+    public CSuspendException( final CompletableFuture<?> p_future )
+    {
+        this( p_future, 0 );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_future future of the blocking call
+     * @param p_offset index of the suspended body element
+     */
+    private CSuspendException( final CompletableFuture<?> p_future, final int p_offset )
+    {
+        super( null, null, false, false );
+        m_future = p_future;
+        m_offset = p_offset;
+    }
+
+    /**
+     * returns the future of the blocking call
+     *
+     * @return future
+     */
+    public final CompletableFuture<?> future()
+    {
+        return m_future;
+    }
+
+    /**
+     * returns the index of the suspended body element
+     *
+     * @return index
+     */
+    public final int offset()
+    {
+        return m_offset;
+    }
+
+    /**
+     * returns the exception with a shifted body element index
+     *
+     * @param p_offset index
+     * @return exception with the index
+     */
+    public final CSuspendException offset( final int p_offset )
+    {
+        return new CSuspendException( m_future, p_offset );
+    }
+
+    /**
+     * blocks until the blocking call is finished
+     *
+     * @return self reference
+     */
+    public final CSuspendException await()
+    {
+        m_future.handle( ( i, j ) -> i ).join();
+        return this;
+    }
+
+}
@@ -26,12 +26,14 @@ package org.lightjason.agentspeak.generator;
 import org.lightjason.agentspeak.action.IAction;
 import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.agent.IPlanBundle;
+import org.lightjason.agentspeak.agent.executor.IExecutor;
 import org.lightjason.agentspeak.agent.fuzzy.CBoolFuzzy;
 import org.lightjason.agentspeak.agent.fuzzy.IFuzzy;
 import org.lightjason.agentspeak.agent.unify.CUnifier;
 import org.lightjason.agentspeak.configuration.CDefaultAgentConfiguration;
 import org.lightjason.agentspeak.configuration.IAgentConfiguration;
 import org.lightjason.agentspeak.grammar.CParserAgent;
+import org.lightjason.agentspeak.grammar.CParserCache;
 import org.lightjason.agentspeak.grammar.IASTVisitorAgent;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.execution.IVariableBuilder;
@@ -43,6 +45,7 @@ import org.lightjason.agentspeak.language.score.IAggregation;
 import java.io.InputStream;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -61,7 +64,19 @@ public abstract class IBaseAgentGenerator<T extends IAgent<?>> implements IAgent
     /**
      * configuration of an agent
      */
-    protected final IAgentConfiguration<T> m_configuration;
+    protected volatile IAgentConfiguration<T> m_configuration;
+    /**
+     * set with actions
+     */
+    private final Set<IAction> m_actions;
+    /**
+     * set with planbundles
+     */
+    private final Set<IPlanBundle> m_planbundle;
+    /**
+     * parser, which caches the plans of the generator sources
+     */
+    private final CParserAgent m_parser;
 
 
     /**
@@ -116,24 +131,94 @@ public abstract class IBaseAgentGenerator<T extends IAgent<?>> implements IAgent
     )
     throws Exception
     {
-        final IASTVisitorAgent l_visitor = new CParserAgent( p_actions ).parse( p_stream );
-        m_configuration = this.configuration(
-            new CBoolFuzzy<>(),
+        this( p_stream, p_actions, p_aggregation, p_planbundle, p_variablebuilder, IExecutor.EMPTY );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_stream input stream
+     * @param p_actions set with action
+     * @param p_aggregation aggregation function
+     * @param p_planbundle set with planbundles
+     * @param p_variablebuilder variable builder (can be set to null)
+     * @param p_executor executor of the agent cycles, agents with the same executor share the thread pool
+     * @throws Exception thrown on error
+     */
+    public IBaseAgentGenerator( final InputStream p_stream, final Set<IAction> p_actions,
+                                final IAggregation p_aggregation, final Set<IPlanBundle> p_planbundle,
+                                final IVariableBuilder p_variablebuilder, final IExecutor p_executor
+    )
+    throws Exception
+    {
+        m_actions = p_actions;
+        m_planbundle = p_planbundle;
+        m_parser = new CParserAgent( p_actions );
+        m_configuration = this.configuration( p_stream, new CBoolFuzzy<>(), p_aggregation, p_variablebuilder, p_executor );
+    }
+
+    /**
+     * reloads plans and rules of agents, the source is parsed once and all agents share the
+     * plans and rules, which are swapped at the beginning of the next agent cycle, agents which
+     * are generated afterwards get the reloaded plans and rules also
+     *
+     * @param p_stream input stream
+     * @param p_agents agents
+     * @return agent stream
+     * @throws Exception thrown on error
+     */
+    public final Stream<T> reload( final InputStream p_stream, final Stream<T> p_agents ) throws Exception
+    {
+        final IAgentConfiguration<T> l_configuration = this.configuration(
+            p_stream,
+            m_configuration.fuzzy(),
+            m_configuration.aggregation(),
+            m_configuration.variablebuilder(),
+            m_configuration.executor()
+        );
+        m_configuration = l_configuration;
+
+        // agents are reloaded eagerly, so the reload does not depend on the consumption of the stream
+        return p_agents.map( i -> {
+            i.reload( l_configuration );
+            return i;
+        } ).collect( Collectors.toList() ).stream();
+    }
+
+    /**
+     * parses the source and builds the configuration
+     *
+     * @param p_stream input stream
+     * @param p_fuzzy fuzzy operator
+     * @param p_aggregation aggregation function
+     * @param p_variablebuilder variable builder (can be set to null)
+     * @param p_executor executor of the agent cycles
+     * @return configuration object
+     * @throws Exception thrown on error
+     */
+    private IAgentConfiguration<T> configuration( final InputStream p_stream, final IFuzzy<Boolean, T> p_fuzzy, final IAggregation p_aggregation,
+                                                  final IVariableBuilder p_variablebuilder, final IExecutor p_executor
+    ) throws Exception
+    {
+        final IASTVisitorAgent l_visitor = new CParserCache<>( m_parser, m_actions ).parse( p_stream );
+        return this.configuration(
+            p_fuzzy,
 
             Stream.concat(
                 l_visitor.initialbeliefs().stream(),
-                p_planbundle.parallelStream().flatMap( i -> i.initialbeliefs().stream() )
+                m_planbundle.parallelStream().flatMap( i -> i.initialbeliefs().stream() )
             ).collect( Collectors.toSet() ),
 
+            // plans and rules keep the source order, so a deterministic execution gets a stable order
             Stream.concat(
                 l_visitor.plans().stream(),
-                p_planbundle.parallelStream().flatMap( i -> i.plans().stream() )
-            ).collect( Collectors.toSet() ),
+                m_planbundle.parallelStream().flatMap( i -> i.plans().stream() )
+            ).collect( Collectors.toCollection( LinkedHashSet::new ) ),
 
             Stream.concat(
                 l_visitor.rules().stream(),
-                p_planbundle.parallelStream().flatMap( i -> i.rules().stream() )
-            ).collect( Collectors.toSet() ),
+                m_planbundle.parallelStream().flatMap( i -> i.rules().stream() )
+            ).collect( Collectors.toCollection( LinkedHashSet::new ) ),
 
             l_visitor.initialgoal(),
 
@@ -141,20 +226,31 @@ public abstract class IBaseAgentGenerator<T extends IAgent<?>> implements IAgent
 
             p_aggregation,
 
-            p_variablebuilder
+            p_variablebuilder,
+
+            p_executor
         );
     }
 
     /**
      * builds the configuraion, configuration runs cloning of objects if needed
      *
+     * @param p_fuzzy fuzzy operator
+     * @param p_initalbeliefs set with initial beliefs
+     * @param p_plans plans
+     * @param p_rules rules
+     * @param p_initialgoal initial goal
+     * @param p_unifier unifier component
+     * @param p_aggregation aggregation function
+     * @param p_variablebuilder variable builder
+     * @param p_executor executor of the agent cycles
      * @return configuration object
      */
     protected IAgentConfiguration<T> configuration( final IFuzzy<Boolean, T> p_fuzzy, final Collection<ILiteral> p_initalbeliefs,
                                                     final Set<IPlan> p_plans, final Set<IRule> p_rules,
                                                     final ILiteral p_initialgoal, final IUnifier p_unifier,
                                                     final IAggregation p_aggregation,
-                                                    final IVariableBuilder p_variablebuilder )
+                                                    final IVariableBuilder p_variablebuilder, final IExecutor p_executor )
     {
         return new CDefaultAgentConfiguration<>(
             p_fuzzy,
@@ -164,16 +260,18 @@ public abstract class IBaseAgentGenerator<T extends IAgent<?>> implements IAgent
             p_initialgoal,
             p_unifier,
             p_aggregation,
-            p_variablebuilder
+            p_variablebuilder,
+            p_executor
         );
     }
 
     @Override
     public final Stream<T> generatemultiple( final int p_number, final Object... p_data )
     {
-        return IntStream.range( 0, p_number )
-                    .parallel()
-                    .mapToObj( i -> this.generatesingle( p_data ) );
+        // the stream is lazy, so the agents are generated within the pool of the thread, which runs the terminal operation
+        // (the executor pool inside an agent cycle), on deterministic execution agents are generated in order, so each agent gets the same random generator
+        return ( m_configuration.executor().deterministic() ? IntStream.range( 0, p_number ) : IntStream.range( 0, p_number ).parallel() )
+               .mapToObj( i -> this.generatesingle( p_data ) );
     }
 
 }
@@ -27,6 +27,7 @@ import org.lightjason.agentspeak.action.IAction;
 import org.lightjason.agentspeak.agent.IPlanBundle;
 import org.lightjason.agentspeak.configuration.CDefaultPlanBundleConfiguration;
 import org.lightjason.agentspeak.configuration.IPlanBundleConfiguration;
+import org.lightjason.agentspeak.grammar.CParserCache;
 import org.lightjason.agentspeak.grammar.CParserPlanBundle;
 import org.lightjason.agentspeak.grammar.IASTVisitorPlanBundle;
 
@@ -56,7 +57,7 @@ public abstract class IBasePlanBundleGenerator implements IPlanBundleGenerator
      */
     public IBasePlanBundleGenerator( final InputStream p_stream, final Set<IAction> p_actions ) throws Exception
     {
-        final IASTVisitorPlanBundle l_visitor = new CParserPlanBundle( p_actions ).parse( p_stream );
+        final IASTVisitorPlanBundle l_visitor = new CParserCache<>( new CParserPlanBundle( p_actions ), p_actions ).parse( p_stream );
 
         m_configuration = new CDefaultPlanBundleConfiguration(
             l_visitor.plans(),
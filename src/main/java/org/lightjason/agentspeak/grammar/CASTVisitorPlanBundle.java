@@ -26,6 +26,7 @@ package org.lightjason.agentspeak.grammar;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import org.antlr.v4.runtime.tree.AbstractParseTreeVisitor;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.lightjason.agentspeak.action.IAction;
@@ -89,6 +90,7 @@ import java.text.MessageFormat;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -117,7 +119,7 @@ public final class CASTVisitorPlanBundle extends AbstractParseTreeVisitor<Object
     /**
      * map with plans
      */
-    private final Set<IPlan> m_plans = new HashSet<>();
+    private final Set<IPlan> m_plans = new LinkedHashSet<>();
     /**
      * map with logical rules
      */
@@ -135,7 +137,7 @@ public final class CASTVisitorPlanBundle extends AbstractParseTreeVisitor<Object
      */
     public CASTVisitorPlanBundle( final Set<IAction> p_actions, final Set<IRule> p_rules )
     {
-        m_actions = p_actions.stream().collect( Collectors.toMap( i -> i.name(), i -> i ) );
+        m_actions = CCommon.actionmap( p_actions );
         p_rules.stream().forEach( i -> m_rules.put( i.getIdentifier().fqnfunctor(), i ) );
 
         LOGGER.info( MessageFormat.format( "create parser with actions & rules : {0} / {1}", m_actions.keySet(), m_rules.keySet() ) );
@@ -203,7 +205,13 @@ public final class CASTVisitorPlanBundle extends AbstractParseTreeVisitor<Object
     {
         final ILiteral l_literal = (ILiteral) this.visitLiteral( p_context.literal() );
         return p_context.logicalruledefinition().stream()
-                        .map( i -> new CRule( (ILiteral) l_literal.deepcopy(), (List<IExecution>) this.visitLogicalruledefinition( i ) ) )
+                        .map( i -> new CRule(
+                            (ILiteral) l_literal.deepcopy(),
+                            (List<IExecution>) this.visitLogicalruledefinition( i ),
+                            this.beliefdependencies( i ),
+                            this.ruledependencies( i ),
+                            this.sideeffectfree( i )
+                        ) )
                         .collect( Collectors.toList() );
     }
 
@@ -227,7 +235,14 @@ public final class CASTVisitorPlanBundle extends AbstractParseTreeVisitor<Object
         return p_context.plandefinition().stream().map( i -> {
 
             final Pair<IExpression, List<IExecution>> l_content = (Pair<IExpression, List<IExecution>>) this.visitPlandefinition( i );
-            return new CPlan( l_trigger, l_content.getLeft(), l_content.getRight(), l_annotation );
+            return i.expression() == null
+                   ? new CPlan( l_trigger, l_content.getLeft(), l_content.getRight(), l_annotation )
+                   : new CPlan(
+                       l_trigger, l_content.getLeft(), l_content.getRight(), l_annotation,
+                       this.beliefdependencies( i.expression() ),
+                       this.ruledependencies( i.expression() ),
+                       this.sideeffectfree( i.expression() )
+                   );
 
         } ).collect( Collectors.toList() );
     }
@@ -1122,7 +1137,7 @@ public final class CASTVisitorPlanBundle extends AbstractParseTreeVisitor<Object
     @Override
     public final Set<IRule> rules()
     {
-        return new HashSet<>( m_rules.values() );
+        return new LinkedHashSet<>( m_rules.values() );
     }
 
     /**
@@ -1136,5 +1151,53 @@ public final class CASTVisitorPlanBundle extends AbstractParseTreeVisitor<Object
         return new CRulePlaceholder( (ILiteral) this.visitLiteral( p_context.literal() ) );
     }
 
+    /**
+     * returns the functors of all unified beliefs within a parse-tree
+     *
+     * @param p_context parse-tree
+     * @return set of belief functors
+     */
+    protected Set<IPath> beliefdependencies( final ParseTree p_context )
+    {
+        return org.lightjason.agentspeak.grammar.CCommon.flatten( p_context )
+                                                       .filter( i -> i instanceof PlanBundleParser.UnificationContext )
+                                                       .map( i -> ( (ILiteral) this.visitLiteral( ( (PlanBundleParser.UnificationContext) i ).literal() ) ).fqnfunctor() )
+                                                       .collect( Collectors.toSet() );
+    }
+
+    /**
+     * returns the functors of all called rules within a parse-tree
+     *
+     * @param p_context parse-tree
+     * @return set of rule functors
+     */
+    protected Set<IPath> ruledependencies( final ParseTree p_context )
+    {
+        return org.lightjason.agentspeak.grammar.CCommon.flatten( p_context )
+                                                       .filter( i -> i instanceof PlanBundleParser.Executable_ruleContext )
+                                                       .filter( i -> ( (PlanBundleParser.Executable_ruleContext) i ).literal() != null )
+                                                       .map( i -> ( (ILiteral) this.visitLiteral( ( (PlanBundleParser.Executable_ruleContext) i ).literal() ) ).fqnfunctor() )
+                                                       .collect( Collectors.toSet() );
+    }
+
+    /**
+     * checks that a parse-tree is free of side-effects, so it does
+     * not contain any action, belief change, goal or dynamic rule call
+     *
+     * @param p_context parse-tree
+     * @return side-effect-free flag
+     */
+    protected boolean sideeffectfree( final ParseTree p_context )
+    {
+        return org.lightjason.agentspeak.grammar.CCommon.flatten( p_context )
+                                                       .noneMatch( i -> i instanceof PlanBundleParser.Executable_actionContext
+                                                                        || i instanceof PlanBundleParser.Belief_actionContext
+                                                                        || i instanceof PlanBundleParser.Test_actionContext
+                                                                        || i instanceof PlanBundleParser.Achievement_goal_actionContext
+                                                                        || ( i instanceof PlanBundleParser.Executable_ruleContext
+                                                                             && ( (PlanBundleParser.Executable_ruleContext) i ).literal() == null )
+                                                       );
+    }
+
     // ---------------------------------------------------------------------------------------------------------------------------------------------------------
 }
@@ -27,6 +27,7 @@ import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import org.antlr.v4.runtime.tree.AbstractParseTreeVisitor;
 import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.common.CCommon;
 import org.lightjason.agentspeak.common.CPath;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.CIllegalArgumentException;
@@ -109,7 +110,7 @@ public final class CASTVisitorType extends AbstractParseTreeVisitor<Object> impl
      */
     public CASTVisitorType( final Set<IAction> p_actions, final Set<IRule> p_rules )
     {
-        m_actions = p_actions.stream().collect( Collectors.toMap( i -> i.name(), i -> i ) );
+        m_actions = CCommon.actionmap( p_actions );
         p_rules.stream().forEach( i -> m_rules.put( i.getIdentifier().fqnfunctor(), i ) );
     }
 
@@ -157,7 +158,7 @@ public final class CASTVisitorType extends AbstractParseTreeVisitor<Object> impl
         if ( p_context.ternary_operation() != null )
             return this.visitTernary_operation( p_context.ternary_operation() );
 
-        throw new CIllegalArgumentException( org.lightjason.agentspeak.common.CCommon.languagestring( this, "termunknown", p_context.getText() ) );
+        throw new CIllegalArgumentException( CCommon.languagestring( this, "termunknown", p_context.getText() ) );
     }
 
     // ---------------------------------------------------------------------------------------------------------------------------------------------------------
@@ -282,7 +283,7 @@ public final class CASTVisitorType extends AbstractParseTreeVisitor<Object> impl
         if ( p_context.ternary_operation() != null )
             return this.visitTernary_operation( p_context.ternary_operation() );
 
-        throw new CIllegalArgumentException( org.lightjason.agentspeak.common.CCommon.languagestring( this, "termunknown", p_context.getText() ) );
+        throw new CIllegalArgumentException( CCommon.languagestring( this, "termunknown", p_context.getText() ) );
     }
 
 
@@ -352,7 +353,7 @@ public final class CASTVisitorType extends AbstractParseTreeVisitor<Object> impl
         if ( p_context.getText().equals( "infinity" ) )
             return p_context.MINUS() == null ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
 
-        final Double l_constant = CCommon.NUMERICCONSTANT.get( p_context.getText() );
+        final Double l_constant = org.lightjason.agentspeak.grammar.CCommon.NUMERICCONSTANT.get( p_context.getText() );
         if ( l_constant != null )
             return l_constant;
 
@@ -411,7 +412,7 @@ public final class CASTVisitorType extends AbstractParseTreeVisitor<Object> impl
             return this.visitExpression_bracket( p_context.expression_bracket() );
 
         // or-expression
-        return CCommon.createLogicalBinaryExpression(
+        return org.lightjason.agentspeak.grammar.CCommon.createLogicalBinaryExpression(
             EOperator.OR,
             (IExpression) this.visitExpression_logical_and( p_context.expression_logical_and() ),
             p_context.expression() != null
@@ -434,7 +435,7 @@ public final class CASTVisitorType extends AbstractParseTreeVisitor<Object> impl
     @Override
     public final Object visitExpression_logical_and( final TypeParser.Expression_logical_andContext p_context )
     {
-        return CCommon.createLogicalBinaryExpression(
+        return org.lightjason.agentspeak.grammar.CCommon.createLogicalBinaryExpression(
             EOperator.AND,
             (IExpression) this.visitExpression_logical_xor( p_context.expression_logical_xor() ),
             p_context.expression() != null
@@ -450,7 +451,7 @@ public final class CASTVisitorType extends AbstractParseTreeVisitor<Object> impl
     public final Object visitExpression_logical_xor( final TypeParser.Expression_logical_xorContext p_context )
     {
         if ( p_context.expression_logical_element() != null )
-            return CCommon.createLogicalBinaryExpression(
+            return org.lightjason.agentspeak.grammar.CCommon.createLogicalBinaryExpression(
                 EOperator.XOR,
                 (IExpression) this.visitExpression_logical_element( p_context.expression_logical_element() ),
                 p_context.expression() != null
@@ -465,7 +466,7 @@ public final class CASTVisitorType extends AbstractParseTreeVisitor<Object> impl
         if ( p_context.expression_numeric() != null )
             return this.visitExpression_numeric( p_context.expression_numeric() );
 
-        throw new CSyntaxErrorException( org.lightjason.agentspeak.common.CCommon.languagestring( this, "logicallefthandside", p_context.getText() ) );
+        throw new CSyntaxErrorException( CCommon.languagestring( this, "logicallefthandside", p_context.getText() ) );
     }
 
 
@@ -496,7 +497,7 @@ public final class CASTVisitorType extends AbstractParseTreeVisitor<Object> impl
         if ( p_context.executable_rule() != null )
             return new CProxyReturnExpression<>( (IExecution) this.visitExecutable_rule( p_context.executable_rule() ) );
 
-        throw new CSyntaxErrorException( org.lightjason.agentspeak.common.CCommon.languagestring( this, "logicalelement", p_context.getText() ) );
+        throw new CSyntaxErrorException( CCommon.languagestring( this, "logicalelement", p_context.getText() ) );
     }
 
 
@@ -521,7 +522,7 @@ public final class CASTVisitorType extends AbstractParseTreeVisitor<Object> impl
                 (IExpression) this.visitExpression_numeric( p_context.expression_numeric() )
             );
 
-        throw new CSyntaxErrorException( org.lightjason.agentspeak.common.CCommon.languagestring( this, "compareoperator", p_context.getText() ) );
+        throw new CSyntaxErrorException( CCommon.languagestring( this, "compareoperator", p_context.getText() ) );
     }
 
 
@@ -560,7 +561,7 @@ public final class CASTVisitorType extends AbstractParseTreeVisitor<Object> impl
                 (IExpression) this.visitExpression_numeric( p_context.expression_numeric() )
             );
 
-        throw new CSyntaxErrorException( org.lightjason.agentspeak.common.CCommon.languagestring( this, "relationaloperator", p_context.getText() ) );
+        throw new CSyntaxErrorException( CCommon.languagestring( this, "relationaloperator", p_context.getText() ) );
     }
 
 
@@ -585,7 +586,7 @@ public final class CASTVisitorType extends AbstractParseTreeVisitor<Object> impl
                 (IExpression) this.visitExpression_numeric( p_context.expression_numeric() )
             );
 
-        throw new CSyntaxErrorException( org.lightjason.agentspeak.common.CCommon.languagestring( this, "additiveoperator", p_context.getText() ) );
+        throw new CSyntaxErrorException( CCommon.languagestring( this, "additiveoperator", p_context.getText() ) );
     }
 
 
@@ -617,7 +618,7 @@ public final class CASTVisitorType extends AbstractParseTreeVisitor<Object> impl
                 (IExpression) this.visitExpression_numeric( p_context.expression_numeric() )
             );
 
-        throw new CSyntaxErrorException( org.lightjason.agentspeak.common.CCommon.languagestring( this, "multiplicativeoperator", p_context.getText() ) );
+        throw new CSyntaxErrorException( CCommon.languagestring( this, "multiplicativeoperator", p_context.getText() ) );
     }
 
 
@@ -652,7 +653,7 @@ public final class CASTVisitorType extends AbstractParseTreeVisitor<Object> impl
         if ( p_context.executable_rule() != null )
             return new CProxyReturnExpression<>( (IExecution) this.visitExecutable_rule( p_context.executable_rule() ) );
 
-        throw new CSyntaxErrorException( org.lightjason.agentspeak.common.CCommon.languagestring( this, "numericelement", p_context.getText() ) );
+        throw new CSyntaxErrorException( CCommon.languagestring( this, "numericelement", p_context.getText() ) );
     }
 
     @Override
@@ -24,6 +24,7 @@
 package org.lightjason.agentspeak.grammar;
 
 import com.codepoetics.protonpack.StreamUtils;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.lightjason.agentspeak.error.CSyntaxErrorException;
 import org.lightjason.agentspeak.language.execution.expression.EOperator;
 import org.lightjason.agentspeak.language.execution.expression.IExpression;
@@ -36,6 +37,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -114,4 +116,19 @@ public final class CCommon
 
         return l_expression.get( 0 );
     }
+
+    /**
+     * flats a parse-tree into a stream of all
+     * nodes, the root node is the first element
+     *
+     * @param p_tree parse-tree
+     * @return stream of the tree nodes
+     */
+    static Stream<ParseTree> flatten( final ParseTree p_tree )
+    {
+        return Stream.concat(
+            Stream.of( p_tree ),
+            IntStream.range( 0, p_tree.getChildCount() ).boxed().flatMap( i -> flatten( p_tree.getChild( i ) ) )
+        );
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.grammar;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
+import org.apache.commons.lang3.tuple.Triple;
+import org.lightjason.agentspeak.action.IAction;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+
+/**
+ * parser with a cache of the compiled sources, the source is
+ * hashed and the visitor result is reused for the same source,
+ * parser and action instances, so the source is parsed once
+ *
+ * @tparam T visitor type
+ * @note the visitor result is shared, so plans, rules and initial
+ * beliefs must not be modified, a changed source creates a new hash
+ * so an outdated result is never used
+ */
+public final class CParserCache<T extends IASTVisitor> implements IParser<T>
+{
+    /**
+     * maximum number of cached sources
+     */
+    static final int CAPACITY = 256;
+    /**
+     * cache with parser class, source hash and action instances as key
+     */
+    private static final Cache<Triple<Class<?>, HashCode, Set<IAction>>, IASTVisitor> CACHE = CacheBuilder.newBuilder()
+                                                                                                         .maximumSize( CAPACITY )
+                                                                                                         .softValues()
+                                                                                                         .build();
+    /**
+     * parser
+     */
+    private final IParser<T> m_parser;
+    /**
+     * action instances, which are bound by the parser
+     */
+    private final Set<IAction> m_actions;
+
+
+    /**
+     * ctor
+     *
+     * @param p_parser parser
+     * @param p_actions action instances, which are used by the parser
+     */
+    public CParserCache( final IParser<T> p_parser, final Set<IAction> p_actions )
+    {
+        m_parser = p_parser;
+
+        // actions are compared by name, but the parser binds the instances
+        final Set<IAction> l_actions = Collections.newSetFromMap( new IdentityHashMap<>() );
+        l_actions.addAll( p_actions );
+        m_actions = Collections.unmodifiableSet( l_actions );
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public final T parse( final InputStream p_stream ) throws Exception
+    {
+        final byte[] l_source = ByteStreams.toByteArray( p_stream );
+        try
+        {
+            return (T) CACHE.get(
+                new ImmutableTriple<>( m_parser.getClass(), Hashing.sha256().hashBytes( l_source ), m_actions ),
+                () -> m_parser.parse( new ByteArrayInputStream( l_source ) )
+            );
+        }
+        catch ( final ExecutionException | UncheckedExecutionException l_exception )
+        {
+            if ( l_exception.getCause() instanceof Exception )
+                throw (Exception) l_exception.getCause();
+            throw l_exception;
+        }
+    }
+
+    /**
+     * returns the number of cached sources
+     *
+     * @return number of cached sources
+     */
+    static long size()
+    {
+        CACHE.cleanUp();
+        return CACHE.size();
+    }
+
+    /**
+     * clears the cache
+     */
+    public static void clear()
+    {
+        CACHE.invalidateAll();
+    }
+
+}
@@ -23,11 +23,17 @@
 
 package org.lightjason.agentspeak.grammar;
 
+import com.google.common.io.ByteStreams;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
 import org.lightjason.agentspeak.language.instantiable.rule.IRule;
 
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 
@@ -54,10 +60,23 @@ public final class CParserPlanBundle extends IParserBase<IASTVisitorPlanBundle,
     }
 
     @Override
+    @SuppressWarnings( "unchecked" )
     public final IASTVisitorPlanBundle parse( final InputStream p_stream ) throws Exception
     {
+        final String l_source = new String( ByteStreams.toByteArray( p_stream ), StandardCharsets.UTF_8 );
+        final Pair<String, List<Triple<String, Integer, Integer>>> l_elements = this.split( l_source );
+
         final IASTVisitorPlanBundle l_visitor = new CASTVisitorPlanBundle( m_actions, Collections.<IRule>emptySet() );
-        l_visitor.visit( this.parser( p_stream ).planbundle() );
+        if ( l_elements.getRight().size() < CHUNKTHRESHOLD )
+        {
+            l_visitor.visit( this.parser( l_source ).planbundle() );
+            return l_visitor;
+        }
+
+        // on large sources the non-plan elements are parsed with the first plan, because a plan must exist,
+        // all other plans are parsed in parallel and merged in source order
+        l_visitor.visit( this.parser( l_elements.getLeft() ).planbundle() );
+        l_visitor.plans().addAll( this.plans( l_elements.getRight(), i -> (List<IPlan>) l_visitor.visitPlan( i.plan() ) ) );
         return l_visitor;
     }
 
@@ -23,18 +23,40 @@
 
 package org.lightjason.agentspeak.grammar;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.antlr.v4.runtime.ANTLRErrorListener;
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.TokenStream;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
+import org.lightjason.agentspeak.error.CIllegalStateException;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 
 /**
@@ -42,6 +64,21 @@ import java.lang.reflect.InvocationTargetException;
  */
 public abstract class IParserBase<T extends IASTVisitor, L extends Lexer, P extends Parser> implements IParser<T>
 {
+    /**
+     * minimal number of plans to parse the plans in chunks
+     */
+    protected static final int CHUNKTHRESHOLD = 64;
+    /**
+     * maximum number of cached plan sources
+     */
+    private static final int CHUNKCAPACITY = 65536;
+    /**
+     * thread-confined lexer and parser instances, which are reused for each parsing
+     * call within the thread, the prediction caches (DFA) are shared by the generated classes
+     *
+     * @note a parser must not be requested again until the parse-tree of the previous call is visited
+     */
+    private static final ThreadLocal<Map<Class<?>, Recognizer<?, ?>>> INSTANCES = ThreadLocal.withInitial( HashMap::new );
     /**
      * error listener
      */
@@ -54,6 +91,14 @@ public abstract class IParserBase<T extends IASTVisitor, L extends Lexer, P exte
      * ctor parser reference
      */
     private final Constructor<P> m_ctorparser;
+    /**
+     * cache of parsed plans with the hash of the plan source as key, so on parsing
+     * a changed source with the same parser only the changed plans are parsed
+     */
+    private final Cache<HashCode, List<IPlan>> m_chunks = CacheBuilder.newBuilder()
+                                                                      .maximumSize( CHUNKCAPACITY )
+                                                                      .softValues()
+                                                                      .build();
 
 
     /**
@@ -82,17 +127,256 @@ public abstract class IParserBase<T extends IASTVisitor, L extends Lexer, P exte
      */
     protected final P parser( final InputStream p_stream ) throws IOException, IllegalAccessException, InvocationTargetException, InstantiationException
     {
-        final L l_lexer = m_ctorlexer.newInstance( new ANTLRInputStream( p_stream ) );
-        l_lexer.removeErrorListeners();
-        l_lexer.addErrorListener( m_errorlistener );
+        return this.parser( new ANTLRInputStream( p_stream ) );
+    }
+
+    /**
+     * returns a parser component
+     *
+     * @param p_source source
+     * @return parser (for using in visitor interface)
+     *
+     * @throws IllegalAccessException on lexer / parser method access error
+     * @throws InvocationTargetException on lexer / parser invocation error
+     * @throws InstantiationException on lexer / parser instantiation error
+     */
+    protected final P parser( final String p_source ) throws IllegalAccessException, InvocationTargetException, InstantiationException
+    {
+        return this.parser( new ANTLRInputStream( p_source ) );
+    }
+
+    /**
+     * splits a source into the top-level elements, all plans except
+     * the first one are separated from the other elements (beliefs,
+     * initial goal, rules), because a source must contain a plan
+     *
+     * @param p_source source
+     * @return pair with the source of the non-plan elements and the first plan, which keeps
+     * the positions of the elements, and list with plan sources and their line and char position
+     *
+     * @throws IllegalAccessException on lexer method access error
+     * @throws InvocationTargetException on lexer invocation error
+     * @throws InstantiationException on lexer instantiation error
+     * @note each element is terminated by a dot, a dot between
+     * two digits is a floating-point number, a plan starts after the
+     * annotations with a plus or minus
+     */
+    protected final Pair<String, List<Triple<String, Integer, Integer>>> split( final String p_source )
+        throws IllegalAccessException, InvocationTargetException, InstantiationException
+    {
+        final L l_lexer = this.lexer( new ANTLRInputStream( p_source ) );
+        final Map<String, Integer> l_type = l_lexer.getTokenTypeMap();
+        final int l_dot = IParserBase.tokentype( l_type, "DOT" );
+        final int l_digit = IParserBase.tokentype( l_type, "DIGIT" );
+        final List<? extends Token> l_tokens = l_lexer.getAllTokens();
+
+        final StringBuilder l_header = new StringBuilder( p_source );
+        final List<Triple<String, Integer, Integer>> l_plans = new ArrayList<>();
+
+        boolean l_first = true;
+        int l_start = 0;
+        for ( int i = 0; i < l_tokens.size(); i++ )
+        {
+            if ( ( l_tokens.get( i ).getType() != l_dot )
+                 || ( ( i > 0 ) && ( i < l_tokens.size() - 1 )
+                      && ( l_tokens.get( i - 1 ).getType() == l_digit ) && ( l_tokens.get( i + 1 ).getType() == l_digit ) ) )
+                continue;
+
+            // plans are replaced by whitespaces within the header, so the positions of the header elements are not changed
+            final boolean l_plan = IParserBase.isplan( l_tokens.subList( l_start, i ), l_type );
+            if ( l_plan && !l_first )
+            {
+                l_plans.add( new ImmutableTriple<>(
+                    p_source.substring( l_tokens.get( l_start ).getStartIndex(), l_tokens.get( i ).getStopIndex() + 1 ),
+                    l_tokens.get( l_start ).getLine(),
+                    l_tokens.get( l_start ).getCharPositionInLine()
+                ) );
+                IParserBase.blank( l_header, l_tokens.get( l_start ).getStartIndex(), l_tokens.get( i ).getStopIndex() + 1 );
+            }
+
+            l_first = l_first && !l_plan;
+
+            l_start = i + 1;
+        }
+
+        return new ImmutablePair<>( l_header.toString(), l_plans );
+    }
+
+    /**
+     * parses plan sources in parallel, each plan is parsed
+     * by its own parser and unchanged plans are read from the cache
+     *
+     * @param p_plans plan sources with their line and char position
+     * @param p_visitor function to visit the plan rule of a parser
+     * @return ordered list of plans
+     */
+    protected final List<IPlan> plans( final List<Triple<String, Integer, Integer>> p_plans, final Function<P, List<IPlan>> p_visitor )
+    {
+        return p_plans.parallelStream()
+                      .flatMap( i -> {
+                          try
+                          {
+                              return m_chunks.get(
+                                  Hashing.sha256().hashString( i.getLeft(), StandardCharsets.UTF_8 ),
+                                  () -> p_visitor.apply( this.parser( i.getLeft(), i.getMiddle(), i.getRight() ) )
+                              ).stream();
+                          }
+                          catch ( final ExecutionException | UncheckedExecutionException l_exception )
+                          {
+                              if ( l_exception.getCause() instanceof RuntimeException )
+                                  throw (RuntimeException) l_exception.getCause();
+                              throw new CIllegalStateException( l_exception.getCause() );
+                          }
+                      } )
+                      .collect( Collectors.toList() );
+    }
+
+    /**
+     * returns a parser component of a source part,
+     * so positions are reported within the whole source
+     *
+     * @param p_source source part
+     * @param p_line line of the source part
+     * @param p_charposition char position of the source part within the line
+     * @return parser
+     *
+     * @throws IllegalAccessException on lexer / parser method access error
+     * @throws InvocationTargetException on lexer / parser invocation error
+     * @throws InstantiationException on lexer / parser instantiation error
+     */
+    private P parser( final String p_source, final int p_line, final int p_charposition )
+        throws IllegalAccessException, InvocationTargetException, InstantiationException
+    {
+        final L l_lexer = this.lexer( new ANTLRInputStream( p_source ) );
+        l_lexer.setLine( p_line );
+        l_lexer.setCharPositionInLine( p_charposition );
+        return this.parser( l_lexer );
+    }
+
+    /**
+     * returns a parser component
+     *
+     * @param p_stream char stream
+     * @return parser
+     *
+     * @throws IllegalAccessException on lexer / parser method access error
+     * @throws InvocationTargetException on lexer / parser invocation error
+     * @throws InstantiationException on lexer / parser instantiation error
+     */
+    private P parser( final CharStream p_stream ) throws IllegalAccessException, InvocationTargetException, InstantiationException
+    {
+        return this.parser( this.lexer( p_stream ) );
+    }
+
+    /**
+     * returns a parser component
+     *
+     * @param p_lexer lexer
+     * @return parser
+     *
+     * @throws IllegalAccessException on parser method access error
+     * @throws InvocationTargetException on parser invocation error
+     * @throws InstantiationException on parser instantiation error
+     */
+    @SuppressWarnings( "unchecked" )
+    private P parser( final L p_lexer ) throws IllegalAccessException, InvocationTargetException, InstantiationException
+    {
+        final TokenStream l_tokens = new CommonTokenStream( p_lexer );
+        P l_parser = (P) INSTANCES.get().get( m_ctorparser.getDeclaringClass() );
+        if ( l_parser == null )
+        {
+            l_parser = m_ctorparser.newInstance( l_tokens );
+            INSTANCES.get().put( m_ctorparser.getDeclaringClass(), l_parser );
+        }
+        else
+            l_parser.setTokenStream( l_tokens );
 
-        final P l_parser = m_ctorparser.newInstance( new CommonTokenStream( l_lexer ) );
         l_parser.removeErrorListeners();
         l_parser.addErrorListener( m_errorlistener );
 
         return l_parser;
     }
 
+    /**
+     * returns a lexer component
+     *
+     * @param p_stream char stream
+     * @return lexer
+     *
+     * @throws IllegalAccessException on lexer method access error
+     * @throws InvocationTargetException on lexer invocation error
+     * @throws InstantiationException on lexer instantiation error
+     */
+    @SuppressWarnings( "unchecked" )
+    private L lexer( final CharStream p_stream ) throws IllegalAccessException, InvocationTargetException, InstantiationException
+    {
+        L l_lexer = (L) INSTANCES.get().get( m_ctorlexer.getDeclaringClass() );
+        if ( l_lexer == null )
+        {
+            l_lexer = m_ctorlexer.newInstance( p_stream );
+            INSTANCES.get().put( m_ctorlexer.getDeclaringClass(), l_lexer );
+        }
+        else
+            l_lexer.setInputStream( p_stream );
+
+        l_lexer.removeErrorListeners();
+        l_lexer.addErrorListener( m_errorlistener );
+
+        return l_lexer;
+    }
+
+    /**
+     * checks if the tokens of an element define a plan
+     *
+     * @param p_tokens tokens of the element without the dot
+     * @param p_type token types
+     * @return plan flag
+     */
+    private static boolean isplan( final List<? extends Token> p_tokens, final Map<String, Integer> p_type )
+    {
+        // skip annotations, the score annotation has got a bracket argument
+        int l_index = 0;
+        while ( ( l_index < p_tokens.size() ) && ( p_tokens.get( l_index ).getType() == IParserBase.tokentype( p_type, "AT" ) ) )
+        {
+            l_index += 2;
+            if ( ( l_index < p_tokens.size() ) && ( p_tokens.get( l_index ).getType() == IParserBase.tokentype( p_type, "LEFTROUNDBRACKET" ) ) )
+                while ( ( l_index < p_tokens.size() ) && ( p_tokens.get( l_index - 1 ).getType() != IParserBase.tokentype( p_type, "RIGHTROUNDBRACKET" ) ) )
+                    l_index++;
+        }
+
+        return ( l_index < p_tokens.size() )
+               && ( ( p_tokens.get( l_index ).getType() == IParserBase.tokentype( p_type, "PLUS" ) )
+                    || ( p_tokens.get( l_index ).getType() == IParserBase.tokentype( p_type, "MINUS" ) ) );
+    }
+
+    /**
+     * returns the type of a token name
+     *
+     * @param p_type token types
+     * @param p_name token name
+     * @return token type or invalid type if the token does not exist
+     */
+    private static int tokentype( final Map<String, Integer> p_type, final String p_name )
+    {
+        return p_type.getOrDefault( p_name, Token.INVALID_TYPE );
+    }
+
+    /**
+     * replaces a range of a source by whitespaces,
+     * line breaks are kept, so the positions of
+     * the following elements are not changed
+     *
+     * @param p_source source
+     * @param p_start start index
+     * @param p_end end index (exclusive)
+     */
+    private static void blank( final StringBuilder p_source, final int p_start, final int p_end )
+    {
+        IntStream.range( p_start, p_end )
+                 .filter( i -> ( p_source.charAt( i ) != '\n' ) && ( p_source.charAt( i ) != '\r' ) )
+                 .forEach( i -> p_source.setCharAt( i, ' ' ) );
+    }
+
     /**
      * returns the lexer class reference
      *
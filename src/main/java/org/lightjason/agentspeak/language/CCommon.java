@@ -28,11 +28,15 @@ import com.google.common.hash.Hashing;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.CIllegalArgumentException;
 import org.lightjason.agentspeak.language.execution.CContext;
 import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
 import org.lightjason.agentspeak.language.execution.action.unify.IUnifier;
 import org.lightjason.agentspeak.language.instantiable.IInstantiable;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
 import org.lightjason.agentspeak.language.variable.CConstant;
 import org.lightjason.agentspeak.language.variable.IVariable;
@@ -41,9 +45,11 @@ import java.io.UnsupportedEncodingException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -53,6 +59,49 @@ import java.util.stream.Stream;
  */
 public final class CCommon
 {
+    /**
+     * name of the score variable
+     */
+    public static final IPath SCORE = CPath.from( "Score" );
+    /**
+     * name of the cycle variable
+     */
+    public static final IPath CYCLE = CPath.from( "Cycle" );
+    /**
+     * name of the variable with the number of successful plan runs
+     */
+    public static final IPath PLANSUCCESSFUL = CPath.from( "PlanSuccessful" );
+    /**
+     * name of the variable with the number of failed plan runs
+     */
+    public static final IPath PLANFAIL = CPath.from( "PlanFail" );
+    /**
+     * name of the variable with the number of plan runs
+     */
+    public static final IPath PLANRUNS = CPath.from( "PlanRuns" );
+    /**
+     * name of the variable with the ratio of successful plan runs
+     */
+    public static final IPath PLANSUCCESSFULRATIO = CPath.from( "PlanSuccessfulRatio" );
+    /**
+     * name of the variable with the ratio of failed plan runs
+     */
+    public static final IPath PLANFAILRATIO = CPath.from( "PlanFailRatio" );
+    /**
+     * names of the variables, which are injected on each instantiation
+     * with values of the instantiation (score, cycle and plan statistic)
+     */
+    public static final Set<IPath> INJECTEDVARIABLES = Collections.unmodifiableSet(
+        Stream.of( SCORE, CYCLE, PLANSUCCESSFUL, PLANFAIL, PLANRUNS, PLANSUCCESSFULRATIO, PLANFAILRATIO ).collect( Collectors.toSet() )
+    );
+    /**
+     * classes of immutable scalar values
+     */
+    private static final Set<Class<?>> IMMUTABLEVALUE = Collections.unmodifiableSet(
+        Stream.of( Double.class, Float.class, Long.class, Integer.class, Short.class, Byte.class, Boolean.class, Character.class, String.class )
+              .collect( Collectors.toSet() )
+    );
+
     /**
      * private ctor - avoid instantiation
      */
@@ -83,20 +132,42 @@ public final class CCommon
      */
     public static IContext instantiate( final IInstantiable p_instance, final IAgent<?> p_agent, final Stream<IVariable<?>> p_variable )
     {
-        final Set<IVariable<?>> l_variables = p_instance.variables().parallel().map( i -> i.shallowcopy() ).collect( Collectors.toSet() );
-        Stream.of(
-            p_variable,
-            p_agent.variablebuilder().generate( p_agent, p_instance ),
-            Stream.of( new CConstant<>( "Score", p_instance.score( p_agent ) ) ),
-            Stream.of( new CConstant<>( "Cycle", p_agent.cycle() ) )
-        ).reduce( Stream::concat )
-              .orElseGet( Stream::<IVariable<?>>empty )
-              .forEach( i -> {
-                  l_variables.remove( i );
-                  l_variables.add( i );
-              } );
+        return CCommon.instantiate( p_instance, p_agent, p_variable, Collections.emptyMap() );
+    }
 
-        return new CContext( p_agent, p_instance, Collections.unmodifiableSet( l_variables ) );
+    /**
+     * creates the instantiate execution context
+     *
+     * @param p_instance instance object
+     * @param p_agent agent
+     * @param p_variable variable stream
+     * @param p_lazyvariable variables, which are created on the first access
+     * @return context object
+     */
+    public static IContext instantiate( final IInstantiable p_instance, final IAgent<?> p_agent, final Stream<IVariable<?>> p_variable,
+                                        final Map<IPath, Supplier<IVariable<?>>> p_lazyvariable
+    )
+    {
+        final Set<IVariable<?>> l_variables = p_instance.variables().map( IVariable::shallowcopy ).collect( Collectors.toSet() );
+        (
+            IVariableBuilder.EMPTY.equals( p_agent.variablebuilder() )
+            ? p_variable
+            : Stream.concat( p_variable, p_agent.variablebuilder().generate( p_agent, p_instance ) )
+        ).forEach( i -> {
+            l_variables.remove( i );
+            l_variables.add( i );
+        } );
+
+        // score and cycle are created only if the execution reads them, the score aggregates the score of
+        // each action, the cycle is read at instantiation, so a resumed plan gets the cycle of its instantiation,
+        // the variables of the builder cannot be deferred, because their names are not known before the generation
+        final long l_cycle = p_agent.cycle();
+        final Map<IPath, Supplier<IVariable<?>>> l_lazyvariables = new HashMap<>( p_lazyvariable );
+        l_lazyvariables.put( SCORE, () -> new CConstant<>( SCORE, p_instance.score( p_agent ) ) );
+        l_lazyvariables.put( CYCLE, () -> new CConstant<>( CYCLE, l_cycle ) );
+
+        // plan executions can be suspended on blocking calls
+        return new CContext( p_agent, p_instance, Collections.unmodifiableSet( l_variables ), l_lazyvariables, p_instance instanceof IPlan );
     }
 
     /**
@@ -160,6 +231,18 @@ public final class CCommon
         return Arrays.stream( p_class ).map( i -> i.isAssignableFrom( p_value.getClass() ) ).anyMatch( i -> i );
     }
 
+    /**
+     * checks if a raw value is an immutable scalar value,
+     * so it can be stored outside of the execution context
+     *
+     * @param p_value raw value
+     * @return immutable flag
+     */
+    public static boolean rawvalueImmutable( final Object p_value )
+    {
+        return ( p_value != null ) && ( IMMUTABLEVALUE.contains( p_value.getClass() ) );
+    }
+
 
     /**
      * replace variables with context variables
@@ -33,6 +33,7 @@ import com.google.common.collect.Multimap;
 import com.google.common.hash.Hasher;
 import org.lightjason.agentspeak.common.CPath;
 import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.CIllegalStateException;
 import org.lightjason.agentspeak.grammar.CASTVisitorType;
 import org.lightjason.agentspeak.grammar.CErrorListener;
 import org.lightjason.agentspeak.grammar.IASTVisitorType;
@@ -72,6 +73,10 @@ public final class CLiteral implements ILiteral
      * at symbol
      */
     private static final String AT = "@";
+    /**
+     * grammar literal parser
+     */
+    private static final CParser PARSER = CLiteral.grammarparser();
     /**
      * literal annotations
      */
@@ -248,10 +253,15 @@ public final class CLiteral implements ILiteral
      * @return literal
      *
      * @throws Exception parsing and stream exception
+     * @note the common literal structure is parsed by a hand-written parser,
+     * other structures are parsed by the grammar
      */
     public static ILiteral parse( final String p_literal ) throws Exception
     {
-        return new CParser().parse( new ByteArrayInputStream( p_literal.getBytes( Charset.forName( "UTF-8" ) ) ) ).literal();
+        final ILiteral l_literal = CLiteralParser.parse( p_literal );
+        return l_literal != null
+               ? l_literal
+               : PARSER.parse( new ByteArrayInputStream( p_literal.getBytes( Charset.forName( "UTF-8" ) ) ) ).literal();
     }
 
     @Override
@@ -493,6 +503,23 @@ public final class CLiteral implements ILiteral
         );
     }
 
+    /**
+     * creates the grammar literal parser
+     *
+     * @return parser
+     */
+    private static CParser grammarparser()
+    {
+        try
+        {
+            return new CParser();
+        }
+        catch ( final NoSuchMethodException l_exception )
+        {
+            throw new CIllegalStateException( l_exception );
+        }
+    }
+
 
     /**
      * literal parser
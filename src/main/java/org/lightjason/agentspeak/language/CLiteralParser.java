@@ -0,0 +1,300 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language;
+
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.language.variable.CMutexVariable;
+import org.lightjason.agentspeak.language.variable.CVariable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * hand-written parser of the literal structure functor(values)[annotations],
+ * values can be literals, variables, strings, integral and floating-point
+ * numbers and lists, any other structure is not parsed by this parser
+ *
+ * @note the grammar lexer creates tokens of keywords (e.g. constants, logical values)
+ * within identifiers, so identifiers with a keyword are not parsed
+ */
+final class CLiteralParser
+{
+    /**
+     * keywords of the grammar, which can be found within identifiers
+     */
+    private static final String[] KEYWORDS = {
+        "pi", "euler", "gravity", "avogadro", "boltzmann", "electron", "proton", "neutron", "lightspeed", "infinity",
+        "true", "success", "false", "fail", "parallel", "atomic", "score", "--", "//"
+    };
+    /**
+     * whitespace characters of the grammar
+     */
+    private static final String WHITESPACES = " \n\t\r";
+    /**
+     * non-alphanumeric characters of identifiers
+     */
+    private static final String IDENTIFIERSYMBOLS = "_/-";
+    /**
+     * source
+     */
+    private final String m_source;
+    /**
+     * current position
+     */
+    private int m_index;
+
+    /**
+     * ctor
+     *
+     * @param p_source source
+     */
+    private CLiteralParser( final String p_source )
+    {
+        m_source = p_source;
+    }
+
+    /**
+     * parses a literal
+     *
+     * @param p_source source
+     * @return literal or null if the structure cannot be parsed
+     */
+    static ILiteral parse( final String p_source )
+    {
+        final CLiteralParser l_parser = new CLiteralParser( p_source );
+        final ILiteral l_literal = l_parser.literal();
+        l_parser.whitespace();
+
+        return l_parser.m_index == p_source.length() ? l_literal : null;
+    }
+
+    /**
+     * parses a literal
+     *
+     * @return literal or null
+     */
+    @SuppressWarnings( "unchecked" )
+    private ILiteral literal()
+    {
+        this.whitespace();
+        final boolean l_at = this.consume( '@' );
+        final boolean l_negated = !l_at && this.consume( '~' );
+
+        final String l_functor = this.identifier();
+        if ( ( l_functor == null ) || ( !Character.isLowerCase( l_functor.charAt( 0 ) ) ) )
+            return null;
+
+        // optional values
+        this.whitespace();
+        final List<ITerm> l_values = this.consume( '(' ) ? this.terms( ')', true ) : Collections.<ITerm>emptyList();
+        if ( l_values == null )
+            return null;
+
+        // optional annotations
+        this.whitespace();
+        final List<ITerm> l_annotations = this.consume( '[' ) ? this.terms( ']', true ) : Collections.<ITerm>emptyList();
+        if ( ( l_annotations == null ) || ( l_annotations.stream().anyMatch( i -> !( i instanceof ILiteral ) ) ) )
+            return null;
+
+        return new CLiteral( l_at, l_negated, CPath.from( l_functor ), l_values, (Collection<ILiteral>) (Collection<?>) l_annotations );
+    }
+
+    /**
+     * parses a comma-separated list of terms
+     *
+     * @param p_close closing character
+     * @param p_empty empty list is allowed
+     * @return list of terms or null
+     */
+    private List<ITerm> terms( final char p_close, final boolean p_empty )
+    {
+        final List<ITerm> l_terms = new ArrayList<>();
+
+        this.whitespace();
+        if ( this.consume( p_close ) )
+            return p_empty ? l_terms : null;
+
+        do
+        {
+            final ITerm l_term = this.term();
+            if ( l_term == null )
+                return null;
+
+            l_terms.add( l_term );
+            this.whitespace();
+        } while ( this.consume( ',' ) );
+
+        return this.consume( p_close ) ? l_terms : null;
+    }
+
+    /**
+     * parses a single term
+     *
+     * @return term or null
+     */
+    private ITerm term()
+    {
+        this.whitespace();
+        if ( m_index >= m_source.length() )
+            return null;
+
+        final char l_char = m_source.charAt( m_index );
+        if ( ( l_char == '"' ) || ( l_char == '\'' ) )
+            return this.string( l_char );
+        if ( ( Character.isDigit( l_char ) ) || ( l_char == '-' ) )
+            return this.number();
+        if ( l_char == '[' )
+        {
+            m_index++;
+            final List<ITerm> l_list = this.terms( ']', false );
+            return l_list == null ? null : CRawTerm.from( l_list );
+        }
+
+        // variable with optional mutex definition
+        final int l_start = m_index;
+        final boolean l_mutex = this.consume( '@' );
+        final String l_identifier = this.identifier();
+        if ( ( l_identifier != null ) && ( ( Character.isUpperCase( l_identifier.charAt( 0 ) ) ) || ( l_identifier.charAt( 0 ) == '_' ) ) )
+            return l_identifier.contains( "-" )
+                   ? null
+                   : l_mutex ? new CMutexVariable<>( "@" + l_identifier ) : new CVariable<>( l_identifier );
+
+        m_index = l_start;
+        return this.literal();
+    }
+
+    /**
+     * parses a quoted string
+     *
+     * @param p_quote quote character
+     * @return string term or null
+     */
+    private ITerm string( final char p_quote )
+    {
+        final int l_end = m_source.indexOf( p_quote, m_index + 1 );
+        if ( l_end < 0 )
+            return null;
+
+        final String l_string = m_source.substring( m_index + 1, l_end );
+        m_index = l_end + 1;
+        return CRawTerm.from( l_string );
+    }
+
+    /**
+     * parses an integral or floating-point number
+     *
+     * @return number term or null
+     */
+    private ITerm number()
+    {
+        final int l_start = m_index;
+        this.consume( '-' );
+
+        final int l_integral = this.digits();
+        if ( l_integral == 0 )
+            return null;
+        if ( ( m_index + 1 < m_source.length() ) && ( m_source.charAt( m_index ) == '.' ) && ( Character.isDigit( m_source.charAt( m_index + 1 ) ) ) )
+        {
+            m_index++;
+            this.digits();
+            return CRawTerm.from( Double.valueOf( m_source.substring( l_start, m_index ) ) );
+        }
+
+        return CRawTerm.from( Long.valueOf( m_source.substring( l_start, m_index ) ) );
+    }
+
+    /**
+     * reads digits
+     *
+     * @return number of digits
+     */
+    private int digits()
+    {
+        final int l_start = m_index;
+        while ( ( m_index < m_source.length() ) && ( m_source.charAt( m_index ) >= '0' ) && ( m_source.charAt( m_index ) <= '9' ) )
+            m_index++;
+        return m_index - l_start;
+    }
+
+    /**
+     * reads an identifier of an atom or variable
+     *
+     * @return identifier or null if it is not an identifier or contains a keyword
+     */
+    private String identifier()
+    {
+        final int l_start = m_index;
+        while ( ( m_index < m_source.length() ) && ( CLiteralParser.identifiercharacter( m_source.charAt( m_index ) ) ) )
+            m_index++;
+
+        if ( l_start == m_index )
+            return null;
+
+        final String l_identifier = m_source.substring( l_start, m_index );
+        return ( !Character.isLetter( l_identifier.charAt( 0 ) ) && ( l_identifier.charAt( 0 ) != '_' ) )
+               || ( Stream.of( KEYWORDS ).anyMatch( l_identifier::contains ) )
+               ? null
+               : l_identifier;
+    }
+
+    /**
+     * skips whitespaces
+     */
+    private void whitespace()
+    {
+        while ( ( m_index < m_source.length() ) && ( WHITESPACES.indexOf( m_source.charAt( m_index ) ) > -1 ) )
+            m_index++;
+    }
+
+    /**
+     * consumes a character
+     *
+     * @param p_char character
+     * @return true if the character is consumed
+     */
+    private boolean consume( final char p_char )
+    {
+        if ( ( m_index >= m_source.length() ) || ( m_source.charAt( m_index ) != p_char ) )
+            return false;
+
+        m_index++;
+        return true;
+    }
+
+    /**
+     * checks a character of an identifier
+     *
+     * @param p_char character
+     * @return true if the character is allowed
+     */
+    private static boolean identifiercharacter( final char p_char )
+    {
+        return ( p_char < 128 ) && ( ( Character.isLetterOrDigit( p_char ) ) || ( IDENTIFIERSYMBOLS.indexOf( p_char ) > -1 ) );
+    }
+
+}
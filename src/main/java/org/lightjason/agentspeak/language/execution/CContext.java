@@ -23,17 +23,29 @@
 
 package org.lightjason.agentspeak.language.execution;
 
+import com.google.common.collect.Sets;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.common.CCommon;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.CIllegalArgumentException;
+import org.lightjason.agentspeak.error.CSuspendException;
 import org.lightjason.agentspeak.language.instantiable.IInstantiable;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import java.text.MessageFormat;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 
@@ -56,6 +68,10 @@ public final class CContext implements IContext
      * plan variables with their data
      */
     private final Map<IPath, IVariable<?>> m_variables;
+    /**
+     * blocking calls of a suspendable context
+     */
+    private final CSuspension m_suspension;
 
 
     /**
@@ -67,12 +83,44 @@ public final class CContext implements IContext
      */
     public CContext( final IAgent<?> p_agent, final IInstantiable p_instance, final Collection<IVariable<?>> p_variables )
     {
-        if ( ( p_agent == null ) || ( p_instance == null ) || ( p_variables == null ) )
+        this( p_agent, p_instance, p_variables, false );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_agent agent
+     * @param p_instance instance object
+     * @param p_variables instance variables
+     * @param p_suspendable execution can be suspended on blocking calls
+     */
+    public CContext( final IAgent<?> p_agent, final IInstantiable p_instance, final Collection<IVariable<?>> p_variables, final boolean p_suspendable )
+    {
+        this( p_agent, p_instance, p_variables, Collections.emptyMap(), p_suspendable );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_agent agent
+     * @param p_instance instance object
+     * @param p_variables instance variables
+     * @param p_lazyvariables variables, which are created on the first access
+     * @param p_suspendable execution can be suspended on blocking calls
+     */
+    public CContext( final IAgent<?> p_agent, final IInstantiable p_instance, final Collection<IVariable<?>> p_variables,
+                     final Map<IPath, Supplier<IVariable<?>>> p_lazyvariables, final boolean p_suspendable
+    )
+    {
+        if ( ( p_agent == null ) || ( p_instance == null ) || ( p_variables == null ) || ( p_lazyvariables == null ) )
             throw new CIllegalArgumentException( CCommon.languagestring( this, "notnull" ) );
 
         m_agent = p_agent;
         m_instance = p_instance;
-        m_variables = Collections.unmodifiableMap( p_variables.parallelStream().collect( Collectors.toMap( IVariable::fqnfunctor, i -> i ) ) );
+        m_variables = p_lazyvariables.isEmpty()
+                      ? Collections.unmodifiableMap( p_variables.parallelStream().collect( Collectors.toMap( IVariable::fqnfunctor, i -> i ) ) )
+                      : new CLazyVariables( p_variables, p_lazyvariables );
+        m_suspension = p_suspendable ? new CSuspension() : null;
     }
 
     @Override
@@ -99,6 +147,53 @@ public final class CContext implements IContext
         return m_variables;
     }
 
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public final <T> T await( final Object p_key, final Callable<T> p_call )
+    {
+        // blocking calls outside of a suspendable execution are run directly
+        if ( ( m_suspension == null ) || ( m_suspension.m_owner != Thread.currentThread() ) )
+            return CContext.call( p_call );
+
+        // finished call of a resumed execution
+        final CompletableFuture<?> l_future = m_suspension.replay( p_key );
+        if ( l_future != null )
+            return (T) l_future.join();
+
+        final CompletableFuture<T> l_call = CompletableFuture.supplyAsync( () -> CContext.call( p_call ), m_agent.executor().blocking() );
+        m_suspension.m_calls.add( new ImmutablePair<>( p_key, l_call ) );
+        throw new CSuspendException( l_call );
+    }
+
+    @Override
+    public final <T> T suspendable( final Supplier<T> p_execution )
+    {
+        if ( m_suspension == null )
+            return p_execution.get();
+
+        m_suspension.m_owner = Thread.currentThread();
+        m_suspension.m_cursor = 0;
+        try
+        {
+            final T l_result = p_execution.get();
+            m_suspension.m_calls.clear();
+            return l_result;
+        }
+        catch ( final CSuspendException l_exception )
+        {
+            throw l_exception;
+        }
+        catch ( final RuntimeException | Error l_exception )
+        {
+            m_suspension.m_calls.clear();
+            throw l_exception;
+        }
+        finally
+        {
+            m_suspension.m_owner = null;
+        }
+    }
+
     @Override
     public final int hashCode()
     {
@@ -117,4 +212,124 @@ public final class CContext implements IContext
         return MessageFormat.format( "{0} [{1} | {2} | {3}]", super.toString(), m_variables, m_instance, m_agent );
     }
 
+    /**
+     * runs a blocking call
+     *
+     * @param p_call call
+     * @return result of the call
+     */
+    private static <T> T call( final Callable<T> p_call )
+    {
+        try
+        {
+            return p_call.call();
+        }
+        catch ( final Exception l_exception )
+        {
+            throw new CompletionException( l_exception );
+        }
+    }
+
+    /**
+     * unmodifiable variable map, which creates
+     * variables on the first access
+     */
+    private static final class CLazyVariables extends AbstractMap<IPath, IVariable<?>>
+    {
+        /**
+         * created variables
+         */
+        private final Map<IPath, IVariable<?>> m_variables;
+        /**
+         * variable suppliers
+         */
+        private final Map<IPath, Supplier<IVariable<?>>> m_lazyvariables;
+
+        /**
+         * ctor
+         *
+         * @param p_variables variables
+         * @param p_lazyvariables variable suppliers
+         */
+        CLazyVariables( final Collection<IVariable<?>> p_variables, final Map<IPath, Supplier<IVariable<?>>> p_lazyvariables )
+        {
+            m_lazyvariables = p_lazyvariables;
+            m_variables = p_variables.stream()
+                                     .filter( i -> !p_lazyvariables.containsKey( i.fqnfunctor() ) )
+                                     .collect( Collectors.toConcurrentMap( IVariable::fqnfunctor, i -> i ) );
+        }
+
+        @Override
+        public final IVariable<?> get( final Object p_key )
+        {
+            final IVariable<?> l_variable = m_variables.get( p_key );
+            if ( l_variable != null )
+                return l_variable;
+
+            final Supplier<IVariable<?>> l_supplier = m_lazyvariables.get( p_key );
+            return l_supplier == null ? null : m_variables.computeIfAbsent( (IPath) p_key, i -> l_supplier.get() );
+        }
+
+        @Override
+        public final boolean containsKey( final Object p_key )
+        {
+            return m_variables.containsKey( p_key ) || m_lazyvariables.containsKey( p_key );
+        }
+
+        @Override
+        public final Set<IPath> keySet()
+        {
+            return Collections.unmodifiableSet( Sets.union( m_variables.keySet(), m_lazyvariables.keySet() ) );
+        }
+
+        @Override
+        public final Set<Entry<IPath, IVariable<?>>> entrySet()
+        {
+            m_lazyvariables.keySet().forEach( this::get );
+            return Collections.unmodifiableMap( m_variables ).entrySet();
+        }
+    }
+
+
+    /**
+     * blocking calls of a suspended execution, the calls are
+     * stored in their order, so that a resumed execution gets
+     * the results of the finished calls
+     */
+    private static final class CSuspension
+    {
+        /**
+         * blocking calls with their keys
+         */
+        private final List<Pair<Object, CompletableFuture<?>>> m_calls = new ArrayList<>();
+        /**
+         * thread, which runs the suspendable execution
+         */
+        private volatile Thread m_owner;
+        /**
+         * index of the next replayed call
+         */
+        private int m_cursor;
+
+        /**
+         * returns the finished call of a resumed execution,
+         * if the execution calls another key, the following
+         * calls are dropped
+         *
+         * @param p_key key of the call
+         * @return future or null
+         */
+        private CompletableFuture<?> replay( final Object p_key )
+        {
+            if ( m_cursor >= m_calls.size() )
+                return null;
+
+            if ( m_calls.get( m_cursor ).getLeft().equals( p_key ) )
+                return m_calls.get( m_cursor++ ).getRight();
+
+            m_calls.subList( m_cursor, m_calls.size() ).clear();
+            return null;
+        }
+    }
+
 }
@@ -29,6 +29,8 @@ import org.lightjason.agentspeak.language.instantiable.IInstantiable;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 
 
 /**
@@ -65,4 +67,33 @@ public interface IContext
      */
     IContext duplicate();
 
+    /**
+     * runs a blocking call, within a suspendable execution the call
+     * is run asynchronous and the execution is suspended, so the blocking
+     * call does not block the agent, on the resumed execution the calls
+     * are replayed in their order, so each call returns the result of its
+     * finished call, outside of a suspendable execution the call is run directly
+     *
+     * @param p_key key of the call
+     * @param p_call blocking call
+     * @return result of the call
+     *
+     * @throws org.lightjason.agentspeak.error.CSuspendException is thrown if the execution is suspended
+     * @throws java.util.concurrent.CompletionException is thrown if the call is failed
+     */
+    <T> T await( final Object p_key, final Callable<T> p_call );
+
+    /**
+     * runs an execution, which can be suspended by blocking
+     * calls of the calling thread, the execution is repeated
+     * on resuming, so it must not have side effects before
+     * the last blocking call
+     *
+     * @param p_execution execution
+     * @return result of the execution
+     *
+     * @throws org.lightjason.agentspeak.error.CSuspendException is thrown if the execution is suspended
+     */
+    <T> T suspendable( final Supplier<T> p_execution );
+
 }
@@ -114,7 +114,9 @@ public final class CLambdaExpression extends IBaseExecution<IVariable<?>>
             return CFuzzyValue.from( false );
 
         // run lambda expression
-        final List<?> l_return = m_parallel ? this.executeParallel( p_context, l_initialization ) : this.executeSequential( p_context, l_initialization );
+        final List<?> l_return = m_parallel && !p_context.agent().executor().deterministic()
+                                 ? this.executeParallel( p_context, l_initialization )
+                                 : this.executeSequential( p_context, l_initialization );
         if ( m_return != null )
             ( (IVariable<List<?>>) CCommon.replaceFromContext( p_context, m_return ) ).set( l_return );
 
@@ -89,6 +89,16 @@ public final class CMultiAssignment<M extends IExecution> extends IBaseExecution
         return CFuzzyValue.from( true );
     }
 
+    /**
+     * returns the right-hand execution
+     *
+     * @return execution
+     */
+    public final M righthand()
+    {
+        return m_righthand;
+    }
+
     @Override
     public final int hashCode()
     {
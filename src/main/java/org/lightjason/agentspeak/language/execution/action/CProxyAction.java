@@ -41,13 +41,13 @@ import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -67,6 +67,10 @@ public final class CProxyAction implements IExecution
      * cache list of all used actions for calculating score value
      */
     private final Multiset<IAction> m_scoringcache;
+    /**
+     * flag that the action has no inner actions
+     */
+    private final boolean m_suspendable;
 
     /**
      * ctor
@@ -79,6 +83,7 @@ public final class CProxyAction implements IExecution
         // create cache for scoring action and define action
         final Multiset<IAction> l_scoringcache = HashMultiset.create();
         m_execution = new CActionWrapper( p_literal, p_actions, l_scoringcache );
+        m_suspendable = l_scoringcache.size() == 1;
 
         // scoring set is created so build-up to an unmodifieable set
         m_scoringcache = ImmutableMultiset.copyOf( l_scoringcache );
@@ -111,6 +116,18 @@ public final class CProxyAction implements IExecution
         return MessageFormat.format( "{0}", m_execution );
     }
 
+    /**
+     * returns if the action execution can be suspended,
+     * so the action must not have inner actions, because
+     * a resumed execution runs the inner actions again
+     *
+     * @return suspendable flag
+     */
+    public final boolean suspendable()
+    {
+        return m_suspendable;
+    }
+
     /**
      * inner class for encapsulating term values (variable / raw terms)
      */
@@ -199,15 +216,21 @@ public final class CProxyAction implements IExecution
          */
         private final IAction m_action;
         /**
-         * arguments as map with index for prevent
-         * result order on parallel execution
+         * arguments in order of the literal
+         */
+        private final IExecution[] m_arguments;
+        /**
+         * annotation in order of the literal
+         */
+        private final IExecution[] m_annotation;
+        /**
+         * argument values, if all arguments are constant, otherwise null
          */
-        private final Map<Integer, IExecution> m_arguments;
+        private final List<ITerm> m_constantarguments;
         /**
-         * annotation as map with index for prevent
-         * result order on parallel execution
+         * annotation values, if all annotations are constant, otherwise null
          */
-        private final Map<Integer, IExecution> m_annotation;
+        private final List<ITerm> m_constantannotation;
 
 
         /**
@@ -236,23 +259,23 @@ public final class CProxyAction implements IExecution
             p_scorecache.add( m_action );
 
 
-            // resolve action arguments and annotation
-            m_arguments = Collections.unmodifiableMap(
-                this.createSubExecutions( p_literal.orderedvalues().collect( Collectors.toList() ), p_actions, p_scorecache ) );
-            m_annotation = Collections.unmodifiableMap(
-                this.createSubExecutions( p_literal.annotations().collect( Collectors.toSet() ), p_actions, p_scorecache ) );
+            // resolve action arguments and annotation, constant values are folded, so they are not evaluated on each call
+            m_arguments = this.createSubExecutions( p_literal.orderedvalues().collect( Collectors.toList() ), p_actions, p_scorecache );
+            m_annotation = this.createSubExecutions( p_literal.annotations().collect( Collectors.toSet() ), p_actions, p_scorecache );
+            m_constantarguments = CActionWrapper.constantvalues( m_arguments );
+            m_constantannotation = CActionWrapper.constantvalues( m_annotation );
         }
 
         @Override
         public final int hashCode()
         {
-            return m_action.hashCode() + m_arguments.hashCode();
+            return m_action.hashCode() + Arrays.hashCode( m_arguments );
         }
 
         @Override
         public final String toString()
         {
-            return MessageFormat.format( "{0}({1})[{2}]", m_action, StringUtils.join( m_arguments.values(), ", " ), "" );
+            return MessageFormat.format( "{0}({1})[{2}]", m_action, StringUtils.join( m_arguments, ", " ), "" );
         }
 
         @Override
@@ -268,8 +291,9 @@ public final class CProxyAction implements IExecution
         {
             return m_action.execute(
                 p_context, m_parallel,
-                this.subexecute( p_context, m_arguments ), p_return,
-                this.subexecute( p_context, m_annotation )
+                m_constantarguments == null ? this.subexecute( p_context, m_arguments ) : m_constantarguments,
+                p_return,
+                m_constantannotation == null ? this.subexecute( p_context, m_annotation ) : m_constantannotation
             );
         }
 
@@ -286,48 +310,84 @@ public final class CProxyAction implements IExecution
         }
 
         /**
-         * builds the map of execution arguments
+         * builds the execution arguments
          *
          * @param p_elements collection with literal elements (term- / literal list of attributes & annotations)
          * @param p_actions map with actions
          * @param p_scorecache store cache
          * @return ordered execution structure
          */
-        @SuppressWarnings( "unchecked" )
-        private Map<Integer, IExecution> createSubExecutions( final Collection<? extends ITerm> p_elements, final Map<IPath, IAction> p_actions,
-                                                              final Multiset<IAction> p_scorecache
+        private IExecution[] createSubExecutions( final Collection<? extends ITerm> p_elements, final Map<IPath, IAction> p_actions,
+                                                  final Multiset<IAction> p_scorecache
         )
         {
-            // convert collection to list and build map with indices
-            final List<? extends ITerm> l_elements = new LinkedList<>( p_elements );
-            return IntStream.range( 0, l_elements.size() ).boxed().collect( Collectors.toMap( i -> i, i -> {
-                final ITerm l_term = l_elements.get( i );
-                return l_term instanceof ILiteral ? new CActionWrapper( (ILiteral) l_term, p_actions, p_scorecache ) : new CTermWrapper<>( l_term );
-            } ) );
+            return p_elements.stream()
+                             .map( i -> i instanceof ILiteral ? new CActionWrapper( (ILiteral) i, p_actions, p_scorecache ) : new CTermWrapper<>( i ) )
+                             .toArray( IExecution[]::new );
+        }
+
+        /**
+         * returns the values of constant executions
+         *
+         * @param p_execution execution elements
+         * @return unmodifiable value list or null if any element is not a constant
+         */
+        private static List<ITerm> constantvalues( final IExecution[] p_execution )
+        {
+            if ( p_execution.length == 0 )
+                return Collections.emptyList();
+
+            final List<ITerm> l_values = new ArrayList<>( p_execution.length );
+            for ( final IExecution l_execution : p_execution )
+            {
+                if ( !( l_execution instanceof CTermWrapper<?> ) || ( ( (CTermWrapper<?>) l_execution ).m_value instanceof IVariable<?> ) )
+                    return null;
+                l_values.add( ( (CTermWrapper<?>) l_execution ).m_value );
+            }
+
+            return Collections.unmodifiableList( l_values );
         }
 
         /**
          * execute inner structures
          *
          * @param p_context context structure
-         * @param p_execution map with execution elements
+         * @param p_execution execution elements
          * @return return arguments of execution (flat list)
          */
-        @SuppressWarnings( "unchecked" )
-        private List<ITerm> subexecute( final IContext p_context, final Map<Integer, IExecution> p_execution )
+        private List<ITerm> subexecute( final IContext p_context, final IExecution[] p_execution )
         {
-            return Collections.unmodifiableList( CCommon.replaceFromContext(
-                p_context,
-                (Collection<? extends ITerm>) ( m_parallel ? p_execution.entrySet().parallelStream() : p_execution.entrySet().stream() )
-                    .flatMap( i -> {
-
-                        final List<ITerm> l_return = new LinkedList<ITerm>();
-                        i.getValue().execute(
-                            p_context, m_parallel, Collections.<ITerm>emptyList(), l_return, Collections.<ITerm>emptyList() );
-                        return l_return.stream();
-
-                    } ).collect( Collectors.toList() )
-            ) );
+            if ( m_parallel )
+                return Collections.unmodifiableList( CCommon.replaceFromContext(
+                    p_context,
+                    Arrays.stream( p_execution )
+                          .parallel()
+                          .flatMap( i -> {
+                              final List<ITerm> l_return = new ArrayList<>();
+                              i.execute( p_context, m_parallel, Collections.<ITerm>emptyList(), l_return, Collections.<ITerm>emptyList() );
+                              return l_return.stream();
+                          } )
+                          .collect( Collectors.toList() )
+                ) );
+
+            // sequential execution writes the values directly into the argument list, terms
+            // are replaced by the context variables, inner actions append their return values
+            final List<ITerm> l_arguments = new ArrayList<>( p_execution.length );
+            for ( final IExecution l_execution : p_execution )
+            {
+                if ( l_execution instanceof CTermWrapper<?> )
+                {
+                    l_arguments.add( CCommon.replaceFromContext( p_context, ( (CTermWrapper<?>) l_execution ).m_value ) );
+                    continue;
+                }
+
+                final int l_offset = l_arguments.size();
+                l_execution.execute( p_context, m_parallel, Collections.<ITerm>emptyList(), l_arguments, Collections.<ITerm>emptyList() );
+                for ( int j = l_offset; j < l_arguments.size(); j++ )
+                    l_arguments.set( j, CCommon.replaceFromContext( p_context, l_arguments.get( j ) ) );
+            }
+
+            return Collections.unmodifiableList( l_arguments );
         }
     }
 
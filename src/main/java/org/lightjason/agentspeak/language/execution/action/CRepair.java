@@ -56,6 +56,18 @@ public class CRepair extends IBaseExecution<IExecution>
         m_fallback = p_fallback;
     }
 
+    @Override
+    public final int hashCode()
+    {
+        return m_value.hashCode() + m_fallback.hashCode();
+    }
+
+    @Override
+    public final boolean equals( final Object p_object )
+    {
+        return ( p_object != null ) && ( p_object instanceof IExecution ) && ( this.hashCode() == p_object.hashCode() );
+    }
+
     @Override
     public IFuzzyValue<Boolean> execute( final IContext p_context, final boolean p_parallel, final List<ITerm> p_argument, final List<ITerm> p_return,
                                          final List<ITerm> p_annotation
@@ -76,6 +76,16 @@ public final class CSingleAssignment<M extends IExecution> extends IBaseExecutio
         return CFuzzyValue.from( true );
     }
 
+    /**
+     * returns the right-hand execution
+     *
+     * @return execution
+     */
+    public final M righthand()
+    {
+        return m_righthand;
+    }
+
     @Override
     public final int hashCode()
     {
@@ -74,9 +74,10 @@ abstract class IAchievementRule<T extends ITerm> extends IBaseExecution<T>
         // first step is the unification of the caller literal, so variables will be set from the current execution context
         final ILiteral l_unified = p_value.allocate( p_context );
 
-        // second step execute backtracking rules sequential / parallel
-        return (
-            p_parallel
+        // second step execute backtracking rules sequential / parallel, results of
+        // side-effect-free rules are read from the agent rule cache
+        return p_context.agent().rulecache().execute( l_unified, () -> (
+            p_parallel && !p_context.agent().executor().deterministic()
             ? l_rules.parallelStream()
             : l_rules.stream()
         ).map( i -> {
@@ -114,7 +115,8 @@ abstract class IAchievementRule<T extends ITerm> extends IBaseExecution<T>
          } )
 
          // otherwise rule fails (default behaviour)
-         .orElse( CFuzzyValue.from( false ) );
+         .orElse( CFuzzyValue.from( false ) )
+        );
     }
 
     @Override
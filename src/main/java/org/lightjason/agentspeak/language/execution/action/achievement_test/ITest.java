@@ -24,6 +24,7 @@
 package org.lightjason.agentspeak.language.execution.action.achievement_test;
 
 import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.execution.IExecution;
 import org.lightjason.agentspeak.language.execution.action.IBaseExecution;
 
 
@@ -42,4 +43,16 @@ abstract class ITest extends IBaseExecution<IPath>
         super( p_value );
     }
 
+    @Override
+    public final int hashCode()
+    {
+        return m_value.hashCode();
+    }
+
+    @Override
+    public final boolean equals( final Object p_object )
+    {
+        return ( p_object != null ) && ( p_object instanceof IExecution ) && ( this.hashCode() == p_object.hashCode() );
+    }
+
 }
@@ -59,6 +59,12 @@ public final class CExpressionUnify extends CDefaultUnify
     }
 
 
+    @Override
+    public final int hashCode()
+    {
+        return super.hashCode() + m_expression.hashCode();
+    }
+
     @Override
     public final String toString()
     {
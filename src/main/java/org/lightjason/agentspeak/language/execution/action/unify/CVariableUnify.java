@@ -61,6 +61,12 @@ public final class CVariableUnify extends CDefaultUnify
     }
 
 
+    @Override
+    public final int hashCode()
+    {
+        return super.hashCode() + m_constraint.hashCode();
+    }
+
     @Override
     public final String toString()
     {
@@ -24,10 +24,15 @@
 package org.lightjason.agentspeak.language.instantiable;
 
 import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.CSuspendException;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.action.CMultiAssignment;
+import org.lightjason.agentspeak.language.execution.action.CProxyAction;
+import org.lightjason.agentspeak.language.execution.action.CSingleAssignment;
 import org.lightjason.agentspeak.language.execution.annotation.IAnnotation;
 import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
 import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
@@ -39,7 +44,9 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -57,6 +64,14 @@ public abstract class IBaseInstantiable implements IInstantiable
      * map with annotation (enum value for getting annotation object)
      */
     protected final Map<IAnnotation.EType, IAnnotation<?>> m_annotation;
+    /**
+     * static score of the score annotation
+     */
+    protected final double m_annotationscore;
+    /**
+     * flags of the body elements, which can be suspended
+     */
+    private final boolean[] m_suspendable;
     /**
      * hash code
      */
@@ -73,7 +88,12 @@ public abstract class IBaseInstantiable implements IInstantiable
     {
         m_hash = p_hash;
         m_action = Collections.unmodifiableList( p_action );
+        m_suspendable = new boolean[m_action.size()];
+        IntStream.range( 0, m_suspendable.length ).forEach( i -> m_suspendable[i] = IBaseInstantiable.suspendable( m_action.get( i ) ) );
         m_annotation = Collections.unmodifiableMap( p_annotation.stream().collect( HashMap::new, ( m, s ) -> m.put( s.id(), s ), Map::putAll ) );
+        m_annotationscore = m_annotation.containsKey( IAnnotation.EType.SCORE )
+                            ? ( (Number) m_annotation.get( IAnnotation.EType.SCORE ).value() ).doubleValue()
+                            : 0;
     }
 
     @Override
@@ -93,12 +113,8 @@ public abstract class IBaseInstantiable implements IInstantiable
     {
         return p_agent.aggregation().evaluate(
             Stream.concat(
-                m_action.parallelStream().mapToDouble( i -> i.score( p_agent ) ).boxed(),
-                Stream.of(
-                    m_annotation.containsKey( IAnnotation.EType.SCORE )
-                    ? m_annotation.get( IAnnotation.EType.SCORE ).<Double>value()
-                    : Double.valueOf( 0 )
-                )
+                m_action.stream().map( i -> i.score( p_agent ) ),
+                Stream.of( m_annotationscore )
             )
         );
     }
@@ -109,6 +125,12 @@ public abstract class IBaseInstantiable implements IInstantiable
         return CCommon.instantiate( this, p_agent, p_variable );
     }
 
+    @Override
+    public final IContext instantiate( final IAgent<?> p_agent, final Stream<IVariable<?>> p_variable, final Map<IPath, Supplier<IVariable<?>>> p_lazyvariable )
+    {
+        return CCommon.instantiate( this, p_agent, p_variable, p_lazyvariable );
+    }
+
     @Override
     public Stream<IVariable<?>> variables()
     {
@@ -119,13 +141,27 @@ public abstract class IBaseInstantiable implements IInstantiable
     public IFuzzyValue<Boolean> execute( final IContext p_context, final boolean p_parallel, final List<ITerm> p_argument, final List<ITerm> p_return,
                                          final List<ITerm> p_annotation
     )
+    {
+        return this.execute( p_context, 0 );
+    }
+
+    /**
+     * execute the body from an element index
+     *
+     * @param p_context execution context
+     * @param p_offset index of the first executed body element
+     * @return fuzzy result
+     *
+     * @throws CSuspendException is thrown if a sequential execution is suspended
+     */
+    protected final IFuzzyValue<Boolean> execute( final IContext p_context, final int p_offset )
     {
         // execution must be the first call, because all elements must be executed and iif the execution fails the @atomic flag can be checked,
         // each item gets its own parameters, annotation and return stack, so it will be created locally, but the return list did not to be an "empty-list"
         // because we need to allocate memory of any possible element, otherwise an unsupported operation exception is thrown
         final List<IFuzzyValue<Boolean>> l_result = m_annotation.containsKey( IAnnotation.EType.PARALLEL )
                                                     ? this.executeparallel( p_context )
-                                                    : this.executesequential( p_context );
+                                                    : this.executesequential( p_context, p_offset );
         // if atomic flag if exists use this for return value
         return m_annotation.containsKey( IAnnotation.EType.ATOMIC )
                ? CFuzzyValue.from( true )
@@ -136,23 +172,35 @@ public abstract class IBaseInstantiable implements IInstantiable
      * execute plan sequential
      *
      * @param p_context execution context
+     * @param p_offset index of the first executed body element
      * @return list with execution results
      *
-     * @note stream is stopped iif an execution is failed
+     * @note stream is stopped iif an execution is failed, only
+     * top-level actions can be suspended, so a resumed execution
+     * runs the suspended action again, but no other element
      */
-    private List<IFuzzyValue<Boolean>> executesequential( final IContext p_context )
+    private List<IFuzzyValue<Boolean>> executesequential( final IContext p_context, final int p_offset )
     {
         final List<IFuzzyValue<Boolean>> l_result = Collections.synchronizedList( new LinkedList<>() );
 
-        m_action.stream()
-                .map( i -> {
-                    final IFuzzyValue<Boolean> l_return = i.execute(
-                        p_context, false, Collections.<ITerm>emptyList(), new LinkedList<>(), Collections.<ITerm>emptyList() );
-                    l_result.add( l_return );
-                    return p_context.agent().fuzzy().getDefuzzyfication().defuzzify( l_return );
-                } )
-                .filter( i -> !i )
-                .findFirst();
+        IntStream.range( p_offset, m_action.size() )
+                 .mapToObj( i -> {
+                     final IFuzzyValue<Boolean> l_return;
+                     try
+                     {
+                         l_return = m_suspendable[i]
+                                    ? p_context.suspendable( () -> IBaseInstantiable.execute( m_action.get( i ), p_context ) )
+                                    : IBaseInstantiable.execute( m_action.get( i ), p_context );
+                     }
+                     catch ( final CSuspendException l_exception )
+                     {
+                         throw l_exception.offset( i );
+                     }
+                     l_result.add( l_return );
+                     return p_context.agent().fuzzy().getDefuzzyfication().defuzzify( l_return );
+                 } )
+                 .filter( i -> !i )
+                 .findFirst();
 
         return l_result;
     }
@@ -163,13 +211,46 @@ public abstract class IBaseInstantiable implements IInstantiable
      * @param p_context execution context
      * @return list with execution results
      *
-     * @note each element is executed
+     * @note elements are not suspended, so blocking calls
+     * are run directly, on deterministic execution the
+     * elements are executed in order
      */
     private List<IFuzzyValue<Boolean>> executeparallel( final IContext p_context )
     {
-        return m_action.parallelStream()
-                       .map( i -> i.execute( p_context, false, Collections.<ITerm>emptyList(), new LinkedList<>(), Collections.<ITerm>emptyList() ) )
+        return ( p_context.agent().executor().deterministic() ? m_action.stream() : m_action.parallelStream() )
+                       .map( i -> IBaseInstantiable.execute( i, p_context ) )
                        .collect( Collectors.toList() );
     }
 
+    /**
+     * execute a body element
+     *
+     * @param p_execution execution element
+     * @param p_context execution context
+     * @return execution result
+     */
+    private static IFuzzyValue<Boolean> execute( final IExecution p_execution, final IContext p_context )
+    {
+        return p_execution.execute( p_context, false, Collections.<ITerm>emptyList(), new LinkedList<>(), Collections.<ITerm>emptyList() );
+    }
+
+    /**
+     * checks if a body element can be suspended, only
+     * actions without inner actions and assignments of
+     * their results can be suspended, because other
+     * elements have side effects before the blocking call
+     *
+     * @param p_execution execution element
+     * @return suspendable flag
+     */
+    private static boolean suspendable( final IExecution p_execution )
+    {
+        if ( p_execution instanceof CSingleAssignment<?> )
+            return IBaseInstantiable.suspendable( ( (CSingleAssignment<?>) p_execution ).righthand() );
+        if ( p_execution instanceof CMultiAssignment<?> )
+            return IBaseInstantiable.suspendable( ( (CMultiAssignment<?>) p_execution ).righthand() );
+
+        return ( p_execution instanceof CProxyAction ) && ( (CProxyAction) p_execution ).suspendable();
+    }
+
 }
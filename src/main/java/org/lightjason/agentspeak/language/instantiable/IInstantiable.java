@@ -24,10 +24,13 @@
 package org.lightjason.agentspeak.language.instantiable;
 
 import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.IExecution;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 
@@ -46,4 +49,14 @@ public interface IInstantiable extends IExecution
      */
     IContext instantiate( final IAgent<?> p_agent, final Stream<IVariable<?>> p_variable );
 
+    /**
+     * creates an individual execution context
+     *
+     * @param p_agent agent
+     * @param p_variable variable stream
+     * @param p_lazyvariable map with variable name and supplier, variables are created on the first access
+     * @return individual context
+     */
+    IContext instantiate( final IAgent<?> p_agent, final Stream<IVariable<?>> p_variable, final Map<IPath, Supplier<IVariable<?>>> p_lazyvariable );
+
 }
@@ -0,0 +1,304 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.instantiable.plan;
+
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.SetMultimap;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.instantiable.rule.IRuleGraph;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * condition memory, the belief dependencies of each plan condition are
+ * build once from the plans and the rule graph, so belief changes invalidate
+ * only the results of the dependent plans, results are stored for each
+ * trigger literal with its values, conditions with side-effects or
+ * with execution depended variables are always executed
+ */
+public final class CConditionMemory implements IConditionMemory
+{
+    /**
+     * maximum number of stored results of a plan
+     */
+    private static final int CAPACITY = 4096;
+    /**
+     * inverse map with belief functor and dependent plans
+     */
+    private final SetMultimap<IPath, IPlan> m_affectedplans;
+    /**
+     * set with plans, which condition results can be stored
+     */
+    private final Set<IPlan> m_cacheable;
+    /**
+     * map with plan and the variables of the trigger literal
+     */
+    private final Map<IPlan, Set<IPath>> m_triggervariables;
+    /**
+     * memory version, is changed on each invalidation
+     */
+    private final AtomicLong m_version = new AtomicLong();
+    /**
+     * map with plan, trigger key and condition result with the bound variable values
+     */
+    private final Map<IPlan, Map<List<Object>, Pair<IFuzzyValue<Boolean>, Map<IPath, Object>>>> m_memory = new ConcurrentHashMap<>();
+
+    /**
+     * ctor
+     *
+     * @param p_plans plans
+     * @param p_rulegraph rule graph
+     */
+    public CConditionMemory( final Collection<IPlan> p_plans, final IRuleGraph p_rulegraph )
+    {
+        m_cacheable = Collections.unmodifiableSet(
+            p_plans.stream()
+                   .filter( IPlan::hascondition )
+                   .filter( IPlan::conditioncacheable )
+                   .filter( i -> i.conditionrules().stream().allMatch( p_rulegraph::cacheable ) )
+                   .filter( i -> i.conditionvariables().noneMatch( j -> CCommon.INJECTEDVARIABLES.contains( j.fqnfunctor() ) ) )
+                   .collect( Collectors.toSet() )
+        );
+
+        final ImmutableSetMultimap.Builder<IPath, IPlan> l_affected = ImmutableSetMultimap.builder();
+        m_cacheable.forEach( i -> Stream.concat(
+            i.conditionbeliefs().stream(),
+            i.conditionrules().stream().flatMap( j -> p_rulegraph.beliefdependencies( j ).stream() )
+        ).forEach( j -> l_affected.put( j, i ) ) );
+        m_affectedplans = l_affected.build();
+
+        m_triggervariables = Collections.unmodifiableMap(
+            m_cacheable.stream().collect( Collectors.toMap(
+                i -> i,
+                i -> Collections.unmodifiableSet(
+                    CCommon.variablefrequency( i.getTrigger().getLiteral() ).keySet().stream().map( IVariable::fqnfunctor ).collect( Collectors.toSet() )
+                )
+            ) )
+        );
+    }
+
+    /**
+     * private ctor to share the plan dependencies
+     *
+     * @param p_cacheable cacheable plans
+     * @param p_affectedplans inverse map with belief functor and dependent plans
+     * @param p_triggervariables map with plan and the variables of the trigger literal
+     */
+    private CConditionMemory( final Set<IPlan> p_cacheable, final SetMultimap<IPath, IPlan> p_affectedplans,
+                              final Map<IPlan, Set<IPath>> p_triggervariables
+    )
+    {
+        m_cacheable = p_cacheable;
+        m_affectedplans = p_affectedplans;
+        m_triggervariables = p_triggervariables;
+    }
+
+    /**
+     * creates an empty memory, which shares
+     * the immutable plan dependencies
+     *
+     * @return new empty memory
+     */
+    public final CConditionMemory shallowcopy()
+    {
+        return new CConditionMemory( m_cacheable, m_affectedplans, m_triggervariables );
+    }
+
+    /**
+     * checks if the condition results of a plan can be stored
+     *
+     * @param p_plan plan
+     * @return cacheable flag
+     */
+    final boolean cacheable( final IPlan p_plan )
+    {
+        return m_cacheable.contains( p_plan );
+    }
+
+    @Override
+    public final IFuzzyValue<Boolean> condition( final IPlan p_plan, final ITrigger p_trigger, final IContext p_context )
+    {
+        if ( !m_cacheable.contains( p_plan ) )
+            return p_plan.condition( p_context );
+
+        // the result is stored for the trigger values, so conditions which read other
+        // allocated variables of the context (e.g. generated variables) are always executed
+        final List<Object> l_key = key( p_trigger );
+        if ( ( l_key == null ) || ( this.contextdependent( p_plan, p_context ) ) )
+            return p_plan.condition( p_context );
+
+        // stored result, so the variables of the condition are set
+        final Map<List<Object>, Pair<IFuzzyValue<Boolean>, Map<IPath, Object>>> l_results = m_memory.computeIfAbsent( p_plan, i -> new ConcurrentHashMap<>() );
+        final Pair<IFuzzyValue<Boolean>, Map<IPath, Object>> l_stored = l_results.get( l_key );
+        if ( l_stored != null )
+            return restore( l_stored, p_context );
+
+        // variables which can be bound by the condition
+        final Set<IPath> l_unallocated = p_plan.conditionvariables()
+                                               .map( IVariable::fqnfunctor )
+                                               .filter( i -> p_context.instancevariables().containsKey( i ) )
+                                               .filter( i -> !p_context.instancevariables().get( i ).allocated() )
+                                               .collect( Collectors.toSet() );
+
+        final long l_version = m_version.get();
+        final IFuzzyValue<Boolean> l_result = p_plan.condition( p_context );
+        if ( l_version != m_version.get() )
+            return l_result;
+
+        // bound variables must be restorable
+        final Map<IPath, Object> l_values = boundvalues( l_unallocated, p_context );
+        if ( l_values == null )
+            return l_result;
+
+        if ( l_results.size() >= CAPACITY )
+            l_results.clear();
+        l_results.put( l_key, new ImmutablePair<>( l_result, Collections.unmodifiableMap( l_values ) ) );
+        if ( l_version != m_version.get() )
+            l_results.remove( l_key );
+
+        return l_result;
+    }
+
+    @Override
+    public final IConditionMemory invalidate( final Stream<IPath> p_belief )
+    {
+        m_version.incrementAndGet();
+        p_belief.flatMap( i -> m_affectedplans.get( i ).stream() ).forEach( m_memory::remove );
+        return this;
+    }
+
+    @Override
+    public final IConditionMemory clear()
+    {
+        m_version.incrementAndGet();
+        m_memory.clear();
+        return this;
+    }
+
+    /**
+     * sets the stored values of the variables, which are bound by the condition
+     *
+     * @param p_stored stored condition result with the bound variable values
+     * @param p_context plan execution context
+     * @return condition result
+     */
+    @SuppressWarnings( "unchecked" )
+    private static IFuzzyValue<Boolean> restore( final Pair<IFuzzyValue<Boolean>, Map<IPath, Object>> p_stored, final IContext p_context )
+    {
+        p_stored.getRight().forEach( ( i, j ) -> {
+            final IVariable<Object> l_variable = (IVariable<Object>) p_context.instancevariables().get( i );
+            if ( ( l_variable != null ) && ( !l_variable.allocated() ) )
+                l_variable.set( j );
+        } );
+        return p_stored.getLeft();
+    }
+
+    /**
+     * returns the values of the variables, which are bound by the condition
+     *
+     * @param p_unallocated variables, which are unallocated before the condition execution
+     * @param p_context plan execution context
+     * @return map with variable name and value or null if a value is not immutable
+     */
+    private static Map<IPath, Object> boundvalues( final Set<IPath> p_unallocated, final IContext p_context )
+    {
+        final Map<IPath, Object> l_values = new HashMap<>();
+        for ( final IPath l_path : p_unallocated )
+        {
+            final IVariable<?> l_variable = p_context.instancevariables().get( l_path );
+            if ( !l_variable.allocated() )
+                continue;
+            if ( !CCommon.rawvalueImmutable( l_variable.raw() ) )
+                return null;
+            l_values.put( l_path, l_variable.raw() );
+        }
+        return l_values;
+    }
+
+    /**
+     * checks if the condition reads allocated variables
+     * of the context, which are not part of the trigger
+     *
+     * @param p_plan plan
+     * @param p_context plan execution context
+     * @return flag that the condition depends on context variables
+     */
+    private boolean contextdependent( final IPlan p_plan, final IContext p_context )
+    {
+        final Set<IPath> l_triggervariables = m_triggervariables.get( p_plan );
+        return p_plan.conditionvariables()
+                     .map( IVariable::fqnfunctor )
+                     .filter( i -> !l_triggervariables.contains( i ) )
+                     .map( i -> p_context.instancevariables().get( i ) )
+                     .anyMatch( i -> ( i != null ) && ( i.allocated() ) );
+    }
+
+    /**
+     * builds the memory key of a trigger with the
+     * event, the functor and the values of the literal
+     *
+     * @param p_trigger trigger
+     * @return key list or null if the trigger values are not immutable
+     */
+    private static List<Object> key( final ITrigger p_trigger )
+    {
+        final ILiteral l_literal = p_trigger.getLiteral();
+        if ( !l_literal.emptyAnnotations() )
+            return null;
+
+        final List<Object> l_key = new ArrayList<>();
+        l_key.add( p_trigger.getType() );
+        l_key.add( l_literal.negated() );
+        l_key.add( l_literal.fqnfunctor() );
+        for ( final ITerm l_term : l_literal.orderedvalues().collect( Collectors.toList() ) )
+        {
+            final Object l_value = l_term.raw();
+            if ( !CCommon.rawvalueImmutable( l_value ) )
+                return null;
+            l_key.add( l_value );
+        }
+        return l_key;
+    }
+
+}
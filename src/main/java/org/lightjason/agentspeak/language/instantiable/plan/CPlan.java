@@ -25,6 +25,7 @@ package org.lightjason.agentspeak.language.instantiable.plan;
 
 import org.apache.commons.lang3.StringUtils;
 import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -60,6 +61,18 @@ public final class CPlan extends IBaseInstantiable implements IPlan
      * execution condition / expression
      */
     private final IExpression m_condition;
+    /**
+     * functors of the unified beliefs within the condition
+     */
+    private final Set<IPath> m_conditionbeliefs;
+    /**
+     * functors of the called rules within the condition
+     */
+    private final Set<IPath> m_conditionrules;
+    /**
+     * flag that the condition is free of side-effects
+     */
+    private final boolean m_conditioncacheable;
 
 
     /**
@@ -84,6 +97,24 @@ public final class CPlan extends IBaseInstantiable implements IPlan
      */
     public CPlan( final ITrigger p_event, final IExpression p_condition, final List<IExecution> p_body, final Set<IAnnotation<?>> p_annotation
     )
+    {
+        this( p_event, p_condition, p_body, p_annotation, Collections.<IPath>emptySet(), Collections.<IPath>emptySet(), false );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_event trigger event
+     * @param p_condition execution condition
+     * @param p_body plan body
+     * @param p_annotation annotations
+     * @param p_conditionbeliefs functors of the unified beliefs within the condition
+     * @param p_conditionrules functors of the called rules within the condition
+     * @param p_conditioncacheable condition is free of side-effects
+     */
+    public CPlan( final ITrigger p_event, final IExpression p_condition, final List<IExecution> p_body, final Set<IAnnotation<?>> p_annotation,
+                  final Set<IPath> p_conditionbeliefs, final Set<IPath> p_conditionrules, final boolean p_conditioncacheable
+    )
     {
         super(
             p_body,
@@ -97,6 +128,9 @@ public final class CPlan extends IBaseInstantiable implements IPlan
 
         m_triggerevent = p_event;
         m_condition = p_condition;
+        m_conditioncacheable = p_conditioncacheable;
+        m_conditionrules = Collections.unmodifiableSet( p_conditionrules );
+        m_conditionbeliefs = Collections.unmodifiableSet( p_conditionbeliefs );
     }
 
     @Override
@@ -122,7 +156,13 @@ public final class CPlan extends IBaseInstantiable implements IPlan
                                                final List<ITerm> p_annotation
     )
     {
-        final IFuzzyValue<Boolean> l_result = super.execute( p_context, p_parallel, p_argument, p_return, p_annotation );
+        return this.resume( p_context, 0 );
+    }
+
+    @Override
+    public final IFuzzyValue<Boolean> resume( final IContext p_context, final int p_offset )
+    {
+        final IFuzzyValue<Boolean> l_result = super.execute( p_context, p_offset );
 
         // create delete-goal trigger
         if ( !p_context.agent().fuzzy().getDefuzzyfication().defuzzify( l_result ) )
@@ -146,6 +186,38 @@ public final class CPlan extends IBaseInstantiable implements IPlan
         );
     }
 
+    @Override
+    public final boolean hascondition()
+    {
+        return m_condition != null;
+    }
+
+    @Override
+    public final Set<IPath> conditionbeliefs()
+    {
+        return m_conditionbeliefs;
+    }
+
+    @Override
+    public final Set<IPath> conditionrules()
+    {
+        return m_conditionrules;
+    }
+
+    @Override
+    public final boolean conditioncacheable()
+    {
+        return m_conditioncacheable;
+    }
+
+    @Override
+    public final Stream<IVariable<?>> conditionvariables()
+    {
+        return m_condition == null
+               ? Stream.<IVariable<?>>empty()
+               : m_condition.variables();
+    }
+
     @Override
     public final String toString()
     {
@@ -160,19 +232,9 @@ public final class CPlan extends IBaseInstantiable implements IPlan
     }
 
     @Override
-    @SuppressWarnings( "unchecked" )
     public final double score( final IAgent<?> p_agent )
     {
-        return p_agent.aggregation().evaluate(
-            Stream.concat(
-                Stream.of( super.score( p_agent ) ),
-                Stream.of(
-                    m_annotation.containsKey( IAnnotation.EType.SCORE )
-                    ? ( (Number) m_annotation.get( IAnnotation.EType.SCORE ).value() ).doubleValue()
-                    : 0
-                )
-            )
-        );
+        return p_agent.aggregation().evaluate( Stream.of( super.score( p_agent ), m_annotationscore ) );
     }
 
     @Override
@@ -0,0 +1,92 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.instantiable.plan;
+
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+
+import java.util.stream.Stream;
+
+
+/**
+ * condition memory of plans, the memory stores the condition
+ * results of plans for each trigger (similar to a TREAT network)
+ * and the results are invalidated by belief changes
+ */
+public interface IConditionMemory
+{
+    /**
+     * empty memory
+     */
+    IConditionMemory EMPTY = new IConditionMemory()
+    {
+        @Override
+        public final IFuzzyValue<Boolean> condition( final IPlan p_plan, final ITrigger p_trigger, final IContext p_context )
+        {
+            return p_plan.condition( p_context );
+        }
+
+        @Override
+        public final IConditionMemory invalidate( final Stream<IPath> p_belief )
+        {
+            return this;
+        }
+
+        @Override
+        public final IConditionMemory clear()
+        {
+            return this;
+        }
+    };
+
+    /**
+     * returns the condition result of a plan, if a stored result exists the
+     * variables, which are bound by the condition, are set within the context,
+     * otherwise the condition is executed and the result is stored
+     *
+     * @param p_plan plan
+     * @param p_trigger trigger of the plan execution
+     * @param p_context plan execution context
+     * @return condition result
+     */
+    IFuzzyValue<Boolean> condition( final IPlan p_plan, final ITrigger p_trigger, final IContext p_context );
+
+    /**
+     * invalidates all condition results which depends on the beliefs
+     *
+     * @param p_belief stream of changed belief functors
+     * @return self reference
+     */
+    IConditionMemory invalidate( final Stream<IPath> p_belief );
+
+    /**
+     * invalidates all condition results
+     *
+     * @return self reference
+     */
+    IConditionMemory clear();
+
+}
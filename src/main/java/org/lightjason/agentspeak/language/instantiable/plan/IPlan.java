@@ -23,15 +23,19 @@
 
 package org.lightjason.agentspeak.language.instantiable.plan;
 
+import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.IExecution;
 import org.lightjason.agentspeak.language.execution.annotation.IAnnotation;
 import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
 import org.lightjason.agentspeak.language.instantiable.IInstantiable;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.variable.IVariable;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 
 /**
@@ -69,4 +73,54 @@ public interface IPlan extends IInstantiable
      */
     IFuzzyValue<Boolean> condition( final IContext p_context );
 
+    /**
+     * resumes a suspended plan execution
+     *
+     * @param p_context execution context of the suspended execution
+     * @param p_offset index of the suspended body element
+     * @return execution result
+     *
+     * @throws org.lightjason.agentspeak.error.CSuspendException is thrown if the execution is suspended again
+     */
+    IFuzzyValue<Boolean> resume( final IContext p_context, final int p_offset );
+
+    /**
+     * returns a flag, that the plan has got a condition
+     *
+     * @return condition flag
+     */
+    boolean hascondition();
+
+    /**
+     * returns the functors of the beliefs,
+     * which are unified within the condition
+     *
+     * @return set of belief functors
+     */
+    Set<IPath> conditionbeliefs();
+
+    /**
+     * returns the functors of the rules,
+     * which are called within the condition
+     *
+     * @return set of rule functors
+     */
+    Set<IPath> conditionrules();
+
+    /**
+     * returns a flag, that the condition is
+     * free of side-effects, so the result depends
+     * only on the trigger and the beliefs
+     *
+     * @return cacheable flag
+     */
+    boolean conditioncacheable();
+
+    /**
+     * returns the variables of the condition
+     *
+     * @return variable stream
+     */
+    Stream<IVariable<?>> conditionvariables();
+
 }
@@ -36,6 +36,7 @@ import org.lightjason.agentspeak.language.variable.IVariable;
 import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -49,6 +50,18 @@ public final class CRule extends IBaseInstantiable implements IRule
      * identifier of the rule
      */
     private final ILiteral m_id;
+    /**
+     * functors of the unified beliefs
+     */
+    private final Set<IPath> m_beliefdependencies;
+    /**
+     * functors of the called rules
+     */
+    private final Set<IPath> m_ruledependencies;
+    /**
+     * flag that the rule body is free of side-effects
+     */
+    private final boolean m_cacheable;
 
     /**
      * ctor
@@ -57,6 +70,22 @@ public final class CRule extends IBaseInstantiable implements IRule
      * @param p_action action list
      */
     public CRule( final ILiteral p_id, final List<IExecution> p_action )
+    {
+        this( p_id, p_action, Collections.<IPath>emptySet(), Collections.<IPath>emptySet(), false );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_id literal with signature
+     * @param p_action action list
+     * @param p_beliefdependencies functors of the unified beliefs
+     * @param p_ruledependencies functors of the called rules
+     * @param p_cacheable rule body is free of side-effects
+     */
+    public CRule( final ILiteral p_id, final List<IExecution> p_action, final Set<IPath> p_beliefdependencies, final Set<IPath> p_ruledependencies,
+                  final boolean p_cacheable
+    )
     {
         super(
             p_action,
@@ -65,6 +94,9 @@ public final class CRule extends IBaseInstantiable implements IRule
             + p_action.stream().mapToInt( i -> i.hashCode() ).sum()
         );
         m_id = p_id;
+        m_cacheable = p_cacheable;
+        m_ruledependencies = Collections.unmodifiableSet( p_ruledependencies );
+        m_beliefdependencies = Collections.unmodifiableSet( p_beliefdependencies );
     }
 
     @Override
@@ -73,6 +105,24 @@ public final class CRule extends IBaseInstantiable implements IRule
         return m_id;
     }
 
+    @Override
+    public final Set<IPath> beliefdependencies()
+    {
+        return m_beliefdependencies;
+    }
+
+    @Override
+    public final Set<IPath> ruledependencies()
+    {
+        return m_ruledependencies;
+    }
+
+    @Override
+    public final boolean cacheable()
+    {
+        return m_cacheable;
+    }
+
     @Override
     @SuppressWarnings( "unchecked" )
     public final IRule replaceplaceholder( final Multimap<IPath, IRule> p_rules )
@@ -85,7 +135,10 @@ public final class CRule extends IBaseInstantiable implements IRule
                                        // behaviour on rule unification
                                        ? new CAchievementRuleLiteral( (ILiteral) ( (CRulePlaceholder) i ).getIdentifier().deepcopy() )
                                        : i
-            ).collect( Collectors.toList() )
+            ).collect( Collectors.toList() ),
+            m_beliefdependencies,
+            m_ruledependencies,
+            m_cacheable
         );
     }
 
@@ -0,0 +1,187 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.instantiable.rule;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.IRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * rule result cache, results are stored for each rule functor and the
+ * values of the allocated arguments, only immutable scalar values will
+ * be cached, so the cache cannot be changed by the agent execution
+ */
+public final class CRuleCache implements IRuleCache
+{
+    /**
+     * marker of unallocated variables
+     */
+    private static final Object UNALLOCATED = new Object();
+    /**
+     * maximum number of cached results of a rule
+     */
+    private static final int CAPACITY = 4096;
+    /**
+     * rule graph
+     */
+    private final IRuleGraph m_graph;
+    /**
+     * cache version, is changed on each invalidation
+     */
+    private final AtomicLong m_version = new AtomicLong();
+    /**
+     * map with rule functor, argument key and result with the argument values
+     */
+    private final Map<IPath, Map<List<Object>, Pair<IFuzzyValue<Boolean>, List<Object>>>> m_cache = new ConcurrentHashMap<>();
+
+    /**
+     * ctor
+     *
+     * @param p_graph rule graph
+     */
+    public CRuleCache( final IRuleGraph p_graph )
+    {
+        m_graph = p_graph;
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public final IFuzzyValue<Boolean> execute( final ILiteral p_literal, final Supplier<IFuzzyValue<Boolean>> p_execution )
+    {
+        if ( ( !p_literal.emptyAnnotations() ) || ( !m_graph.cacheable( p_literal.fqnfunctor() ) ) )
+            return p_execution.get();
+
+        final List<ITerm> l_arguments = p_literal.orderedvalues().collect( Collectors.toList() );
+        final List<Object> l_key = key( l_arguments );
+        if ( l_key == null )
+            return p_execution.get();
+
+        // cache hit, so unallocated variables are set
+        final Map<List<Object>, Pair<IFuzzyValue<Boolean>, List<Object>>> l_results = m_cache.computeIfAbsent( p_literal.fqnfunctor(), i -> new ConcurrentHashMap<>() );
+        final Pair<IFuzzyValue<Boolean>, List<Object>> l_cached = l_results.get( l_key );
+        if ( l_cached != null )
+        {
+            IntStream.range( 0, l_arguments.size() )
+                     .filter( i -> ( l_cached.getRight().get( i ) != null ) && ( l_key.get( i ) == UNALLOCATED ) )
+                     .forEach( i -> ( (IVariable<Object>) l_arguments.get( i ) ).set( l_cached.getRight().get( i ) ) );
+            return l_cached.getLeft();
+        }
+
+        // cache miss, execution and relocation is run and the result is stored, if the cache is not invalidated in the meantime
+        final long l_version = m_version.get();
+        final IFuzzyValue<Boolean> l_result = p_execution.get();
+        if ( l_version != m_version.get() )
+            return l_result;
+
+        // variables which are bound by the execution must be restorable
+        final List<Object> l_values = l_arguments.stream().map( CRuleCache::value ).collect( Collectors.toList() );
+        if ( IntStream.range( 0, l_arguments.size() )
+                      .anyMatch( i -> ( l_key.get( i ) == UNALLOCATED ) && ( l_values.get( i ) == null ) && ( (IVariable<?>) l_arguments.get( i ) ).allocated() ) )
+            return l_result;
+
+        if ( l_results.size() >= CAPACITY )
+            l_results.clear();
+        l_results.put( l_key, new ImmutablePair<>( l_result, l_values ) );
+        if ( l_version != m_version.get() )
+            l_results.remove( l_key );
+
+        return l_result;
+    }
+
+    @Override
+    public final IRuleCache invalidate( final Stream<IPath> p_belief )
+    {
+        m_version.incrementAndGet();
+        m_graph.affectedrules( p_belief ).forEach( m_cache::remove );
+        return this;
+    }
+
+    @Override
+    public final IRuleCache clear()
+    {
+        m_version.incrementAndGet();
+        m_cache.clear();
+        return this;
+    }
+
+    /**
+     * builds the cache key of the arguments
+     *
+     * @param p_arguments arguments
+     * @return key list or null if the arguments cannot be cached
+     */
+    private static List<Object> key( final List<ITerm> p_arguments )
+    {
+        final List<Object> l_key = new ArrayList<>( p_arguments.size() );
+        for ( final ITerm l_term : p_arguments )
+        {
+            if ( ( l_term instanceof IVariable<?> ) && ( !( (IVariable<?>) l_term ).allocated() ) && ( !( (IVariable<?>) l_term ).any() ) )
+            {
+                l_key.add( UNALLOCATED );
+                continue;
+            }
+
+            final Object l_value = value( l_term );
+            if ( l_value == null )
+                return null;
+            l_key.add( l_value );
+        }
+        return l_key;
+    }
+
+    /**
+     * returns the immutable value of a term
+     *
+     * @param p_term term
+     * @return value or null if the value is not immutable
+     */
+    private static Object value( final ITerm p_term )
+    {
+        if ( ( !( p_term instanceof IVariable<?> ) ) && ( !( p_term instanceof IRawTerm<?> ) ) )
+            return null;
+
+        final Object l_value = p_term.raw();
+        return CCommon.rawvalueImmutable( l_value )
+               ? l_value
+               : null;
+    }
+
+}
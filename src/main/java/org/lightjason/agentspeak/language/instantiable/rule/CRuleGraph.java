@@ -0,0 +1,156 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.instantiable.rule;
+
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.SetMultimap;
+import org.lightjason.agentspeak.common.IPath;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * rule dependency graph, the graph is build once
+ * from the rule structure and is immutable
+ */
+public final class CRuleGraph implements IRuleGraph
+{
+    /**
+     * names of variables which are injected on each instantiation
+     */
+    private static final Set<String> CONTEXTVARIABLES = Collections.unmodifiableSet( Stream.of( "Score", "Cycle" ).collect( Collectors.toSet() ) );
+    /**
+     * map with rule functor and transitive belief dependencies
+     */
+    private final Map<IPath, Set<IPath>> m_beliefdependencies;
+    /**
+     * inverse map with belief functor and dependent rules
+     */
+    private final SetMultimap<IPath, IPath> m_affectedrules;
+    /**
+     * set with cacheable rule functors
+     */
+    private final Set<IPath> m_cacheable;
+
+    /**
+     * ctor
+     *
+     * @param p_rules rules
+     */
+    public CRuleGraph( final Multimap<IPath, IRule> p_rules )
+    {
+        final Map<IPath, Set<IPath>> l_closure = p_rules.keySet().stream().collect( Collectors.toMap( Function.identity(), i -> closure( i, p_rules ) ) );
+
+        m_beliefdependencies = Collections.unmodifiableMap(
+            l_closure.entrySet().stream().collect( Collectors.toMap(
+                Map.Entry::getKey,
+                i -> Collections.unmodifiableSet(
+                    i.getValue().stream()
+                     .flatMap( j -> p_rules.get( j ).stream() )
+                     .flatMap( j -> j.beliefdependencies().stream() )
+                     .collect( Collectors.toSet() )
+                )
+            ) )
+        );
+
+        final ImmutableSetMultimap.Builder<IPath, IPath> l_affected = ImmutableSetMultimap.builder();
+        m_beliefdependencies.forEach( ( i, j ) -> j.forEach( n -> l_affected.put( n, i ) ) );
+        m_affectedrules = l_affected.build();
+
+        m_cacheable = Collections.unmodifiableSet(
+            l_closure.entrySet().stream()
+                     .filter( i -> i.getValue().stream().allMatch( j -> p_rules.containsKey( j ) && p_rules.get( j ).stream().allMatch( CRuleGraph::rulecacheable ) ) )
+                     .map( Map.Entry::getKey )
+                     .collect( Collectors.toSet() )
+        );
+    }
+
+    @Override
+    public final Set<IPath> beliefdependencies( final IPath p_rule )
+    {
+        return m_beliefdependencies.getOrDefault( p_rule, Collections.<IPath>emptySet() );
+    }
+
+    @Override
+    public final Stream<IPath> affectedrules( final Stream<IPath> p_belief )
+    {
+        return p_belief.flatMap( i -> m_affectedrules.get( i ).stream() ).distinct();
+    }
+
+    @Override
+    public final boolean cacheable( final IPath p_rule )
+    {
+        return m_cacheable.contains( p_rule );
+    }
+
+    /**
+     * builds the transitive closure of called rules
+     *
+     * @param p_rule rule functor
+     * @param p_rules rules
+     * @return set of reachable rule functors (includes the rule itself)
+     */
+    private static Set<IPath> closure( final IPath p_rule, final Multimap<IPath, IRule> p_rules )
+    {
+        final Set<IPath> l_visited = new HashSet<>();
+        final Queue<IPath> l_queue = new LinkedList<>();
+        l_queue.add( p_rule );
+
+        while ( !l_queue.isEmpty() )
+        {
+            final IPath l_path = l_queue.remove();
+            if ( !l_visited.add( l_path ) )
+                continue;
+
+            final Collection<IRule> l_rules = p_rules.get( l_path );
+            if ( l_rules != null )
+                l_rules.forEach( i -> l_queue.addAll( i.ruledependencies() ) );
+        }
+
+        return l_visited;
+    }
+
+    /**
+     * checks if a single rule is cacheable, rules which uses
+     * context variables cannot be cached
+     *
+     * @param p_rule rule
+     * @return cacheable flag
+     */
+    private static boolean rulecacheable( final IRule p_rule )
+    {
+        return p_rule.cacheable() && p_rule.variables().noneMatch( i -> CONTEXTVARIABLES.contains( i.functor() ) );
+    }
+
+}
@@ -35,7 +35,11 @@ import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import java.text.MessageFormat;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 
@@ -71,6 +75,24 @@ public final class CRulePlaceholder implements IRule
         return m_id;
     }
 
+    @Override
+    public final Set<IPath> beliefdependencies()
+    {
+        return Collections.<IPath>emptySet();
+    }
+
+    @Override
+    public final Set<IPath> ruledependencies()
+    {
+        return Collections.<IPath>emptySet();
+    }
+
+    @Override
+    public final boolean cacheable()
+    {
+        return false;
+    }
+
     @Override
     public final IRule replaceplaceholder( final Multimap<IPath, IRule> p_rules )
     {
@@ -85,6 +107,12 @@ public final class CRulePlaceholder implements IRule
         return CCommon.instantiate( this, p_agent, p_variable );
     }
 
+    @Override
+    public final IContext instantiate( final IAgent<?> p_agent, final Stream<IVariable<?>> p_variable, final Map<IPath, Supplier<IVariable<?>>> p_lazyvariable )
+    {
+        return CCommon.instantiate( this, p_agent, p_variable, p_lazyvariable );
+    }
+
     @Override
     public IFuzzyValue<Boolean> execute( final IContext p_context, final boolean p_parallel, final List<ITerm> p_argument, final List<ITerm> p_return,
                                          final List<ITerm> p_annotation
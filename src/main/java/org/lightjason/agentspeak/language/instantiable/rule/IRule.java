@@ -28,6 +28,8 @@ import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.instantiable.IInstantiable;
 
+import java.util.Set;
+
 
 /**
  * interface of logical rule
@@ -42,6 +44,31 @@ public interface IRule extends IInstantiable
      */
     ILiteral getIdentifier();
 
+    /**
+     * returns the functors of the beliefs,
+     * which are unified within the rule body
+     *
+     * @return set of belief functors
+     */
+    Set<IPath> beliefdependencies();
+
+    /**
+     * returns the functors of the rules,
+     * which are called within the rule body
+     *
+     * @return set of rule functors
+     */
+    Set<IPath> ruledependencies();
+
+    /**
+     * returns a flag, that the rule body is
+     * free of side-effects, so the result
+     * depends only on arguments and beliefs
+     *
+     * @return cacheable flag
+     */
+    boolean cacheable();
+
     /**
      * replaces all placeholder objects and reinstantiate object
      *
@@ -0,0 +1,91 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.instantiable.rule;
+
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
+
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+
+/**
+ * cache of rule results, the cache stores the results of
+ * side-effect-free rules and will be invalidated by belief changes
+ */
+public interface IRuleCache
+{
+    /**
+     * empty cache
+     */
+    IRuleCache EMPTY = new IRuleCache()
+    {
+        @Override
+        public final IFuzzyValue<Boolean> execute( final ILiteral p_literal, final Supplier<IFuzzyValue<Boolean>> p_execution )
+        {
+            return p_execution.get();
+        }
+
+        @Override
+        public final IRuleCache invalidate( final Stream<IPath> p_belief )
+        {
+            return this;
+        }
+
+        @Override
+        public final IRuleCache clear()
+        {
+            return this;
+        }
+    };
+
+    /**
+     * executes a rule call, if a cached result exists the result is
+     * returned and the unallocated variables of the literal are set
+     * by the cached values, otherwise the execution is run and the
+     * result is stored
+     *
+     * @param p_literal allocated rule literal
+     * @param p_execution rule execution with variable relocation
+     * @return fuzzy result
+     */
+    IFuzzyValue<Boolean> execute( final ILiteral p_literal, final Supplier<IFuzzyValue<Boolean>> p_execution );
+
+    /**
+     * invalidates all rule results which depends on the beliefs
+     *
+     * @param p_belief stream of changed belief functors
+     * @return self reference
+     */
+    IRuleCache invalidate( final Stream<IPath> p_belief );
+
+    /**
+     * invalidates all rule results
+     *
+     * @return self reference
+     */
+    IRuleCache clear();
+
+}
@@ -0,0 +1,88 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.instantiable.rule;
+
+import org.lightjason.agentspeak.common.IPath;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Stream;
+
+
+/**
+ * dependency graph of logical rules, which
+ * defines the (transitive) belief dependencies of each rule
+ */
+public interface IRuleGraph
+{
+    /**
+     * empty graph
+     */
+    IRuleGraph EMPTY = new IRuleGraph()
+    {
+        @Override
+        public final Set<IPath> beliefdependencies( final IPath p_rule )
+        {
+            return Collections.<IPath>emptySet();
+        }
+
+        @Override
+        public final Stream<IPath> affectedrules( final Stream<IPath> p_belief )
+        {
+            return Stream.<IPath>empty();
+        }
+
+        @Override
+        public final boolean cacheable( final IPath p_rule )
+        {
+            return false;
+        }
+    };
+
+    /**
+     * returns the transitive belief dependencies of a rule
+     *
+     * @param p_rule rule functor
+     * @return set of belief functors
+     */
+    Set<IPath> beliefdependencies( final IPath p_rule );
+
+    /**
+     * returns all rules which depends on one of the beliefs
+     *
+     * @param p_belief stream of belief functors
+     * @return stream of rule functors
+     */
+    Stream<IPath> affectedrules( final Stream<IPath> p_belief );
+
+    /**
+     * returns a flag, that the result of the rule can be cached, so
+     * the rule and all called rules are free of side-effects
+     *
+     * @param p_rule rule functor
+     * @return cacheable flag
+     */
+    boolean cacheable( final IPath p_rule );
+
+}
@@ -0,0 +1,309 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.binding;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.error.CIllegalArgumentException;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.score.IAggregation;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the method actions of an agent class
+ */
+public final class TestCMethodAction
+{
+
+    /**
+     * test that methods with different
+     * arities are called with the arguments
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testArity() throws Exception
+    {
+        final CAgent l_agent = agent( "+!run <- zero(); X = one(3); Y = two(X, 2); Z = five(1, 2, 3, 4, 5); +result(X, Y, Z)." );
+
+        assertTrue( "method actions fail", trigger( l_agent, "run" ) );
+        assertEquals( "method without arguments is not called", 1, l_agent.m_zero );
+        assertEquals(
+            "method results are wrong",
+            "[6, 12.0, 15]",
+            l_agent.beliefbase().stream( CPath.from( "result" ) ).flatMap( ILiteral::orderedvalues ).map( ITerm::raw ).collect( Collectors.toList() ).toString()
+        );
+    }
+
+    /**
+     * test that a call with more arguments
+     * than method parameters fails
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testArgumentNumber() throws Exception
+    {
+        final CAgent l_agent = agent( "+!more <- one(1, 2). +!exact <- one(1)." );
+
+        assertFalse( "call with more arguments does not fail", trigger( l_agent, "more" ) );
+        assertTrue( "call with exact arguments fails", trigger( l_agent, "exact" ) );
+    }
+
+    /**
+     * test that an exception of the
+     * method fails the action
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testError() throws Exception
+    {
+        assertFalse( "method error does not fail", trigger( agent( "+!run <- error()." ), "run" ) );
+    }
+
+    /**
+     * test that methods with variable
+     * arguments collect the trailing arguments
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testVarArgs() throws Exception
+    {
+        final CAgent l_agent = agent(
+            "+!run <- A = join(\"a\", \"b\"); B = join(\"a\", \"b\", \"c\"); C = join(); D = count(\"n\"); E = count(\"n\", 1, 2, 3); +result(A, B, C, D, E)."
+        );
+
+        assertTrue( "method actions with variable arguments fail", trigger( l_agent, "run" ) );
+        assertEquals(
+            "method results with variable arguments are wrong",
+            "[ab, abc, , n0, n3]",
+            l_agent.beliefbase().stream( CPath.from( "result" ) ).flatMap( ILiteral::orderedvalues ).map( ITerm::raw ).collect( Collectors.toList() ).toString()
+        );
+
+        try
+        {
+            agent( "+!run <- count()." );
+            throw new AssertionError( "call without the fixed arguments is accepted" );
+        }
+        catch ( final CIllegalArgumentException l_exception )
+        {
+            // the fixed arguments are the minimal arguments
+        }
+    }
+
+    /**
+     * manuell running test
+     *
+     * @param p_args arguments
+     * @throws Exception on execution error
+     */
+    public static void main( final String[] p_args ) throws Exception
+    {
+        new TestCMethodAction().testArity();
+        new TestCMethodAction().testArgumentNumber();
+        new TestCMethodAction().testError();
+        new TestCMethodAction().testVarArgs();
+    }
+
+    /**
+     * creates an agent with the method actions
+     *
+     * @param p_asl agent source
+     * @return agent
+     * @throws Exception on parsing error
+     */
+    private static CAgent agent( final String p_asl ) throws Exception
+    {
+        return new CAgentGenerator( p_asl ).generatesingle();
+    }
+
+    /**
+     * triggers a goal immediately
+     *
+     * @param p_agent agent
+     * @param p_goal goal name
+     * @return execution result
+     */
+    private static boolean trigger( final CAgent p_agent, final String p_goal )
+    {
+        return p_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( p_goal ) ), true ).value();
+    }
+
+
+    /**
+     * agent generator
+     */
+    private static final class CAgentGenerator extends IBaseAgentGenerator<CAgent>
+    {
+        /**
+         * ctor
+         *
+         * @param p_asl agent source
+         * @throws Exception on parsing error
+         */
+        CAgentGenerator( final String p_asl ) throws Exception
+        {
+            super(
+                new ByteArrayInputStream( p_asl.getBytes( StandardCharsets.UTF_8 ) ),
+                CCommon.actionsFromAgentClass( CAgent.class ).collect( Collectors.toSet() ),
+                IAggregation.EMPTY,
+                Collections.emptySet(),
+                IVariableBuilder.EMPTY
+            );
+        }
+
+        @Override
+        public final CAgent generatesingle( final Object... p_data )
+        {
+            return new CAgent( m_configuration );
+        }
+    }
+
+    /**
+     * agent class with method actions
+     */
+    @IAgentAction
+    public static final class CAgent extends IBaseAgent<CAgent>
+    {
+        /**
+         * number of calls without arguments
+         */
+        private int m_zero;
+
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<CAgent> p_configuration )
+        {
+            super( p_configuration );
+        }
+
+        /**
+         * method without arguments
+         */
+        @IAgentActionFilter
+        public final void zero()
+        {
+            m_zero++;
+        }
+
+        /**
+         * method with a primitive argument
+         *
+         * @param p_value value
+         * @return doubled value
+         */
+        @IAgentActionFilter
+        public final long one( final double p_value )
+        {
+            return (long) p_value * 2;
+        }
+
+        /**
+         * method with two arguments
+         *
+         * @param p_value value
+         * @param p_factor factor
+         * @return product
+         */
+        @IAgentActionFilter
+        public final double two( final double p_value, final Number p_factor )
+        {
+            return p_value * p_factor.doubleValue();
+        }
+
+        /**
+         * method with more arguments than direct arguments
+         *
+         * @param p_first first value
+         * @param p_second second value
+         * @param p_third third value
+         * @param p_fourth fourth value
+         * @param p_fifth fifth value
+         * @return sum
+         */
+        @IAgentActionFilter
+        public final int five( final Number p_first, final Number p_second, final Number p_third, final Number p_fourth, final Number p_fifth )
+        {
+            return p_first.intValue() + p_second.intValue() + p_third.intValue() + p_fourth.intValue() + p_fifth.intValue();
+        }
+
+        /**
+         * method with variable arguments
+         *
+         * @param p_values values
+         * @return joined values
+         */
+        @IAgentActionFilter
+        public final String join( final String... p_values )
+        {
+            return String.join( "", p_values );
+        }
+
+        /**
+         * method with a fixed and variable arguments
+         *
+         * @param p_name name
+         * @param p_values values
+         * @return name with the number of values
+         */
+        @IAgentActionFilter
+        public final String count( final String p_name, final Number... p_values )
+        {
+            return p_name + p_values.length;
+        }
+
+        /**
+         * method with an exception
+         */
+        @IAgentActionFilter
+        public final void error()
+        {
+            throw new IllegalStateException();
+        }
+    }
+
+}
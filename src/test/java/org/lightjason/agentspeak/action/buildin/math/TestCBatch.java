@@ -0,0 +1,277 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.buildin.math;
+
+import cern.colt.matrix.DoubleMatrix1D;
+import cern.colt.matrix.impl.DenseDoubleMatrix1D;
+import org.junit.Test;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.buildin.collection.list.CCreate;
+import org.lightjason.agentspeak.action.buildin.math.blas.CDoubleList;
+import org.lightjason.agentspeak.action.buildin.math.blas.vector.CFromList;
+import org.lightjason.agentspeak.action.buildin.math.blas.vector.CToArray;
+import org.lightjason.agentspeak.action.buildin.math.blas.vector.CToList;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.score.IAggregation;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the batch evaluation of the math actions
+ */
+public final class TestCBatch
+{
+    /**
+     * numeric delta
+     */
+    private static final double DELTA = 1e-12;
+    /**
+     * number of values, which are calculated in more than one parallel chunk
+     */
+    private static final int SIZE = 10000;
+
+    /**
+     * test that a double array is calculated as batch
+     */
+    @Test
+    public final void testArray()
+    {
+        final double[] l_values = IntStream.range( 0, SIZE ).mapToDouble( i -> i ).toArray();
+
+        final List<ITerm> l_sequential = TestCBatch.execute( new CSqrt(), false, l_values );
+        final List<ITerm> l_parallel = TestCBatch.execute( new CSqrt(), true, l_values );
+
+        assertEquals( "batch call returns more than one term", 1, l_sequential.size() );
+        assertEquals( "parallel batch call returns more than one term", 1, l_parallel.size() );
+        assertArrayEquals( "batch values are wrong", Arrays.stream( l_values ).map( Math::sqrt ).toArray(), l_sequential.get( 0 ).raw(), DELTA );
+        assertArrayEquals( "parallel batch values are wrong", l_sequential.get( 0 ).<double[]>raw(), l_parallel.get( 0 ).raw(), DELTA );
+        assertEquals( "argument is changed", SIZE - 1, l_values[SIZE - 1], DELTA );
+    }
+
+    /**
+     * test that the lists of the blas actions
+     * are calculated value by value
+     */
+    @Test
+    public final void testDoubleList()
+    {
+        final List<ITerm> l_list = TestCBatch.execute( new CToList(), false, new DenseDoubleMatrix1D( new double[]{1, 4, 9} ) );
+        final List<ITerm> l_return = TestCBatch.execute( new CSqrt(), false, l_list.get( 0 ).<Object>raw() );
+
+        assertEquals(
+            "double list is calculated as batch",
+            Arrays.asList( 1.0, 2.0, 3.0 ),
+            l_return.stream().map( ITerm::raw ).collect( Collectors.toList() )
+        );
+
+        final CDoubleList l_untrimmed = CDoubleList.from( 16 );
+        l_untrimmed.add( 25 );
+        assertEquals(
+            "untrimmed double list is wrong",
+            Arrays.asList( 4.0, 5.0 ),
+            TestCBatch.execute( new CSqrt(), true, l_untrimmed ).stream().map( ITerm::raw ).collect( Collectors.toList() )
+        );
+        assertEquals(
+            "prime of a double list is calculated as batch",
+            Arrays.asList( false, true, true ),
+            TestCBatch.execute( new CIsPrime(), false, CDoubleList.from( 1, 2, 3 ) ).stream().map( ITerm::raw ).collect( Collectors.toList() )
+        );
+    }
+
+    /**
+     * test the reduction of a batch
+     */
+    @Test
+    public final void testReduce()
+    {
+        final double[] l_values = IntStream.range( 0, SIZE ).mapToDouble( i -> i % 97 - 48 ).toArray();
+        final List<Double> l_list = Arrays.stream( l_values ).boxed().collect( Collectors.toList() );
+
+        Arrays.<IAction>asList( new CSum(), new CAverage(), new CMax(), new CMin() ).forEach( i -> {
+            final double l_expected = TestCBatch.execute( i, false, l_list ).get( 0 ).<Number>raw().doubleValue();
+
+            assertEquals( "batch reduction is wrong", l_expected, TestCBatch.execute( i, false, l_values ).get( 0 ).<Number>raw().doubleValue(), 1e-9 );
+            assertEquals( "parallel batch reduction is wrong", l_expected, TestCBatch.execute( i, true, l_values ).get( 0 ).<Number>raw().doubleValue(), 1e-9 );
+            assertEquals(
+                "double list reduction is wrong",
+                l_expected, TestCBatch.execute( i, true, CDoubleList.from( l_values ) ).get( 0 ).<Number>raw().doubleValue(), 1e-9
+            );
+        } );
+    }
+
+    /**
+     * test the prime check of a batch
+     */
+    @Test
+    public final void testPrime()
+    {
+        final List<ITerm> l_return = TestCBatch.execute( new CIsPrime(), true, new double[]{1, 2, 3, 4, 5, 97, 100} );
+
+        assertEquals( "batch call returns more than one term", 1, l_return.size() );
+        assertTrue( "batch call does not return a boolean array", l_return.get( 0 ).raw() instanceof boolean[] );
+        assertArrayEquals(
+            "prime values are wrong",
+            new Boolean[]{false, true, true, false, true, true, false},
+            IntStream.range( 0, 7 ).mapToObj( i -> l_return.get( 0 ).<boolean[]>raw()[i] ).toArray( Boolean[]::new )
+        );
+    }
+
+    /**
+     * test that an agent plan calls the math actions
+     * as batch with the array of a list
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testAgent() throws Exception
+    {
+        final IAgent<?> l_agent = new CAgentGenerator(
+            "+!run <- L = collection/list/create(1, 4, 9, 16); A = math/blas/vector/toarray(L); R = math/sqrt(A); S = @math/sqrt(A); "
+            + "T = math/blas/vector/tolist(R); M = math/max(R); V = math/blas/vector/fromlist(A); +result(R, S, T, M, V)."
+        ).generatesingle();
+
+        assertTrue(
+            "plan fails",
+            l_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "run" ) ), true ).value()
+        );
+
+        final List<Object> l_result = l_agent.beliefbase().stream( CPath.from( "result" ) )
+                                             .flatMap( ILiteral::orderedvalues )
+                                             .map( ITerm::raw )
+                                             .collect( Collectors.toList() );
+
+        assertTrue( "plan does not call the batch action", l_result.get( 0 ) instanceof double[] );
+        assertArrayEquals( "batch values are wrong", new double[]{1, 2, 3, 4}, (double[]) l_result.get( 0 ), DELTA );
+        assertArrayEquals( "parallel batch values are wrong", new double[]{1, 2, 3, 4}, (double[]) l_result.get( 1 ), DELTA );
+        assertEquals( "list of the batch values is wrong", Arrays.asList( 1.0, 2.0, 3.0, 4.0 ), l_result.get( 2 ) );
+        assertEquals( "reduction of the batch values is wrong", 4.0, ( (Number) l_result.get( 3 ) ).doubleValue(), DELTA );
+        assertArrayEquals( "vector of the array is wrong", new double[]{1, 4, 9, 16}, ( (DoubleMatrix1D) l_result.get( 4 ) ).toArray(), DELTA );
+    }
+
+    /**
+     * manuell running test
+     *
+     * @param p_args arguments
+     * @throws Exception on execution error
+     */
+    public static void main( final String[] p_args ) throws Exception
+    {
+        new TestCBatch().testArray();
+        new TestCBatch().testDoubleList();
+        new TestCBatch().testReduce();
+        new TestCBatch().testPrime();
+        new TestCBatch().testAgent();
+    }
+
+    /**
+     * executes an action
+     *
+     * @param p_action action
+     * @param p_parallel parallel flag
+     * @param p_arguments arguments
+     * @return return values
+     */
+    private static List<ITerm> execute( final IAction p_action, final boolean p_parallel, final Object... p_arguments )
+    {
+        final List<ITerm> l_return = new LinkedList<>();
+        p_action.execute(
+            null, p_parallel,
+            Arrays.stream( p_arguments ).map( CRawTerm::from ).collect( Collectors.toList() ),
+            l_return,
+            Collections.emptyList()
+        );
+        return l_return;
+    }
+
+
+    /**
+     * agent generator with the math and vector actions
+     */
+    private static final class CAgentGenerator extends IBaseAgentGenerator<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_asl agent source
+         * @throws Exception on parsing error
+         */
+        CAgentGenerator( final String p_asl ) throws Exception
+        {
+            super(
+                new ByteArrayInputStream( p_asl.getBytes( StandardCharsets.UTF_8 ) ),
+                Stream.of( new CCreate(), new CSqrt(), new CMax(), new CToArray(), new CToList(), new CFromList() ).collect( Collectors.toSet() ),
+                IAggregation.EMPTY,
+                Collections.emptySet(),
+                IVariableBuilder.EMPTY
+            );
+        }
+
+        @Override
+        public final IAgent<?> generatesingle( final Object... p_data )
+        {
+            return new CAgent( m_configuration );
+        }
+    }
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<IAgent<?>> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+}
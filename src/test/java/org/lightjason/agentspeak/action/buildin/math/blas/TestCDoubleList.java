@@ -0,0 +1,211 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.buildin.math.blas;
+
+import cern.colt.matrix.DoubleMatrix1D;
+import cern.colt.matrix.DoubleMatrix2D;
+import org.junit.Test;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.buildin.math.blas.vector.CFromList;
+import org.lightjason.agentspeak.error.CIllegalStateException;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+
+/**
+ * test of the double list and the vector creation of the blas actions
+ */
+public final class TestCDoubleList
+{
+    /**
+     * dense type name
+     */
+    private static final String DENSE = "dense";
+    /**
+     * numeric delta
+     */
+    private static final double DELTA = 1e-12;
+
+    /**
+     * test that the vector of a double list is a copy by default
+     */
+    @Test
+    public final void testCopy()
+    {
+        final CDoubleList l_list = CDoubleList.from( 1, 2, 3 );
+        final DoubleMatrix1D l_vector = TestCDoubleList.execute( new CFromList(), l_list ).get( 0 ).raw();
+
+        l_list.set( 0, 9 );
+        l_vector.setQuick( 1, 8 );
+
+        assertArrayEquals( "vector is changed by the list", new double[]{1, 8, 3}, l_vector.toArray(), DELTA );
+        assertEquals( "list is changed by the vector", Arrays.asList( 9.0, 2.0, 3.0 ), l_list );
+
+        final double[] l_array = {4, 5};
+        final DoubleMatrix1D l_arrayvector = TestCDoubleList.execute( new CFromList(), l_array, DENSE ).get( 0 ).raw();
+        l_array[0] = 0;
+        assertEquals( "vector is changed by the array", 4, l_arrayvector.getQuick( 0 ), DELTA );
+    }
+
+    /**
+     * test that the vector of a double list
+     * shares the values with the share flag
+     */
+    @Test
+    public final void testShare()
+    {
+        final CDoubleList l_list = CDoubleList.from( 1, 2, 3 );
+        final DoubleMatrix1D l_vector = TestCDoubleList.execute( new CFromList(), l_list, DENSE, true ).get( 0 ).raw();
+
+        l_list.set( 0, 9 );
+        l_vector.setQuick( 1, 8 );
+
+        assertArrayEquals( "vector does not share the list values", new double[]{9, 8, 3}, l_vector.toArray(), DELTA );
+        assertEquals( "list does not share the vector values", Arrays.asList( 9.0, 8.0, 3.0 ), l_list );
+
+        final DoubleMatrix1D l_sparse = TestCDoubleList.execute( new CFromList(), l_list, "sparse", true ).get( 0 ).raw();
+        l_list.set( 2, 0 );
+        assertEquals( "sparse vector shares the list values", 3, l_sparse.getQuick( 2 ), DELTA );
+    }
+
+    /**
+     * test that the values of a list with unused
+     * capacity are not reallocated silently
+     */
+    @Test
+    public final void testCapacity()
+    {
+        final CDoubleList l_list = CDoubleList.from( 1, 2 );
+        final double[] l_elements = l_list.elements();
+        l_list.add( 3 );
+
+        try
+        {
+            l_list.elements();
+            throw new AssertionError( "elements of an untrimmed list are returned" );
+        }
+        catch ( final CIllegalStateException l_exception )
+        {
+            // the list must be trimmed explicitly
+        }
+
+        assertArrayEquals( "copy is wrong", new double[]{1, 2, 3}, l_list.toDoubleArray(), DELTA );
+        assertArrayEquals( "trimmed elements are wrong", new double[]{1, 2, 3}, l_list.trim().elements(), DELTA );
+        assertSame( "trimmed list is reallocated again", l_list.elements(), l_list.trim().elements() );
+        assertNotSame( "trimmed list uses the first array", l_elements, l_list.elements() );
+
+        l_list.add( 4 );
+        final DoubleMatrix1D l_vector = TestCDoubleList.execute( new CFromList(), l_list, DENSE, true ).get( 0 ).raw();
+        l_list.set( 3, 5 );
+        assertArrayEquals( "shared vector of an untrimmed list is wrong", new double[]{1, 2, 3, 5}, l_vector.toArray(), DELTA );
+    }
+
+    /**
+     * test the vector and matrix creation of the blas types
+     */
+    @Test
+    public final void testType()
+    {
+        final double[] l_values = {1, 0, 2, 0, 3, 4};
+
+        final DoubleMatrix1D l_copy = EType.DENSE.vector( l_values );
+        final DoubleMatrix1D l_shared = EType.DENSE.vector( l_values, true );
+        final DoubleMatrix2D l_matrix = EType.DENSE.matrix( 2, 3, l_values );
+        final DoubleMatrix2D l_sharedmatrix = EType.DENSE.matrix( 2, 3, l_values, true );
+        final DoubleMatrix2D l_sparse = EType.SPARSE.matrix( 2, 3, l_values, true );
+
+        l_values[0] = 7;
+
+        assertEquals( "dense vector is not a copy", 1, l_copy.getQuick( 0 ), DELTA );
+        assertEquals( "dense vector does not share the values", 7, l_shared.getQuick( 0 ), DELTA );
+        assertEquals( "dense matrix is not a copy", 1, l_matrix.getQuick( 0, 0 ), DELTA );
+        assertEquals( "dense matrix does not share the values", 7, l_sharedmatrix.getQuick( 0, 0 ), DELTA );
+        assertEquals( "sparse matrix shares the values", 1, l_sparse.getQuick( 0, 0 ), DELTA );
+        assertEquals( "matrix is not row-major", 4, l_matrix.getQuick( 1, 2 ), DELTA );
+        assertEquals( "sparse matrix has got zero values", 4, l_sparse.cardinality() );
+
+        Arrays.asList( l_copy, l_shared, l_matrix, l_sharedmatrix, l_sparse )
+              .forEach( i -> assertFalse( "blas structure is an anonymous class", i.getClass().isAnonymousClass() ) );
+        assertArrayEquals( "copy of the shared vector is wrong", l_values, l_shared.copy().toArray(), DELTA );
+    }
+
+    /**
+     * test that a list of numbers is copied
+     */
+    @Test
+    public final void testNumberList()
+    {
+        final List<Number> l_list = new LinkedList<>( Arrays.asList( 1L, 2.5, 3 ) );
+        final DoubleMatrix1D l_vector = TestCDoubleList.execute( new CFromList(), l_list, DENSE, true ).get( 0 ).raw();
+
+        l_list.set( 0, 9 );
+        assertArrayEquals( "vector of a number list is wrong", new double[]{1, 2.5, 3}, l_vector.toArray(), DELTA );
+    }
+
+    /**
+     * manuell running test
+     *
+     * @param p_args arguments
+     */
+    public static void main( final String[] p_args )
+    {
+        new TestCDoubleList().testCopy();
+        new TestCDoubleList().testShare();
+        new TestCDoubleList().testCapacity();
+        new TestCDoubleList().testType();
+        new TestCDoubleList().testNumberList();
+    }
+
+    /**
+     * executes an action
+     *
+     * @param p_action action
+     * @param p_arguments arguments
+     * @return return values
+     */
+    private static List<ITerm> execute( final IAction p_action, final Object... p_arguments )
+    {
+        final List<ITerm> l_return = new LinkedList<>();
+        p_action.execute(
+            null, false,
+            Arrays.stream( p_arguments ).map( CRawTerm::from ).collect( Collectors.toList() ),
+            l_return,
+            Collections.emptyList()
+        );
+        return l_return;
+    }
+
+}
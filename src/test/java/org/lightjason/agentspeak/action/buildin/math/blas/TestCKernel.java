@@ -0,0 +1,221 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.buildin.math.blas;
+
+import cern.colt.matrix.DoubleMatrix1D;
+import cern.colt.matrix.DoubleMatrix2D;
+import cern.colt.matrix.impl.DenseDoubleMatrix1D;
+import cern.colt.matrix.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.impl.SparseDoubleMatrix1D;
+import cern.colt.matrix.impl.SparseDoubleMatrix2D;
+import cern.colt.matrix.linalg.Algebra;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the parallel blas kernels against the sequential Colt algebra
+ */
+public final class TestCKernel
+{
+    /**
+     * numeric delta
+     */
+    private static final double DELTA = 1e-9;
+    /**
+     * seed of the random values
+     */
+    private static final long SEED = 7;
+    /**
+     * storage types
+     */
+    private static final boolean[] SPARSE = {false, true};
+
+    /**
+     * test the matrix-matrix product of dense and sparse matrices
+     */
+    @Test
+    public final void testMultiplyMatrix()
+    {
+        final Random l_random = new Random( SEED );
+
+        for ( final boolean l_firstsparse : SPARSE )
+            for ( final boolean l_secondsparse : SPARSE )
+            {
+                final DoubleMatrix2D l_first = TestCKernel.random( l_random, 150, 130, l_firstsparse );
+                final DoubleMatrix2D l_second = TestCKernel.random( l_random, 130, 70, l_secondsparse );
+                final DoubleMatrix2D l_result = CKernel.multiply( l_first, l_second );
+
+                TestCKernel.assertMatrix( Algebra.DEFAULT.mult( l_first, l_second ), l_result );
+                assertTrue(
+                    "result type is not the type of the first matrix",
+                    ( l_firstsparse ? SparseDoubleMatrix2D.class : DenseDoubleMatrix2D.class ).isInstance( l_result )
+                );
+            }
+    }
+
+    /**
+     * test that the product of sparse matrices
+     * stores the non-zero values only
+     */
+    @Test
+    public final void testMultiplySparse()
+    {
+        final int l_size = 40000;
+        final DoubleMatrix2D l_first = new SparseDoubleMatrix2D( l_size, l_size );
+        final DoubleMatrix2D l_second = new SparseDoubleMatrix2D( l_size, l_size );
+        IntStream.range( 0, l_size ).forEach( i -> {
+            l_first.setQuick( i, i, 2 );
+            l_second.setQuick( i, ( i + 1 ) % l_size, i );
+        } );
+        l_first.setQuick( 0, 1, 1 );
+        l_second.setQuick( 0, 2, 1 );
+        l_second.setQuick( 1, 2, -2 );
+
+        final DoubleMatrix2D l_result = CKernel.multiply( l_first, l_second );
+
+        assertTrue( "result is not sparse", l_result instanceof SparseDoubleMatrix2D );
+        assertEquals( "number of non-zero values is wrong", l_size - 1, l_result.cardinality() );
+        assertEquals( "value is wrong", 2 * 100, l_result.getQuick( 100, 101 ), DELTA );
+        assertEquals( "value is wrong", -4, l_result.getQuick( 1, 2 ), DELTA );
+        assertEquals( "cancelled value is wrong", 0, l_result.getQuick( 0, 2 ), DELTA );
+        assertEquals( "value is wrong", 2 * ( l_size - 1 ), l_result.getQuick( l_size - 1, 0 ), DELTA );
+    }
+
+    /**
+     * test the matrix-vector and the outer product
+     */
+    @Test
+    public final void testMultiplyVector()
+    {
+        final Random l_random = new Random( SEED );
+
+        for ( final boolean l_sparse : SPARSE )
+        {
+            final DoubleMatrix2D l_matrix = TestCKernel.random( l_random, 90, 60, l_sparse );
+            final DoubleMatrix1D l_vector = new DenseDoubleMatrix1D( 60 ).assign( i -> l_random.nextGaussian() );
+            final DoubleMatrix1D l_expected = Algebra.DEFAULT.mult( l_matrix, l_vector );
+            final DoubleMatrix1D l_result = CKernel.multiply( l_matrix, l_vector );
+
+            assertEquals( "vector size is wrong", l_expected.size(), l_result.size() );
+            IntStream.range( 0, l_result.size() )
+                     .forEach( i -> assertEquals( "matrix-vector product is wrong", l_expected.getQuick( i ), l_result.getQuick( i ), DELTA ) );
+        }
+
+        final DoubleMatrix1D l_first = new SparseDoubleMatrix1D( new double[]{1, 0, 2} );
+        final DoubleMatrix1D l_second = new DenseDoubleMatrix1D( new double[]{3, 4} );
+        TestCKernel.assertMatrix( Algebra.DEFAULT.multOuter( l_first, l_second, null ), CKernel.multiplyouter( l_first, l_second ) );
+        TestCKernel.assertMatrix( Algebra.DEFAULT.multOuter( l_second, l_first, null ), CKernel.multiplyouter( l_second, l_first ) );
+    }
+
+    /**
+     * test the solving and inverting
+     */
+    @Test
+    public final void testSolve()
+    {
+        final Random l_random = new Random( SEED );
+
+        for ( final boolean l_sparse : SPARSE )
+        {
+            final DoubleMatrix2D l_matrix = TestCKernel.random( l_random, 90, 90, l_sparse );
+            final DoubleMatrix2D l_result = TestCKernel.random( l_random, 90, 4, !l_sparse );
+
+            TestCKernel.assertMatrix( Algebra.DEFAULT.solve( l_matrix, l_result ), CKernel.solve( l_matrix, l_result ) );
+            TestCKernel.assertMatrix( Algebra.DEFAULT.inverse( l_matrix ), CKernel.invert( l_matrix ) );
+        }
+    }
+
+    /**
+     * test the element-wise function
+     */
+    @Test
+    public final void testAssign()
+    {
+        final Random l_random = new Random( SEED );
+
+        for ( final boolean l_sparse : SPARSE )
+        {
+            final DoubleMatrix2D l_matrix = TestCKernel.random( l_random, 40, 30, l_sparse );
+            final DoubleMatrix2D l_expected = l_matrix.copy().assign( i -> i * 2.5 );
+
+            CKernel.assign( l_matrix, i -> i * 2.5 );
+            TestCKernel.assertMatrix( l_expected, l_matrix );
+        }
+    }
+
+    /**
+     * manuell running test
+     *
+     * @param p_args arguments
+     */
+    public static void main( final String[] p_args )
+    {
+        new TestCKernel().testMultiplyMatrix();
+        new TestCKernel().testMultiplySparse();
+        new TestCKernel().testMultiplyVector();
+        new TestCKernel().testSolve();
+        new TestCKernel().testAssign();
+    }
+
+    /**
+     * creates a random matrix with a dominant diagonal
+     *
+     * @param p_random random generator
+     * @param p_rows number of rows
+     * @param p_columns number of columns
+     * @param p_sparse sparse matrix
+     * @return matrix
+     */
+    private static DoubleMatrix2D random( final Random p_random, final int p_rows, final int p_columns, final boolean p_sparse )
+    {
+        final DoubleMatrix2D l_matrix = p_sparse ? new SparseDoubleMatrix2D( p_rows, p_columns ) : new DenseDoubleMatrix2D( p_rows, p_columns );
+        for ( int i = 0; i < p_rows; i++ )
+            for ( int j = 0; j < p_columns; j++ )
+                if ( ( !p_sparse ) || ( i == j ) || ( p_random.nextDouble() < 0.1 ) )
+                    l_matrix.setQuick( i, j, p_random.nextGaussian() + ( i == j ? 5 : 0 ) );
+        return l_matrix;
+    }
+
+    /**
+     * checks the dimensions and values of a matrix
+     *
+     * @param p_expected expected matrix
+     * @param p_result result matrix
+     */
+    private static void assertMatrix( final DoubleMatrix2D p_expected, final DoubleMatrix2D p_result )
+    {
+        assertEquals( "number of rows is wrong", p_expected.rows(), p_result.rows() );
+        assertEquals( "number of columns is wrong", p_expected.columns(), p_result.columns() );
+        IntStream.range( 0, p_expected.rows() ).forEach( i -> IntStream.range( 0, p_expected.columns() ).forEach(
+            j -> assertEquals( "matrix value is wrong", p_expected.getQuick( i, j ), p_result.getQuick( i, j ), DELTA )
+        ) );
+    }
+
+}
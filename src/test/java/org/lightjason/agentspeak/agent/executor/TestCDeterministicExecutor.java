@@ -0,0 +1,220 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.executor;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
+import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.score.IAggregation;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+
+/**
+ * test of the deterministic execution
+ */
+public final class TestCDeterministicExecutor
+{
+    /**
+     * agent source with multiple plans of the same trigger
+     */
+    private static final String ASL = "+!run <- test/record(1). +!run <- test/record(2). +!other <- test/record(3). +!run <- test/record(4).";
+    /**
+     * number of agents
+     */
+    private static final int AGENTS = 3;
+    /**
+     * records of the agents
+     */
+    private final List<String> m_records = Collections.synchronizedList( new ArrayList<>() );
+
+
+    /**
+     * test that runs with the same seed
+     * execute the plans in the same order
+     * with the same random values
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testReproducible() throws Exception
+    {
+        final List<String> l_first = this.run( 42 );
+        final List<String> l_second = this.run( 42 );
+
+        assertEquals( "number of records is wrong", AGENTS * 4, l_first.size() );
+        assertEquals( "runs with the same seed are different", l_first, l_second );
+        assertEquals(
+            "plans are not executed in source and trigger order",
+            "[3, 1, 2, 4]",
+            l_first.stream().limit( 4 ).map( i -> i.split( " " )[0] ).collect( Collectors.toList() ).toString()
+        );
+    }
+
+    /**
+     * test that different seeds and different
+     * agents get different random values
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testSeed() throws Exception
+    {
+        final List<String> l_records = this.run( 42 );
+
+        assertNotEquals( "runs with different seeds are equal", l_records, this.run( 43 ) );
+        assertNotEquals( "agents have the same random values", l_records.subList( 0, 4 ), l_records.subList( 4, 8 ) );
+    }
+
+    /**
+     * manuell running test
+     *
+     * @param p_args arguments
+     * @throws Exception on execution error
+     */
+    public static void main( final String[] p_args ) throws Exception
+    {
+        new TestCDeterministicExecutor().testReproducible();
+        new TestCDeterministicExecutor().testSeed();
+    }
+
+    /**
+     * runs the agents with a seed and
+     * returns the records of the run
+     *
+     * @param p_seed seed
+     * @return records
+     * @throws Exception on execution error
+     */
+    private List<String> run( final long p_seed ) throws Exception
+    {
+        m_records.clear();
+        final List<IAgent<?>> l_agents = new CAgentGenerator( new CDeterministicExecutor( p_seed ) ).generatemultiple( AGENTS ).collect( Collectors.toList() );
+        for ( final IAgent<?> l_agent : l_agents )
+        {
+            l_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "run" ) ) );
+            l_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "other" ) ) );
+            l_agent.call();
+        }
+
+        return new ArrayList<>( m_records );
+    }
+
+
+    /**
+     * action to record the plan and a random value of the agent
+     */
+    private final class CRecord extends IBaseAction
+    {
+
+        @Override
+        public final IPath name()
+        {
+            return CPath.from( "test/record" );
+        }
+
+        @Override
+        public final int minimalArgumentNumber()
+        {
+            return 1;
+        }
+
+        @Override
+        public final IFuzzyValue<Boolean> execute( final IContext p_context, final boolean p_parallel, final List<ITerm> p_argument, final List<ITerm> p_return,
+                                                   final List<ITerm> p_annotation
+        )
+        {
+            m_records.add( p_argument.get( 0 ).raw() + " " + p_context.agent().random().nextDouble() );
+            return CFuzzyValue.from( true );
+        }
+    }
+
+    /**
+     * agent generator
+     */
+    private final class CAgentGenerator extends IBaseAgentGenerator<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_executor executor
+         * @throws Exception on parsing error
+         */
+        CAgentGenerator( final IExecutor p_executor ) throws Exception
+        {
+            super(
+                new ByteArrayInputStream( ASL.getBytes( StandardCharsets.UTF_8 ) ),
+                Collections.singleton( new CRecord() ),
+                IAggregation.EMPTY,
+                Collections.emptySet(),
+                IVariableBuilder.EMPTY,
+                p_executor
+            );
+        }
+
+        @Override
+        public final IAgent<?> generatesingle( final Object... p_data )
+        {
+            return new CAgent( m_configuration );
+        }
+    }
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<IAgent<?>> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+}
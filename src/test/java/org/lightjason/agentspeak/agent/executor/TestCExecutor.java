@@ -0,0 +1,243 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.executor;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
+import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.score.IAggregation;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the agent executor
+ */
+public final class TestCExecutor
+{
+    /**
+     * agent source
+     */
+    private static final String ASL = "+!run <- test/thread().";
+    /**
+     * number of generated agents
+     */
+    private final AtomicInteger m_generated = new AtomicInteger();
+    /**
+     * threads, which run the plans
+     */
+    private final Set<Thread> m_threads = Collections.synchronizedSet( new HashSet<>() );
+
+
+    /**
+     * test that the agent generation is lazy
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testLazyGeneration() throws Exception
+    {
+        final CExecutor l_executor = new CExecutor( 2 );
+        try
+        {
+            final Stream<IAgent<?>> l_agents = new CAgentGenerator( l_executor ).generatemultiple( 5 );
+            assertEquals( "agents are generated before the stream is consumed", 0, m_generated.get() );
+
+            assertEquals( "number of agents is wrong", 5, l_agents.collect( Collectors.toList() ).size() );
+            assertEquals( "number of generated agents is wrong", 5, m_generated.get() );
+        }
+        finally
+        {
+            l_executor.shutdown();
+        }
+    }
+
+    /**
+     * test that the agent cycle runs within the executor pool
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testCyclePool() throws Exception
+    {
+        final CExecutor l_executor = new CExecutor( 2 );
+        try
+        {
+            final List<IAgent<?>> l_agents = new CAgentGenerator( l_executor ).generatemultiple( 4 ).collect( Collectors.toList() );
+            for ( final IAgent<?> l_agent : l_agents )
+            {
+                l_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "run" ) ) );
+                l_agent.call();
+            }
+
+            assertTrue( "plans are not executed", !m_threads.isEmpty() );
+            assertTrue(
+                "plans are executed outside of the executor pool",
+                m_threads.stream().allMatch( i -> ( i instanceof ForkJoinWorkerThread ) && ( ( (ForkJoinWorkerThread) i ).getPool() == l_executor.pool() ) )
+            );
+            assertEquals( "number of executed cycles is wrong", l_agents.size(), l_executor.executedtasks() );
+        }
+        finally
+        {
+            l_executor.shutdown();
+        }
+    }
+
+    /**
+     * test that the executors of blocking calls are bounded
+     */
+    @Test
+    public final void testBoundedBlocking()
+    {
+        final CExecutor l_executor = new CExecutor( 1 );
+        try
+        {
+            Stream.of( l_executor.blocking(), IExecutor.EMPTY.blocking(), new CDeterministicExecutor( 1 ).blocking() )
+                  .forEach( i -> {
+                      assertTrue( "blocking executor is not a thread pool", i instanceof ThreadPoolExecutor );
+                      assertEquals( "blocking executor is unbounded", CExecutor.BLOCKINGTHREADS, ( (ThreadPoolExecutor) i ).getMaximumPoolSize() );
+                  } );
+        }
+        finally
+        {
+            l_executor.shutdown();
+        }
+    }
+
+    /**
+     * manuell running test
+     *
+     * @param p_args arguments
+     * @throws Exception on execution error
+     */
+    public static void main( final String[] p_args ) throws Exception
+    {
+        new TestCExecutor().testLazyGeneration();
+        new TestCExecutor().testCyclePool();
+        new TestCExecutor().testBoundedBlocking();
+    }
+
+
+    /**
+     * action to store the executing thread
+     */
+    private final class CThread extends IBaseAction
+    {
+
+        @Override
+        public final IPath name()
+        {
+            return CPath.from( "test/thread" );
+        }
+
+        @Override
+        public final int minimalArgumentNumber()
+        {
+            return 0;
+        }
+
+        @Override
+        public final IFuzzyValue<Boolean> execute( final IContext p_context, final boolean p_parallel, final List<ITerm> p_argument, final List<ITerm> p_return,
+                                                   final List<ITerm> p_annotation
+        )
+        {
+            m_threads.add( Thread.currentThread() );
+            return CFuzzyValue.from( true );
+        }
+    }
+
+    /**
+     * agent generator
+     */
+    private final class CAgentGenerator extends IBaseAgentGenerator<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_executor executor
+         * @throws Exception on parsing error
+         */
+        CAgentGenerator( final IExecutor p_executor ) throws Exception
+        {
+            super(
+                new ByteArrayInputStream( ASL.getBytes( StandardCharsets.UTF_8 ) ),
+                Collections.singleton( new CThread() ),
+                IAggregation.EMPTY,
+                Collections.emptySet(),
+                IVariableBuilder.EMPTY,
+                p_executor
+            );
+        }
+
+        @Override
+        public final IAgent<?> generatesingle( final Object... p_data )
+        {
+            m_generated.incrementAndGet();
+            return new CAgent( m_configuration );
+        }
+    }
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<IAgent<?>> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+}
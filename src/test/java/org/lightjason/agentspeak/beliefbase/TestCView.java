@@ -30,10 +30,14 @@ import org.lightjason.agentspeak.beliefbase.storage.CMultiStorage;
 import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.beliefbase.view.IViewGenerator;
 import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
 
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 
@@ -89,6 +93,39 @@ public final class TestCView
         System.out.println( l_beliefbase );
     }
 
+    /**
+     * test that the literal hashes are equal
+     * to the hashes of the literal stream
+     */
+    @Test
+    public final void testHashes()
+    {
+        final IView<IAgent<?>> l_beliefbase = new CBeliefbasePersistent<>( new CMultiStorage<>() ).create( "root" );
+        final IViewGenerator<IAgent<?>> l_gen = new CGenerator();
+
+        Stream.of(
+            CLiteral.from( "toplevel", CRawTerm.from( 1 ) ),
+            CLiteral.from( "first/sub1" ),
+            CLiteral.from( "first/sub2", CRawTerm.from( "value" ) ),
+            CLiteral.from( "second/sub3" ),
+            CLiteral.from( "second/sub/sub4", CRawTerm.from( 2 ) ),
+            CLiteral.from( "second/sub/sub5" )
+        ).forEach( i -> l_beliefbase.generate( l_gen, i.functorpath() ).add( i ) );
+
+        assertArrayEquals(
+            "hashes of all literals are incorrect",
+            l_beliefbase.stream().mapToInt( Object::hashCode ).sorted().toArray(),
+            l_beliefbase.hashes().sorted().toArray()
+        );
+
+        final IPath[] l_paths = {CPath.from( "first/sub2" ), CPath.from( "second/sub/sub5" ), CPath.from( "toplevel" )};
+        assertArrayEquals(
+            "hashes of the paths are incorrect",
+            l_beliefbase.stream( l_paths ).mapToInt( Object::hashCode ).sorted().toArray(),
+            l_beliefbase.hashes( l_paths ).sorted().toArray()
+        );
+    }
+
 
     /**
      * manuell running test
@@ -101,6 +138,7 @@ public final class TestCView
 
         l_test.testTree();
         l_test.testManual();
+        l_test.testHashes();
     }
 
 
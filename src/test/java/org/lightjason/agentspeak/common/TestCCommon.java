@@ -0,0 +1,145 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.common;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
+import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the cached name-action maps
+ */
+public final class TestCCommon
+{
+
+    /**
+     * test that the action map follows
+     * changes of the action collection
+     */
+    @Test
+    public final void testActionMapChange()
+    {
+        final IAction l_first = new CAction( "test/first" );
+        final Set<IAction> l_actions = new HashSet<>();
+        l_actions.add( l_first );
+
+        assertEquals( "action map is wrong", 1, CCommon.actionmap( l_actions ).size() );
+
+        l_actions.add( new CAction( "test/second" ) );
+        final Map<IPath, IAction> l_map = CCommon.actionmap( l_actions );
+        assertEquals( "action map does not follow the collection", 2, l_map.size() );
+        assertTrue( "added action is missing", l_map.containsKey( CPath.from( "test/second" ) ) );
+    }
+
+    /**
+     * test that equal action collections share
+     * the map and that the map contains the
+     * action instances of the collection
+     */
+    @Test
+    public final void testActionMapInstances()
+    {
+        final IAction l_first = new CAction( "test/action" );
+        final IAction l_second = new CAction( "test/action" );
+
+        final Map<IPath, IAction> l_map = CCommon.actionmap( Stream.of( l_first ).collect( Collectors.toSet() ) );
+        assertSame( "action map is not shared", l_map, CCommon.actionmap( Stream.of( l_first ).collect( Collectors.toList() ) ) );
+        assertSame( "action instance is wrong", l_first, l_map.get( CPath.from( "test/action" ) ) );
+
+        final Map<IPath, IAction> l_other = CCommon.actionmap( Stream.of( l_second ).collect( Collectors.toSet() ) );
+        assertNotSame( "action map of equal named actions is shared", l_map, l_other );
+        assertSame( "action instance of equal named action is wrong", l_second, l_other.get( CPath.from( "test/action" ) ) );
+    }
+
+    /**
+     * manuell running test
+     *
+     * @param p_args arguments
+     */
+    public static void main( final String[] p_args )
+    {
+        new TestCCommon().testActionMapChange();
+        new TestCCommon().testActionMapInstances();
+    }
+
+
+    /**
+     * named test action
+     */
+    private static final class CAction extends IBaseAction
+    {
+        /**
+         * action name
+         */
+        private final IPath m_name;
+
+        /**
+         * ctor
+         *
+         * @param p_name action name
+         */
+        CAction( final String p_name )
+        {
+            m_name = CPath.from( p_name );
+        }
+
+        @Override
+        public final IPath name()
+        {
+            return m_name;
+        }
+
+        @Override
+        public final int minimalArgumentNumber()
+        {
+            return 0;
+        }
+
+        @Override
+        public final IFuzzyValue<Boolean> execute( final IContext p_context, final boolean p_parallel, final List<ITerm> p_argument, final List<ITerm> p_return,
+                                                   final List<ITerm> p_annotation
+        )
+        {
+            return CFuzzyValue.from( true );
+        }
+    }
+
+}
@@ -0,0 +1,253 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.configuration;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.agent.fuzzy.CBoolFuzzy;
+import org.lightjason.agentspeak.agent.unify.CUnifier;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.grammar.CParserAgent;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.score.IAggregation;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+
+/**
+ * test of the shared indexes of the agent configuration
+ */
+public final class TestCDefaultAgentConfiguration
+{
+    /**
+     * agent source
+     */
+    private static final String ASL = "value(X) :- X = 1. value(X) :- X = 2. other(X) :- X = 3. "
+                                      + "+!run <- +first(1). +!run <- +second(2). +!stop <- success. +!run <- +third(3).";
+    /**
+     * run trigger
+     */
+    private static final ITrigger RUN = CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "run" ) );
+
+    /**
+     * test that the agents share the indexes of the configuration
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testSharedIndexes() throws Exception
+    {
+        final CAgentGenerator l_generator = new CAgentGenerator();
+        final List<IAgent<?>> l_agents = l_generator.generatemultiple( 3 ).collect( Collectors.toList() );
+
+        l_agents.forEach( i -> {
+            assertSame( "plan index is not shared", l_generator.configuration().planindex(), i.plans() );
+            assertSame( "rule index is not shared", l_generator.configuration().ruleindex(), i.rules() );
+        } );
+    }
+
+    /**
+     * test that the indexes keep the source order
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testOrder() throws Exception
+    {
+        final IAgentConfiguration<IAgent<?>> l_configuration = new CAgentGenerator().configuration();
+
+        assertEquals(
+            "plans are not in source order",
+            "[first, second, third]",
+            l_configuration.planindex().get( RUN ).stream().map( TestCDefaultAgentConfiguration::belief ).collect( Collectors.toList() ).toString()
+        );
+        assertEquals( "number of rules is wrong", 2, l_configuration.ruleindex().get( CPath.from( "value" ) ).size() );
+        assertEquals( "number of rules is wrong", 1, l_configuration.ruleindex().get( CPath.from( "other" ) ).size() );
+
+        assertEquals(
+            "plan identifiers are not in source order",
+            "[0, 1, 2, 3]",
+            l_configuration.plans().stream().map( l_configuration::planid ).collect( Collectors.toList() ).toString()
+        );
+    }
+
+    /**
+     * test that each agent owns its plan statistic
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testStatistic() throws Exception
+    {
+        final List<IAgent<?>> l_agents = new CAgentGenerator().generatemultiple( 2 ).collect( Collectors.toList() );
+        final IPlan l_plan = l_agents.get( 0 ).plans().get( RUN ).iterator().next();
+
+        l_agents.get( 0 ).trigger( RUN );
+        l_agents.get( 0 ).call();
+
+        assertEquals( "number of successful runs is wrong", 1L, l_agents.get( 0 ).planstatistic( l_plan ).getLeft().longValue() );
+        assertEquals( "statistic is shared between agents", 0L, l_agents.get( 1 ).planstatistic( l_plan ).getLeft().longValue() );
+    }
+
+    /**
+     * test that equal plan instances get their own identifier and statistic
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testPlanIdentity() throws Exception
+    {
+        final IPlan l_first = plan();
+        final IPlan l_second = plan();
+        assertEquals( "plans are not equal", l_first, l_second );
+
+        final Set<IPlan> l_plans = Collections.newSetFromMap( new IdentityHashMap<>() );
+        l_plans.add( l_first );
+        l_plans.add( l_second );
+
+        final IAgentConfiguration<IAgent<?>> l_configuration = new CDefaultAgentConfiguration<>(
+            new CBoolFuzzy<>(), Collections.emptySet(), l_plans, Collections.emptySet(), null, new CUnifier(), IAggregation.EMPTY, IVariableBuilder.EMPTY
+        );
+        assertNotEquals( "equal plans share the identifier", l_configuration.planid( l_first ), l_configuration.planid( l_second ) );
+
+        final IAgent<?> l_agent = new CAgent( l_configuration );
+        l_agent.trigger( RUN );
+        l_agent.call();
+
+        assertEquals( "statistic of equal plans is shared", 1L, l_agent.planstatistic( l_first ).getLeft().longValue() );
+        assertEquals( "statistic of equal plans is shared", 1L, l_agent.planstatistic( l_second ).getLeft().longValue() );
+    }
+
+    /**
+     * manuell running test
+     *
+     * @param p_args arguments
+     * @throws Exception on execution error
+     */
+    public static void main( final String[] p_args ) throws Exception
+    {
+        final TestCDefaultAgentConfiguration l_test = new TestCDefaultAgentConfiguration();
+
+        l_test.testSharedIndexes();
+        l_test.testOrder();
+        l_test.testStatistic();
+        l_test.testPlanIdentity();
+    }
+
+    /**
+     * parses a new plan instance
+     *
+     * @return plan
+     * @throws Exception on parsing error
+     */
+    private static IPlan plan() throws Exception
+    {
+        return new CParserAgent( Collections.emptySet() ).parse(
+            new ByteArrayInputStream( "+!run <- +first(1).".getBytes( StandardCharsets.UTF_8 ) )
+        ).plans().iterator().next();
+    }
+
+    /**
+     * returns the name of the belief, which is added by a plan
+     *
+     * @param p_plan plan
+     * @return belief name
+     */
+    private static String belief( final IPlan p_plan )
+    {
+        return p_plan.toString().replaceAll( "(?s).*\\+([a-z]+)\\[.*", "$1" );
+    }
+
+
+    /**
+     * agent generator
+     */
+    private static final class CAgentGenerator extends IBaseAgentGenerator<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @throws Exception on parsing error
+         */
+        CAgentGenerator() throws Exception
+        {
+            super(
+                new ByteArrayInputStream( ASL.getBytes( StandardCharsets.UTF_8 ) ),
+                Collections.emptySet(),
+                IAggregation.EMPTY,
+                Collections.emptySet(),
+                IVariableBuilder.EMPTY
+            );
+        }
+
+        /**
+         * returns the configuration
+         *
+         * @return configuration
+         */
+        IAgentConfiguration<IAgent<?>> configuration()
+        {
+            return m_configuration;
+        }
+
+        @Override
+        public final IAgent<?> generatesingle( final Object... p_data )
+        {
+            return new CAgent( m_configuration );
+        }
+    }
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<IAgent<?>> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+}
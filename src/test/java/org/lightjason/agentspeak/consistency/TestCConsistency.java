@@ -0,0 +1,396 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.consistency;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.configuration.CDefaultAgentConfiguration;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.consistency.filter.CAll;
+import org.lightjason.agentspeak.consistency.metric.CSymmetricDifference;
+import org.lightjason.agentspeak.consistency.metric.IMetric;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.ITerm;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the incremental consistency calculation
+ */
+public final class TestCConsistency
+{
+    /**
+     * delta of the consistency values
+     */
+    private static final double DELTA = 1e-6;
+    /**
+     * number of agents
+     */
+    private static final int AGENTS = 12;
+    /**
+     * number of common beliefs
+     */
+    private static final int COMMONBELIEFS = 60;
+    /**
+     * number of agents of the tile test, which is not a multiple of the tile size
+     */
+    private static final int TILEAGENTS = 150;
+
+
+    /**
+     * test that a belief update, which keeps the
+     * sum of the literal hashes, is recalculated
+     *
+     * @throws Exception on calculation error
+     */
+    @Test
+    public final void testBeliefUpdate() throws Exception
+    {
+        final List<IAgent<?>> l_agents = Stream.of(
+            agent( literal( "x", 10 ), literal( "y", 20 ) ),
+            agent( literal( "x", 10 ), literal( "y", 20 ) ),
+            agent( literal( "x", 10 ), literal( "y", 20 ), CLiteral.from( "z" ) )
+        ).collect( Collectors.toList() );
+
+        final IConsistency l_incremental = CConsistency.numeric( new CAll(), new CSymmetricDifference() );
+        l_agents.forEach( l_incremental::add );
+        l_incremental.call();
+
+        l_agents.get( 0 ).beliefbase().remove( literal( "x", 10 ), literal( "y", 20 ) );
+        l_agents.get( 0 ).beliefbase().add( literal( "x", 11 ), literal( "y", 19 ) );
+        l_incremental.call();
+
+        final IConsistency l_fresh = CConsistency.numeric( new CAll(), new CSymmetricDifference() );
+        l_agents.forEach( l_fresh::add );
+        l_fresh.call();
+
+        assertArrayEquals(
+            "incremental values differ from a fresh calculation",
+            l_agents.stream().mapToDouble( l_fresh::value ).toArray(),
+            l_agents.stream().mapToDouble( l_incremental::value ).toArray(),
+            DELTA
+        );
+    }
+
+    /**
+     * test that removing and adding a
+     * belief is recalculated
+     *
+     * @throws Exception on calculation error
+     */
+    @Test
+    public final void testBeliefChange() throws Exception
+    {
+        final List<IAgent<?>> l_agents = Stream.of(
+            agent( CLiteral.from( "a" ), CLiteral.from( "b" ) ),
+            agent( CLiteral.from( "a" ), CLiteral.from( "b" ) ),
+            agent( CLiteral.from( "a" ) )
+        ).collect( Collectors.toList() );
+
+        final IConsistency l_incremental = CConsistency.numeric( new CAll(), new CSymmetricDifference() );
+        l_agents.forEach( l_incremental::add );
+        l_incremental.call();
+
+        l_agents.get( 2 ).beliefbase().add( CLiteral.from( "c" ) );
+        l_incremental.call();
+
+        final IConsistency l_fresh = CConsistency.numeric( new CAll(), new CSymmetricDifference() );
+        l_agents.forEach( l_fresh::add );
+        l_fresh.call();
+
+        assertArrayEquals(
+            "incremental values differ from a fresh calculation",
+            l_agents.stream().mapToDouble( l_fresh::value ).toArray(),
+            l_agents.stream().mapToDouble( l_incremental::value ).toArray(),
+            DELTA
+        );
+    }
+
+    /**
+     * test that the zero distribution of agents with
+     * equal beliefs is not used as warm-start
+     *
+     * @throws Exception on calculation error
+     */
+    @Test
+    public final void testZeroWarmStart() throws Exception
+    {
+        final List<IAgent<?>> l_agents = Stream.of(
+            agent( CLiteral.from( "equal" ) ),
+            agent( CLiteral.from( "equal" ) ),
+            agent( CLiteral.from( "equal" ) ),
+            agent( CLiteral.from( "equal" ) )
+        ).collect( Collectors.toList() );
+
+        final IConsistency l_heuristic = CConsistency.heuristic( new CAll(), new CSymmetricDifference(), 1000, 1e-12, 0.001, 0 );
+        l_agents.forEach( l_heuristic::add );
+        l_heuristic.call();
+
+        l_agents.get( 0 ).beliefbase().add( CLiteral.from( "other" ) );
+        l_agents.get( 1 ).beliefbase().add( CLiteral.from( "third" ) );
+        l_heuristic.call();
+
+        final IConsistency l_numeric = CConsistency.numeric( new CAll(), new CSymmetricDifference() );
+        l_agents.forEach( l_numeric::add );
+        l_numeric.call();
+
+        assertTrue( "values are not finite", l_agents.stream().mapToDouble( l_heuristic::value ).allMatch( Double::isFinite ) );
+        assertArrayEquals(
+            "warm-started values differ from the numeric calculation",
+            l_agents.stream().mapToDouble( l_numeric::value ).toArray(),
+            l_agents.stream().mapToDouble( l_heuristic::value ).toArray(),
+            DELTA
+        );
+    }
+
+    /**
+     * test that the metric values of unchanged
+     * agents are not calculated again
+     *
+     * @throws Exception on calculation error
+     */
+    @Test
+    public final void testReuse() throws Exception
+    {
+        final List<IAgent<?>> l_agents = Stream.of(
+            agent( CLiteral.from( "p" ), CLiteral.from( "q" ) ),
+            agent( CLiteral.from( "p" ) ),
+            agent( CLiteral.from( "q" ) ),
+            agent( CLiteral.from( "r" ) )
+        ).collect( Collectors.toList() );
+
+        final CCountingMetric l_metric = new CCountingMetric();
+        final IConsistency l_consistency = CConsistency.numeric( new CAll(), l_metric );
+        l_agents.forEach( l_consistency::add );
+
+        l_consistency.call();
+        assertEquals( "first calculation does not calculate all pairs", 6, l_metric.m_count.getAndSet( 0 ) );
+
+        l_consistency.call();
+        assertEquals( "unchanged agents are calculated again", 0, l_metric.m_count.getAndSet( 0 ) );
+
+        l_agents.get( 3 ).beliefbase().add( CLiteral.from( "p" ) );
+        l_consistency.call();
+        assertEquals( "pairs of unchanged agents are calculated again", 3, l_metric.m_count.getAndSet( 0 ) );
+
+        final IConsistency l_fresh = CConsistency.numeric( new CAll(), new CSymmetricDifference() );
+        l_agents.forEach( l_fresh::add );
+        l_fresh.call();
+        assertArrayEquals(
+            "reused values differ from a fresh calculation",
+            l_agents.stream().mapToDouble( l_fresh::value ).toArray(),
+            l_agents.stream().mapToDouble( l_consistency::value ).toArray(),
+            DELTA
+        );
+    }
+
+    /**
+     * test that the approximation is equal to the numeric
+     * calculation, if each agent is a neighbour of all others
+     *
+     * @throws Exception on calculation error
+     */
+    @Test
+    public final void testApproximateComplete() throws Exception
+    {
+        final List<IAgent<?>> l_agents = IntStream.range( 0, AGENTS )
+                                                  .mapToObj( i -> agent(
+                                                      Stream.concat(
+                                                          IntStream.range( 0, COMMONBELIEFS ).mapToObj( j -> CLiteral.from( "common" + j ) ),
+                                                          IntStream.range( 0, i % 4 ).mapToObj( j -> CLiteral.from( "own" + i + "_" + j ) )
+                                                      ).toArray( ILiteral[]::new )
+                                                  ) )
+                                                  .collect( Collectors.toList() );
+
+        final IConsistency l_numeric = CConsistency.numeric( new CAll(), new CSymmetricDifference() );
+        final IConsistency l_approximate = CConsistency.approximate( new CAll(), new CSymmetricDifference(), AGENTS - 1, 500, 0.001 );
+        l_agents.forEach( l_numeric::add );
+        l_agents.forEach( l_approximate::add );
+        l_numeric.call();
+        l_approximate.call();
+
+        assertArrayEquals(
+            "approximation with all neighbours differs from the numeric calculation",
+            l_agents.stream().mapToDouble( l_numeric::value ).toArray(),
+            l_agents.stream().mapToDouble( l_approximate::value ).toArray(),
+            DELTA
+        );
+    }
+
+    /**
+     * test that an agent with other beliefs
+     * gets the lowest approximated consistency
+     *
+     * @throws Exception on calculation error
+     */
+    @Test
+    public final void testApproximateOutlier() throws Exception
+    {
+        final List<IAgent<?>> l_agents = IntStream.range( 0, AGENTS )
+                                                  .mapToObj( i -> agent(
+                                                      Stream.concat(
+                                                          IntStream.range( 0, COMMONBELIEFS ).mapToObj( j -> CLiteral.from( "common" + j ) ),
+                                                          Stream.of( CLiteral.from( i == 0 ? "other" : "same" ) )
+                                                      ).toArray( ILiteral[]::new )
+                                                  ) )
+                                                  .collect( Collectors.toList() );
+
+        final IConsistency l_approximate = CConsistency.approximate( new CAll(), new CSymmetricDifference() );
+        l_agents.forEach( l_approximate::add );
+        l_approximate.call();
+
+        assertEquals( "approximated values are not normalized", 1, l_agents.stream().mapToDouble( l_approximate::value ).sum(), DELTA );
+        assertTrue(
+            "outlier has not the lowest consistency",
+            l_agents.stream().skip( 1 ).allMatch( i -> l_approximate.value( i ) > l_approximate.value( l_agents.get( 0 ) ) )
+        );
+    }
+
+    /**
+     * test that the tiled dense and sparse matrices and the
+     * power iteration are equal to the numeric calculation
+     *
+     * @throws Exception on calculation error
+     */
+    @Test
+    public final void testTiles() throws Exception
+    {
+        final Random l_random = new Random( 7 );
+        final List<IAgent<?>> l_agents = IntStream.range( 0, TILEAGENTS )
+                                                  .mapToObj( i -> agent(
+                                                      IntStream.range( 0, 5 ).mapToObj( j -> CLiteral.from( "belief" + l_random.nextInt( 12 ) ) ).toArray( ILiteral[]::new )
+                                                  ) )
+                                                  .collect( Collectors.toList() );
+
+        final IConsistency l_numeric = CConsistency.numeric( new CAll(), new CSymmetricDifference() );
+        l_agents.forEach( l_numeric::add );
+        l_numeric.call();
+        final double[] l_expected = l_agents.stream().mapToDouble( l_numeric::value ).toArray();
+
+        for ( final IConsistency l_heuristic : new IConsistency[]{
+            CConsistency.heuristic( new CAll(), new CSymmetricDifference(), 1000, 1e-12, 0.001, 0 ),
+            CConsistency.heuristic( new CAll(), new CSymmetricDifference(), 1000, 1e-12, 0.001, 1e-9 )
+        } )
+        {
+            l_agents.forEach( l_heuristic::add );
+            l_heuristic.call();
+            assertArrayEquals( "heuristic values differ from the numeric calculation", l_expected, l_agents.stream().mapToDouble( l_heuristic::value ).toArray(), DELTA );
+        }
+    }
+
+    /**
+     * manuell running test
+     *
+     * @param p_args arguments
+     * @throws Exception on calculation error
+     */
+    public static void main( final String[] p_args ) throws Exception
+    {
+        new TestCConsistency().testBeliefUpdate();
+        new TestCConsistency().testBeliefChange();
+        new TestCConsistency().testZeroWarmStart();
+        new TestCConsistency().testReuse();
+        new TestCConsistency().testApproximateComplete();
+        new TestCConsistency().testApproximateOutlier();
+        new TestCConsistency().testTiles();
+    }
+
+    /**
+     * creates a literal with a number
+     *
+     * @param p_functor functor
+     * @param p_value value
+     * @return literal
+     */
+    private static ILiteral literal( final String p_functor, final Number p_value )
+    {
+        return CLiteral.from( p_functor, CRawTerm.from( p_value ) );
+    }
+
+    /**
+     * generates an agent
+     *
+     * @param p_literals beliefs
+     * @return agent
+     */
+    private static IAgent<?> agent( final ILiteral... p_literals )
+    {
+        final IAgent<IAgent<?>> l_agent = new CAgent( new CDefaultAgentConfiguration<>() );
+        l_agent.beliefbase().add( p_literals );
+        return l_agent;
+    }
+
+
+    /**
+     * metric, which counts the pairwise calculations
+     */
+    private static final class CCountingMetric implements IMetric
+    {
+        /**
+         * number of calculations
+         */
+        private final AtomicInteger m_count = new AtomicInteger();
+        /**
+         * metric
+         */
+        private final IMetric m_metric = new CSymmetricDifference();
+
+        @Override
+        public final Double apply( final Stream<? extends ITerm> p_first, final Stream<? extends ITerm> p_second )
+        {
+            m_count.incrementAndGet();
+            return m_metric.apply( p_first, p_second );
+        }
+    }
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<IAgent<?>> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.consistency;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.configuration.CDefaultAgentConfiguration;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.consistency.filter.CAll;
+import org.lightjason.agentspeak.consistency.metric.CSymmetricDifference;
+import org.lightjason.agentspeak.consistency.metric.IMetric;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.ITerm;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the background consistency monitor
+ */
+public final class TestCConsistencyMonitor
+{
+    /**
+     * timeout of a snapshot in seconds
+     */
+    private static final int TIMEOUT = 10;
+    /**
+     * number of agents
+     */
+    private static final int AGENTS = 4;
+
+
+    /**
+     * test that the changed agents are
+     * published within a snapshot
+     *
+     * @throws Exception on calculation error
+     */
+    @Test
+    public final void testSnapshot() throws Exception
+    {
+        final List<IAgent<?>> l_agents = agents();
+        final CConsistencyMonitor l_monitor = new CConsistencyMonitor( CConsistency.numeric( new CAll(), new CSymmetricDifference() ), 0, TimeUnit.MILLISECONDS );
+        final BlockingQueue<CConsistencySnapshot> l_snapshots = new LinkedBlockingQueue<>();
+        l_monitor.subscribe( l_snapshots::add );
+
+        l_agents.forEach( l_monitor::changed );
+        CConsistencySnapshot l_snapshot = l_snapshots.poll( TIMEOUT, TimeUnit.SECONDS );
+        while ( ( l_snapshot != null ) && ( l_snapshot.values().size() < AGENTS ) )
+            l_snapshot = l_snapshots.poll( TIMEOUT, TimeUnit.SECONDS );
+
+        assertNotNull( "snapshot is not published", l_snapshot );
+        assertEquals( "snapshot is not the last snapshot", l_snapshot, l_monitor.snapshot() );
+        assertEquals( "snapshot values are not normalized", 1, l_snapshot.values().values().stream().mapToDouble( i -> i ).sum(), 1e-6 );
+
+        l_monitor.shutdown();
+    }
+
+    /**
+     * test that an agent, which is removed during a
+     * calculation, is not part of the next snapshot
+     *
+     * @throws Exception on calculation error
+     */
+    @Test
+    public final void testRemoveDuringCalculation() throws Exception
+    {
+        final List<IAgent<?>> l_agents = agents();
+        final CBlockingMetric l_metric = new CBlockingMetric();
+        final IConsistency l_consistency = CConsistency.numeric( new CAll(), l_metric );
+        final CConsistencyMonitor l_monitor = new CConsistencyMonitor( l_consistency, 0, TimeUnit.MILLISECONDS );
+        final BlockingQueue<CConsistencySnapshot> l_snapshots = new LinkedBlockingQueue<>();
+        l_monitor.subscribe( l_snapshots::add );
+
+        // all agents are part of the first calculation, which blocks until the agent is removed
+        l_agents.forEach( l_consistency::add );
+        l_monitor.changed( l_agents.get( 1 ) );
+        assertTrue( "calculation is not started", l_metric.m_started.await( TIMEOUT, TimeUnit.SECONDS ) );
+
+        l_monitor.remove( l_agents.get( 0 ) );
+        l_metric.m_release.countDown();
+
+        final CConsistencySnapshot l_first = l_snapshots.poll( TIMEOUT, TimeUnit.SECONDS );
+        assertNotNull( "snapshot is not published", l_first );
+        final CConsistencySnapshot l_second = l_snapshots.poll( TIMEOUT, TimeUnit.SECONDS );
+        assertNotNull( "snapshot after the removal is not published", l_second );
+
+        assertFalse( "removed agent is part of the snapshot", l_second.values().containsKey( l_agents.get( 0 ) ) );
+        assertEquals( "agents of the snapshot are wrong", AGENTS - 1, l_second.values().size() );
+        assertFalse( "removed agent is part of the consistency", l_consistency.stream().anyMatch( i -> i.getKey().equals( l_agents.get( 0 ) ) ) );
+
+        l_monitor.shutdown();
+    }
+
+    /**
+     * manuell running test
+     *
+     * @param p_args arguments
+     * @throws Exception on calculation error
+     */
+    public static void main( final String[] p_args ) throws Exception
+    {
+        new TestCConsistencyMonitor().testSnapshot();
+        new TestCConsistencyMonitor().testRemoveDuringCalculation();
+    }
+
+    /**
+     * creates agents with different beliefs
+     *
+     * @return agent list
+     */
+    private static List<IAgent<?>> agents()
+    {
+        return IntStream.range( 0, AGENTS )
+                        .mapToObj( i -> {
+                            final IAgent<IAgent<?>> l_agent = new CAgent( new CDefaultAgentConfiguration<>() );
+                            l_agent.beliefbase().add( Stream.of( "first", "second", "third" ).limit( i % 3 + 1 ).map( CLiteral::from ) );
+                            return l_agent;
+                        } )
+                        .collect( Collectors.toList() );
+    }
+
+
+    /**
+     * metric, which blocks until the calculation is released
+     */
+    private static final class CBlockingMetric implements IMetric
+    {
+        /**
+         * latch of the started calculation
+         */
+        private final CountDownLatch m_started = new CountDownLatch( 1 );
+        /**
+         * latch to release the calculation
+         */
+        private final CountDownLatch m_release = new CountDownLatch( 1 );
+        /**
+         * metric
+         */
+        private final IMetric m_metric = new CSymmetricDifference();
+
+        @Override
+        public final Double apply( final Stream<? extends ITerm> p_first, final Stream<? extends ITerm> p_second )
+        {
+            m_started.countDown();
+            try
+            {
+                m_release.await();
+            }
+            catch ( final InterruptedException l_exception )
+            {
+                Thread.currentThread().interrupt();
+            }
+            return m_metric.apply( p_first, p_second );
+        }
+    }
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<IAgent<?>> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+}
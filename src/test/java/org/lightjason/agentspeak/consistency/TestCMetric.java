@@ -23,6 +23,7 @@
 
 package org.lightjason.agentspeak.consistency;
 
+import org.apache.commons.io.output.NullOutputStream;
 import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
@@ -34,21 +35,36 @@ import org.lightjason.agentspeak.beliefbase.view.IViewGenerator;
 import org.lightjason.agentspeak.beliefbase.storage.CMultiStorage;
 import org.lightjason.agentspeak.configuration.CDefaultAgentConfiguration;
 import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.common.CPath;
 import org.lightjason.agentspeak.consistency.filter.CAll;
+import org.lightjason.agentspeak.consistency.filter.CBelief;
 import org.lightjason.agentspeak.consistency.filter.IFilter;
+import org.lightjason.agentspeak.consistency.metric.CDiscrete;
+import org.lightjason.agentspeak.consistency.metric.CLevenshteinDistance;
+import org.lightjason.agentspeak.consistency.metric.CNCD;
 import org.lightjason.agentspeak.consistency.metric.CSymmetricDifference;
 import org.lightjason.agentspeak.consistency.metric.CWeightedDifference;
 import org.lightjason.agentspeak.consistency.metric.IMetric;
 import org.lightjason.agentspeak.language.CLiteral;
 import org.lightjason.agentspeak.language.ILiteral;
 
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.Collection;
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 
 /**
@@ -56,6 +72,14 @@ import static org.junit.Assert.assertEquals;
  */
 public final class TestCMetric
 {
+    /**
+     * number of terms of the compression test
+     */
+    private static final int NCDTERMS = 1000;
+    /**
+     * number of parallel repetitions of the compression test
+     */
+    private static final int REPETITIONS = 8;
     /**
      * literal view generator
      */
@@ -159,6 +183,99 @@ public final class TestCMetric
         );
     }
 
+    /**
+     * test that the feature and distance phases
+     * are equal to the metric value of the terms
+     */
+    @Test
+    public final void testFeatureDistance()
+    {
+        final List<ILiteral> l_first = Stream.of( "first", "second", "third" ).map( CLiteral::from ).collect( Collectors.toList() );
+        final List<ILiteral> l_second = Stream.of( "first", "second", "fourth" ).map( CLiteral::from ).collect( Collectors.toList() );
+
+        Stream.of(
+            new CSymmetricDifference(),
+            new CWeightedDifference(),
+            new CDiscrete(),
+            new CLevenshteinDistance(),
+            new CNCD(),
+            (IMetric) ( i, j ) -> (double) ( i.count() + 2 * j.count() )
+        ).forEach( i -> {
+            final Object l_firstfeature = i.feature( l_first.stream() );
+            final Object l_secondfeature = i.feature( l_second.stream() );
+
+            final double l_distance = i.distance( l_firstfeature, l_secondfeature );
+
+            assertEquals( MessageFormat.format( "feature distance of [{0}] is wrong", i ), i.apply( l_first.stream(), l_second.stream() ), l_distance, 0 );
+            assertEquals( MessageFormat.format( "feature of [{0}] is changed", i ), l_distance, i.distance( l_firstfeature, l_secondfeature ), 0 );
+        } );
+    }
+
+    /**
+     * test the metric values of the
+     * distinct term metrics
+     */
+    @Test
+    public final void testSetMetrics()
+    {
+        final List<ILiteral> l_first = Stream.of( "first", "second", "third", "third" ).map( CLiteral::from ).collect( Collectors.toList() );
+        final List<ILiteral> l_second = Stream.of( "first", "fourth", "fifth" ).map( CLiteral::from ).collect( Collectors.toList() );
+
+        assertEquals( "symmetric difference is wrong", 4, new CSymmetricDifference().apply( l_first.stream(), l_second.stream() ), 0 );
+        assertEquals( "discrete difference is wrong", 1, new CDiscrete().apply( l_first.stream(), l_second.stream() ), 0 );
+        assertEquals( "discrete equality is wrong", 0, new CDiscrete().apply( l_first.stream(), l_first.stream().distinct() ), 0 );
+        assertEquals(
+            "levenshtein distance is wrong", 1,
+            new CLevenshteinDistance().apply( Stream.of( CLiteral.from( "abc" ) ), Stream.of( CLiteral.from( "abd" ) ) ), 0
+        );
+    }
+
+    /**
+     * test that the normalized compression distance
+     * is equal to the distance of separate compression streams
+     */
+    @Test
+    public final void testNCD()
+    {
+        final Random l_random = new Random( 7 );
+        final List<ILiteral> l_first = IntStream.range( 0, NCDTERMS ).mapToObj( i -> CLiteral.from( "term" + l_random.nextInt( NCDTERMS ) ) )
+                                                .collect( Collectors.toList() );
+        final List<ILiteral> l_second = IntStream.range( 0, NCDTERMS ).mapToObj( i -> CLiteral.from( "term" + l_random.nextInt( NCDTERMS ) ) )
+                                                 .collect( Collectors.toList() );
+
+        Stream.of( CNCD.ECompression.DEFLATE, CNCD.ECompression.GZIP, CNCD.ECompression.BZIP ).forEach( i -> {
+            final CNCD l_metric = new CNCD( i );
+            final double l_expected = ncd( i, join( l_first ), join( l_second ) );
+
+            assertEquals( MessageFormat.format( "distance of [{0}] is wrong", i ), l_expected, l_metric.apply( l_first.stream(), l_second.stream() ), 0 );
+            assertTrue(
+                MessageFormat.format( "parallel distance of [{0}] is wrong", i ),
+                IntStream.range( 0, REPETITIONS ).parallel().mapToDouble( j -> l_metric.apply( l_first.stream(), l_second.stream() ) ).allMatch( j -> j == l_expected )
+            );
+        } );
+    }
+
+    /**
+     * test that the hashes of the filters are
+     * equal to the hashes of the filtered terms
+     */
+    @Test
+    public final void testFilterHashes()
+    {
+        Assume.assumeNotNull( m_literals );
+        final IAgent<?> l_agent = this.getAgent( m_literals );
+
+        Stream.<IFilter>of(
+            new CAll(),
+            new CBelief(),
+            new CBelief( CPath.from( "first/sub1" ), CPath.from( "second/sub/sub5" ) )
+        ).forEach( i -> assertArrayEquals(
+            MessageFormat.format( "hashes of filter [{0}] are incorrect", i ),
+            i.apply( l_agent ).mapToInt( Object::hashCode ).sorted().toArray(),
+            i.hashes( l_agent ).sorted().toArray()
+        ) );
+    }
+
 
     /**
      * manuell running test
@@ -175,6 +292,10 @@ public final class TestCMetric
         l_test.testSymmetricWeightInequality();
         l_test.testWeightEquality();
         l_test.testWeightInequality();
+        l_test.testFeatureDistance();
+        l_test.testSetMetrics();
+        l_test.testNCD();
+        l_test.testFilterHashes();
     }
 
     /**
@@ -201,6 +322,54 @@ public final class TestCMetric
         System.out.println( MessageFormat.format( "{0} value: {1}", p_message, l_value ) );
     }
 
+    /**
+     * normalized compression distance
+     * with separate compression streams
+     *
+     * @param p_compression compression
+     * @param p_first first string
+     * @param p_second second string
+     * @return distance
+     */
+    private static double ncd( final CNCD.ECompression p_compression, final String p_first, final String p_second )
+    {
+        final double l_first = compress( p_compression, p_first );
+        final double l_second = compress( p_compression, p_second );
+        return ( compress( p_compression, p_first + p_second ) - Math.min( l_first, l_second ) ) / Math.max( l_first, l_second );
+    }
+
+    /**
+     * compresses a string with a compression stream
+     *
+     * @param p_compression compression
+     * @param p_input input string
+     * @return number of compressed bytes
+     */
+    private static double compress( final CNCD.ECompression p_compression, final String p_input )
+    {
+        final DataOutputStream l_counting = new DataOutputStream( NullOutputStream.NULL_OUTPUT_STREAM );
+        try ( final OutputStream l_compress = p_compression.get( l_counting ) )
+        {
+            l_compress.write( p_input.getBytes( StandardCharsets.UTF_8 ) );
+        }
+        catch ( final IOException l_exception )
+        {
+            throw new UncheckedIOException( l_exception );
+        }
+        return l_counting.size();
+    }
+
+    /**
+     * joins the terms like the string metrics
+     *
+     * @param p_terms terms
+     * @return string
+     */
+    private static String join( final List<ILiteral> p_terms )
+    {
+        return p_terms.stream().map( Object::toString ).collect( Collectors.joining( "" ) );
+    }
+
 
     /**
      * generates an agent
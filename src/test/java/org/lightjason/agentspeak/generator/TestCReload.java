@@ -0,0 +1,243 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.generator;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.score.IAggregation;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * test of the hot-reload of plans and rules
+ */
+public final class TestCReload
+{
+    /**
+     * result belief
+     */
+    private static final String RESULT = "result";
+    /**
+     * goal of the changed plan
+     */
+    private static final String RUN = "run";
+    /**
+     * initial source
+     */
+    private static final String INITIAL = "+!keep <- +result(1). +!run <- +result(2).";
+    /**
+     * reloaded source
+     */
+    private static final String RELOADED = "+!keep <- +result(1). +!run <- +result(3). +!other <- +result(4).";
+
+
+    /**
+     * test that the reloaded plans are used
+     * from the next cycle and beliefs are kept
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testNextCycle() throws Exception
+    {
+        final CAgentGenerator l_generator = new CAgentGenerator( INITIAL );
+        final IAgent<?> l_agent = l_generator.generatesingle();
+
+        trigger( l_agent, RUN );
+        l_generator.reload( stream( RELOADED ), Stream.of( l_agent ) ).count();
+
+        assertEquals( "plans are reloaded before the next cycle", 2, l_agent.plans().size() );
+        trigger( l_agent, RUN );
+        assertEquals( "old plan is not used before the next cycle", "[2.0]", values( l_agent ).toString() );
+
+        l_agent.call();
+        assertEquals( "plans are not reloaded", 3, l_agent.plans().size() );
+
+        trigger( l_agent, RUN );
+        trigger( l_agent, "other" );
+        assertEquals( "beliefs are not kept or reloaded plans are not used", "[2.0, 3.0, 4.0]", values( l_agent ).toString() );
+    }
+
+    /**
+     * test that the statistic of
+     * unchanged plans is kept
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testStatistic() throws Exception
+    {
+        final CAgentGenerator l_generator = new CAgentGenerator( INITIAL );
+        final IAgent<?> l_agent = l_generator.generatesingle();
+
+        trigger( l_agent, "keep" );
+        trigger( l_agent, "keep" );
+        trigger( l_agent, RUN );
+
+        l_generator.reload( stream( RELOADED ), Stream.of( l_agent ) ).count();
+        l_agent.call();
+
+        assertEquals( "statistic of the unchanged plan is not kept", 2, l_agent.planstatistic( plan( l_agent, "keep" ) ).getLeft().longValue() );
+        assertEquals( "statistic of the changed plan is kept", 0, l_agent.planstatistic( plan( l_agent, RUN ) ).getLeft().longValue() );
+    }
+
+    /**
+     * test that agents, which are generated
+     * after the reload, get the reloaded plans
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testGeneration() throws Exception
+    {
+        final CAgentGenerator l_generator = new CAgentGenerator( INITIAL );
+        l_generator.reload( stream( RELOADED ), Stream.of() ).count();
+
+        final IAgent<?> l_agent = l_generator.generatesingle();
+        trigger( l_agent, RUN );
+        assertEquals( "generated agent does not get the reloaded plans", "[3.0]", values( l_agent ).toString() );
+    }
+
+    /**
+     * manuell running test
+     *
+     * @param p_args arguments
+     * @throws Exception on execution error
+     */
+    public static void main( final String[] p_args ) throws Exception
+    {
+        new TestCReload().testNextCycle();
+        new TestCReload().testStatistic();
+        new TestCReload().testGeneration();
+    }
+
+    /**
+     * triggers a goal immediately
+     *
+     * @param p_agent agent
+     * @param p_goal goal name
+     */
+    private static void trigger( final IAgent<?> p_agent, final String p_goal )
+    {
+        p_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( p_goal ) ), true );
+    }
+
+    /**
+     * returns the plan of a goal
+     *
+     * @param p_agent agent
+     * @param p_goal goal name
+     * @return plan
+     */
+    private static IPlan plan( final IAgent<?> p_agent, final String p_goal )
+    {
+        return p_agent.plans().get( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( p_goal ) ) ).iterator().next();
+    }
+
+    /**
+     * creates an input stream of a source
+     *
+     * @param p_asl agent source
+     * @return input stream
+     */
+    private static InputStream stream( final String p_asl )
+    {
+        return new ByteArrayInputStream( p_asl.getBytes( StandardCharsets.UTF_8 ) );
+    }
+
+    /**
+     * returns the sorted values of the result beliefs
+     *
+     * @param p_agent agent
+     * @return list with belief values
+     */
+    private static List<Double> values( final IAgent<?> p_agent )
+    {
+        return p_agent.beliefbase()
+                      .stream( CPath.from( RESULT ) )
+                      .flatMap( ILiteral::orderedvalues )
+                      .map( i -> i.<Number>raw().doubleValue() )
+                      .sorted()
+                      .collect( Collectors.toList() );
+    }
+
+
+    /**
+     * agent generator
+     */
+    private static final class CAgentGenerator extends IBaseAgentGenerator<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_asl agent source
+         * @throws Exception on parsing error
+         */
+        CAgentGenerator( final String p_asl ) throws Exception
+        {
+            super( stream( p_asl ), Collections.emptySet(), IAggregation.EMPTY, Collections.emptySet(), IVariableBuilder.EMPTY );
+        }
+
+        @Override
+        public final IAgent<?> generatesingle( final Object... p_data )
+        {
+            return new CAgent( m_configuration );
+        }
+    }
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<IAgent<?>> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.grammar;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.buildin.generic.CPrint;
+import org.lightjason.agentspeak.error.CSyntaxErrorException;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+/**
+ * test of the agent parser with chunked plans
+ */
+public final class TestCParserAgent
+{
+    /**
+     * number of plans
+     */
+    private static final int PLANS = 2 * IParserBase.CHUNKTHRESHOLD;
+    /**
+     * actions
+     */
+    private final Set<IAction> m_actions = Collections.singleton( new CPrint() );
+
+
+    /**
+     * test that a chunked source contains all
+     * elements and the plans in source order
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void testChunks() throws Exception
+    {
+        final IASTVisitorAgent l_visitor = new CParserAgent( m_actions ).parse( stream( source( -1 ) ) );
+
+        assertEquals( "number of plans is wrong", PLANS, l_visitor.plans().size() );
+        assertEquals( "number of beliefs is wrong", 2, l_visitor.initialbeliefs().size() );
+        assertEquals(
+            "plans are not in source order",
+            IntStream.range( 0, PLANS ).mapToObj( i -> "plan" + i ).collect( Collectors.toList() ),
+            l_visitor.plans().stream().map( i -> i.getTrigger().getLiteral().fqnfunctor().toString() ).collect( Collectors.toList() )
+        );
+    }
+
+    /**
+     * test that a syntax error of a chunk is
+     * reported with the line of the whole source
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void testErrorLine() throws Exception
+    {
+        final int l_plan = PLANS - 10;
+        try
+        {
+            new CParserAgent( m_actions ).parse( stream( source( l_plan ) ) );
+            fail( "syntax error is not detected" );
+        }
+        catch ( final CSyntaxErrorException l_exception )
+        {
+            assertTrue(
+                MessageFormat.format( "syntax error is not reported in line [{0}]: {1}", line( l_plan ), l_exception.getMessage() ),
+                l_exception.getMessage().contains( MessageFormat.format( "[{0}]", line( l_plan ) ) )
+            );
+        }
+    }
+
+    /**
+     * test that the plan cache is
+     * scoped to the parser instance
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void testCacheScope() throws Exception
+    {
+        final CParserAgent l_parser = new CParserAgent( m_actions );
+        final List<IPlan> l_first = new ArrayList<>( l_parser.parse( stream( source( -1 ) ) ).plans() );
+        final List<IPlan> l_second = new ArrayList<>( l_parser.parse( stream( source( -1 ) ) ).plans() );
+        final List<IPlan> l_other = new ArrayList<>( new CParserAgent( m_actions ).parse( stream( source( -1 ) ) ).plans() );
+
+        assertSame( "unchanged plan is parsed again", l_first.get( PLANS - 1 ), l_second.get( PLANS - 1 ) );
+        assertNotSame( "plans are shared between parsers", l_first.get( PLANS - 1 ), l_other.get( PLANS - 1 ) );
+    }
+
+    /**
+     * test that the reused parser instances
+     * of a thread are reset after an error
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void testReuse() throws Exception
+    {
+        final CParserAgent l_parser = new CParserAgent( m_actions );
+        try
+        {
+            l_parser.parse( stream( "first(1). +!broken <- generic/print( ) )." ) );
+            fail( "syntax error is not detected" );
+        }
+        catch ( final CSyntaxErrorException l_exception )
+        {
+            // the parser instances of the thread are reused
+        }
+
+        final IASTVisitorAgent l_visitor = l_parser.parse( stream( "second(2). +!valid <- generic/print(\"valid\")." ) );
+        assertEquals( "beliefs of the reused parser are wrong", "[second[2][]]", l_visitor.initialbeliefs().toString() );
+        assertEquals( "number of plans of the reused parser is wrong", 1, l_visitor.plans().size() );
+    }
+
+    /**
+     * manuell running test
+     *
+     * @param p_args arguments
+     * @throws Exception on parsing error
+     */
+    public static void main( final String[] p_args ) throws Exception
+    {
+        final TestCParserAgent l_test = new TestCParserAgent();
+
+        l_test.testChunks();
+        l_test.testErrorLine();
+        l_test.testCacheScope();
+        l_test.testReuse();
+    }
+
+    /**
+     * creates a source with two beliefs at the
+     * beginning, each plan is written into two lines
+     *
+     * @param p_error index of the plan with a syntax error or -1
+     * @return source
+     */
+    private static String source( final int p_error )
+    {
+        return IntStream.range( 0, PLANS )
+                        .mapToObj( i -> MessageFormat.format(
+                            "{0}+!plan{1}\n    <- generic/print(\"plan {1}\"){2}.",
+                            i == 0 ? "first(1).\nsecond(2).\n" : "",
+                            i,
+                            i == p_error ? " )" : ""
+                        ) )
+                        .collect( Collectors.joining( "\n" ) );
+    }
+
+    /**
+     * returns the line of the plan body
+     *
+     * @param p_plan plan index
+     * @return line number
+     */
+    private static int line( final int p_plan )
+    {
+        return 2 * p_plan + 4;
+    }
+
+    /**
+     * creates a stream of a source
+     *
+     * @param p_source source
+     * @return stream
+     */
+    private static ByteArrayInputStream stream( final String p_source )
+    {
+        return new ByteArrayInputStream( p_source.getBytes( StandardCharsets.UTF_8 ) );
+    }
+
+}
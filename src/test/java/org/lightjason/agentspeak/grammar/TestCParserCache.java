@@ -0,0 +1,146 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.grammar;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.buildin.generic.CPrint;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the parser cache
+ */
+public final class TestCParserCache
+{
+    /**
+     * agent source
+     */
+    private static final String ASL = "foo(3). +!main <- generic/print(\"main\").";
+    /**
+     * actions
+     */
+    private Set<IAction> m_actions;
+
+    /**
+     * test initialize
+     */
+    @Before
+    public void initialize()
+    {
+        CParserCache.clear();
+        m_actions = Collections.singleton( new CPrint() );
+    }
+
+    /**
+     * test that the same source is parsed once
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void testSameSource() throws Exception
+    {
+        final IASTVisitorAgent l_first = this.parse( m_actions, ASL );
+        final IASTVisitorAgent l_second = this.parse( m_actions, ASL );
+
+        assertSame( "source is parsed again", l_first, l_second );
+        assertEquals( "number of plans is wrong", 1, l_first.plans().size() );
+        assertEquals( "number of cached sources is wrong", 1, CParserCache.size() );
+    }
+
+    /**
+     * test that a changed source and other
+     * action instances are parsed again
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void testChanged() throws Exception
+    {
+        final IASTVisitorAgent l_visitor = this.parse( m_actions, ASL );
+
+        assertNotSame( "changed source uses the cached result", l_visitor, this.parse( m_actions, ASL.replace( "3", "4" ) ) );
+        assertNotSame( "other action instances use the cached result", l_visitor, this.parse( Collections.singleton( new CPrint() ), ASL ) );
+        assertSame( "equal action set with the same instances is parsed again", l_visitor, this.parse( Collections.unmodifiableSet( m_actions ), ASL ) );
+    }
+
+    /**
+     * test that the number of cached sources is bounded
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void testCapacity() throws Exception
+    {
+        for ( int i = 0; i < CParserCache.CAPACITY + 16; i++ )
+            this.parse( m_actions, MessageFormat.format( "foo({0}). +!main <- generic/print(\"main\").", i ) );
+
+        assertTrue( "cache is not bounded", CParserCache.size() <= CParserCache.CAPACITY );
+    }
+
+    /**
+     * manuell running test
+     *
+     * @param p_args arguments
+     * @throws Exception on parsing error
+     */
+    public static void main( final String[] p_args ) throws Exception
+    {
+        final TestCParserCache l_test = new TestCParserCache();
+
+        l_test.initialize();
+        l_test.testSameSource();
+
+        l_test.initialize();
+        l_test.testChanged();
+
+        l_test.initialize();
+        l_test.testCapacity();
+    }
+
+    /**
+     * parses a source with the cache
+     *
+     * @param p_actions actions
+     * @param p_source source
+     * @return visitor
+     * @throws Exception on parsing error
+     */
+    private IASTVisitorAgent parse( final Set<IAction> p_actions, final String p_source ) throws Exception
+    {
+        return new CParserCache<>( new CParserAgent( p_actions ), p_actions ).parse( new ByteArrayInputStream( p_source.getBytes( StandardCharsets.UTF_8 ) ) );
+    }
+
+}
@@ -0,0 +1,247 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language;
+
+import com.google.common.collect.Multiset;
+import org.junit.Test;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.score.IAggregation;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the lazy score, cycle and statistic variables of an instantiation
+ */
+public final class TestCCommon
+{
+    /**
+     * score value of the aggregation
+     */
+    private static final double SCORE = 7;
+    /**
+     * result belief
+     */
+    private static final String RESULT = "result";
+    /**
+     * number of score aggregations
+     */
+    private final AtomicInteger m_aggregations = new AtomicInteger();
+
+
+    /**
+     * test that the score is aggregated
+     * only if the variable is read
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testLazyScore() throws Exception
+    {
+        final IAgent<?> l_agent = this.agent( "+!run <- +result(1). +!valued <- +result(Score)." );
+
+        l_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "run" ) ), true );
+        assertEquals( "score is aggregated without reading", 0, m_aggregations.get() );
+
+        l_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "valued" ) ), true );
+        assertTrue( "score is not aggregated on reading", m_aggregations.get() > 0 );
+        assertEquals( "score value is wrong", "[1.0, 7.0]", values( l_agent ).toString() );
+    }
+
+    /**
+     * test that the cycle is the
+     * cycle of the instantiation
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testCycle() throws Exception
+    {
+        final IAgent<?> l_agent = this.agent( "+!run <- +result(Cycle)." );
+        l_agent.call();
+
+        final long l_cycle = l_agent.cycle();
+        final IPlan l_plan = l_agent.plans().values().iterator().next();
+        final IContext l_context = l_plan.instantiate( l_agent, Stream.of() );
+
+        l_agent.call();
+        l_agent.call();
+
+        assertEquals( "cycle is not the cycle of the instantiation", l_cycle, l_context.instancevariables().get( CPath.from( "Cycle" ) ).<Number>raw().longValue() );
+        assertEquals( "score is aggregated on instantiation", 0, m_aggregations.get() );
+        assertEquals( "score value is wrong", SCORE, l_context.instancevariables().get( CPath.from( "Score" ) ).<Number>raw().doubleValue(), 0 );
+        assertTrue( "score is not aggregated on reading", m_aggregations.get() > 0 );
+    }
+
+    /**
+     * test that the lazy statistic variables
+     * contain the statistic before the execution
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testStatistic() throws Exception
+    {
+        final IAgent<?> l_agent = this.agent( "+!run <- +result(PlanRuns); X = PlanSuccessful + 10; +result(X)." );
+
+        for ( int i = 0; i < 3; i++ )
+            l_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "run" ) ), true );
+
+        assertEquals( "statistic variables are wrong", "[0.0, 1.0, 2.0, 10.0, 11.0, 12.0]", values( l_agent ).toString() );
+    }
+
+    /**
+     * manuell running test
+     *
+     * @param p_args arguments
+     * @throws Exception on execution error
+     */
+    public static void main( final String[] p_args ) throws Exception
+    {
+        new TestCCommon().testLazyScore();
+        new TestCCommon().testCycle();
+        new TestCCommon().testStatistic();
+    }
+
+    /**
+     * creates an agent with the counting aggregation
+     *
+     * @param p_asl agent source
+     * @return agent
+     * @throws Exception on parsing error
+     */
+    private IAgent<?> agent( final String p_asl ) throws Exception
+    {
+        return new CAgentGenerator( p_asl, new CAggregation() ).generatesingle();
+    }
+
+    /**
+     * returns the sorted values of the result beliefs
+     *
+     * @param p_agent agent
+     * @return list with belief values
+     */
+    private static List<Double> values( final IAgent<?> p_agent )
+    {
+        return p_agent.beliefbase()
+                      .stream( CPath.from( RESULT ) )
+                      .flatMap( ILiteral::orderedvalues )
+                      .map( i -> i.<Number>raw().doubleValue() )
+                      .sorted()
+                      .collect( Collectors.toList() );
+    }
+
+
+    /**
+     * aggregation, which counts the score aggregations
+     */
+    private final class CAggregation implements IAggregation
+    {
+
+        @Override
+        public final double evaluate( final IAgent<?> p_agent, final Multiset<IAction> p_score )
+        {
+            return 0;
+        }
+
+        @Override
+        public final double evaluate( final Stream<Double> p_values )
+        {
+            m_aggregations.incrementAndGet();
+            return SCORE;
+        }
+
+        @Override
+        public final double error()
+        {
+            return 0;
+        }
+    }
+
+    /**
+     * agent generator
+     */
+    private static final class CAgentGenerator extends IBaseAgentGenerator<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_asl agent source
+         * @param p_aggregation aggregation
+         * @throws Exception on parsing error
+         */
+        CAgentGenerator( final String p_asl, final IAggregation p_aggregation ) throws Exception
+        {
+            super(
+                new ByteArrayInputStream( p_asl.getBytes( StandardCharsets.UTF_8 ) ),
+                Collections.emptySet(),
+                p_aggregation,
+                Collections.emptySet(),
+                IVariableBuilder.EMPTY
+            );
+        }
+
+        @Override
+        public final IAgent<?> generatesingle( final Object... p_data )
+        {
+            return new CAgent( m_configuration );
+        }
+    }
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<IAgent<?>> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+}
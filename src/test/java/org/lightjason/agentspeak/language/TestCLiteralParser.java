@@ -0,0 +1,150 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.error.CIllegalStateException;
+import org.lightjason.agentspeak.grammar.CParserAgent;
+import org.lightjason.agentspeak.language.variable.CMutexVariable;
+import org.lightjason.agentspeak.language.variable.CVariable;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the hand-written literal parser
+ */
+public final class TestCLiteralParser
+{
+
+    /**
+     * test that literals are equal to the literals of the grammar
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void testGrammarEquality() throws Exception
+    {
+        Stream.of(
+            "foo",
+            "foo()",
+            "foo( 1, 2.5, -3 )",
+            "foo/bar-baz(\"text\", 'single')",
+            "~negated( inner( value ), [1, 2, [3]] )",
+            "annotated(1)[first(2), second]"
+        ).forEach( i -> {
+            final ILiteral l_literal = CLiteralParser.parse( i );
+            final ILiteral l_grammar = grammar( i );
+
+            assertNotNull( "literal is not parsed: " + i, l_literal );
+            assertEquals( "literal string is different to the grammar: " + i, l_grammar.toString(), l_literal.toString() );
+            assertEquals( "literal is different to the grammar: " + i, l_grammar, l_literal );
+        } );
+    }
+
+    /**
+     * test that other structures
+     * are parsed by the grammar
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void testFallback() throws Exception
+    {
+        Stream.of(
+            "foo(true)",
+            "foo(pi)",
+            "truevalue(1)",
+            "foo(1) bar"
+        ).forEach( i -> assertNull( "structure is parsed: " + i, CLiteralParser.parse( i ) ) );
+
+        assertEquals( "fallback literal is different to the grammar", grammar( "foo(true)" ), CLiteral.parse( "foo(true)" ) );
+    }
+
+    /**
+     * test that variables are parsed
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void testVariables() throws Exception
+    {
+        final List<ITerm> l_values = CLiteral.parse( "foo( X, _Y, @Z )" ).orderedvalues().collect( Collectors.toList() );
+
+        assertEquals( "number of values is wrong", 3, l_values.size() );
+        assertTrue( "value is not a variable", l_values.stream().limit( 2 ).allMatch( i -> i instanceof CVariable<?> ) );
+        assertTrue( "value is not a mutex variable", l_values.get( 2 ) instanceof CMutexVariable<?> );
+        assertEquals(
+            "variable names are wrong",
+            "[X, _Y, @Z]",
+            l_values.stream().map( i -> i.fqnfunctor().toString() ).collect( Collectors.toList() ).toString()
+        );
+    }
+
+    /**
+     * manuell running test
+     *
+     * @param p_args arguments
+     * @throws Exception on parsing error
+     */
+    public static void main( final String[] p_args ) throws Exception
+    {
+        final TestCLiteralParser l_test = new TestCLiteralParser();
+
+        l_test.testGrammarEquality();
+        l_test.testFallback();
+        l_test.testVariables();
+    }
+
+    /**
+     * parses a literal with the agent grammar as initial belief
+     *
+     * @param p_literal literal
+     * @return literal
+     */
+    private static ILiteral grammar( final String p_literal )
+    {
+        try
+        {
+            return new CParserAgent( Collections.emptySet() ).parse(
+                new ByteArrayInputStream( ( p_literal + ". +!main <- success." ).getBytes( StandardCharsets.UTF_8 ) )
+            ).initialbeliefs().iterator().next();
+        }
+        catch ( final Exception l_exception )
+        {
+            throw new CIllegalStateException( l_exception );
+        }
+    }
+
+}
@@ -0,0 +1,365 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
+import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.score.IAggregation;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the suspension of plan executions on blocking calls
+ */
+public final class TestCContext
+{
+    /**
+     * maximum number of cycles until a suspended plan is finished
+     */
+    private static final int MAXIMUMCYCLES = 500;
+    /**
+     * result belief
+     */
+    private static final String RESULT = "result";
+    /**
+     * number of counter calls
+     */
+    private final AtomicInteger m_counter = new AtomicInteger();
+    /**
+     * number of blocking calls
+     */
+    private final AtomicInteger m_calls = new AtomicInteger();
+    /**
+     * latch of the blocking calls
+     */
+    private final CountDownLatch m_latch = new CountDownLatch( 1 );
+
+
+    /**
+     * test that a suspended plan is resumed
+     * at the suspended action without running
+     * the previous elements again
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testResume() throws Exception
+    {
+        final IAgent<?> l_agent = this.agent( "+!run <- test/count(); X = test/await(5); +result(X)." );
+
+        l_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "run" ) ) );
+        l_agent.call();
+        assertTrue( "plan is not suspended", values( l_agent ).isEmpty() );
+
+        m_latch.countDown();
+        run( l_agent );
+
+        assertEquals( "suspended plan is not resumed", "[5.0]", values( l_agent ).toString() );
+        assertEquals( "element before the suspension is executed again", 1, m_counter.get() );
+    }
+
+    /**
+     * test that an action with multiple blocking
+     * calls gets the results of all calls
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testMultipleCalls() throws Exception
+    {
+        m_latch.countDown();
+        final IAgent<?> l_agent = this.agent( "+!run <- X = test/await(1, 2, 3); +result(X)." );
+
+        l_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "run" ) ) );
+        run( l_agent );
+
+        assertEquals( "multiple blocking calls are not finished", "[6.0]", values( l_agent ).toString() );
+        assertEquals( "blocking calls are run again", 3, m_calls.get() );
+    }
+
+    /**
+     * test that blocking calls within inner elements
+     * are run directly without a suspension
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testInnerElement() throws Exception
+    {
+        m_latch.countDown();
+        final IAgent<?> l_agent = this.agent(
+            "+!run <- L = test/list(1, 2); (L) -> Y : test/count( test/await(Y) ); test/count( test/await(3) ); +result(1)."
+        );
+
+        l_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "run" ) ) );
+        l_agent.call();
+
+        assertEquals( "inner blocking call suspends the plan", "[1.0]", values( l_agent ).toString() );
+        assertEquals( "inner element is not executed once", 3, m_counter.get() );
+    }
+
+    /**
+     * test that an immediately executed
+     * plan returns the result of the finished plan
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testImmediately() throws Exception
+    {
+        m_latch.countDown();
+        final IAgent<?> l_agent = this.agent( "+!ok <- X = test/await(2); +result(X). +!broken <- X = test/await(3); fail." );
+
+        assertFalse(
+            "failing suspended plan is successful",
+            l_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "broken" ) ), true ).value()
+        );
+        assertTrue( "suspended plan fails", l_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "ok" ) ), true ).value() );
+        assertEquals( "suspended plan is not finished", "[2.0]", values( l_agent ).toString() );
+    }
+
+    /**
+     * manuell running test
+     *
+     * @param p_args arguments
+     * @throws Exception on execution error
+     */
+    public static void main( final String[] p_args ) throws Exception
+    {
+        new TestCContext().testResume();
+        new TestCContext().testMultipleCalls();
+        new TestCContext().testInnerElement();
+        new TestCContext().testImmediately();
+    }
+
+    /**
+     * creates an agent with the test actions
+     *
+     * @param p_asl agent source
+     * @return agent
+     * @throws Exception on parsing error
+     */
+    private IAgent<?> agent( final String p_asl ) throws Exception
+    {
+        return new CAgentGenerator( p_asl, Stream.of( new CCount(), new CAwait(), new CList() ) ).generatesingle();
+    }
+
+    /**
+     * runs agent cycles until the result belief exists
+     *
+     * @param p_agent agent
+     * @throws Exception on execution error
+     */
+    private static void run( final IAgent<?> p_agent ) throws Exception
+    {
+        for ( int i = 0; ( i < MAXIMUMCYCLES ) && ( values( p_agent ).isEmpty() ); i++ )
+        {
+            p_agent.call();
+            Thread.sleep( 5 );
+        }
+    }
+
+    /**
+     * returns the values of the result beliefs
+     *
+     * @param p_agent agent
+     * @return list with belief values
+     */
+    private static List<Double> values( final IAgent<?> p_agent )
+    {
+        return p_agent.beliefbase()
+                      .stream( CPath.from( RESULT ) )
+                      .flatMap( ILiteral::orderedvalues )
+                      .map( i -> i.<Number>raw().doubleValue() )
+                      .collect( Collectors.toList() );
+    }
+
+
+    /**
+     * counter action
+     */
+    private final class CCount extends IBaseAction
+    {
+
+        @Override
+        public final IPath name()
+        {
+            return CPath.from( "test/count" );
+        }
+
+        @Override
+        public final int minimalArgumentNumber()
+        {
+            return 0;
+        }
+
+        @Override
+        public final IFuzzyValue<Boolean> execute( final IContext p_context, final boolean p_parallel, final List<ITerm> p_argument, final List<ITerm> p_return,
+                                                   final List<ITerm> p_annotation
+        )
+        {
+            m_counter.incrementAndGet();
+            return CFuzzyValue.from( true );
+        }
+    }
+
+    /**
+     * action with a blocking call for each argument,
+     * which returns the sum of the arguments
+     */
+    private final class CAwait extends IBaseAction
+    {
+
+        @Override
+        public final IPath name()
+        {
+            return CPath.from( "test/await" );
+        }
+
+        @Override
+        public final int minimalArgumentNumber()
+        {
+            return 1;
+        }
+
+        @Override
+        public final IFuzzyValue<Boolean> execute( final IContext p_context, final boolean p_parallel, final List<ITerm> p_argument, final List<ITerm> p_return,
+                                                   final List<ITerm> p_annotation
+        )
+        {
+            double l_sum = 0;
+            for ( final ITerm l_argument : p_argument )
+                l_sum += p_context.<Double>await( l_argument.<Number>raw(), () -> {
+                    m_calls.incrementAndGet();
+                    m_latch.await();
+                    return l_argument.<Number>raw().doubleValue();
+                } );
+
+            p_return.add( CRawTerm.from( l_sum ) );
+            return CFuzzyValue.from( true );
+        }
+    }
+
+    /**
+     * action to create a list of the arguments
+     */
+    private final class CList extends IBaseAction
+    {
+
+        @Override
+        public final IPath name()
+        {
+            return CPath.from( "test/list" );
+        }
+
+        @Override
+        public final int minimalArgumentNumber()
+        {
+            return 0;
+        }
+
+        @Override
+        public final IFuzzyValue<Boolean> execute( final IContext p_context, final boolean p_parallel, final List<ITerm> p_argument, final List<ITerm> p_return,
+                                                   final List<ITerm> p_annotation
+        )
+        {
+            p_return.add( CRawTerm.from( p_argument.stream().map( ITerm::raw ).collect( Collectors.toList() ) ) );
+            return CFuzzyValue.from( true );
+        }
+    }
+
+    /**
+     * agent generator
+     */
+    private static final class CAgentGenerator extends IBaseAgentGenerator<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_asl agent source
+         * @param p_actions actions
+         * @throws Exception on parsing error
+         */
+        CAgentGenerator( final String p_asl, final Stream<IAction> p_actions ) throws Exception
+        {
+            super(
+                new ByteArrayInputStream( p_asl.getBytes( StandardCharsets.UTF_8 ) ),
+                p_actions.collect( Collectors.toSet() ),
+                IAggregation.EMPTY,
+                Collections.emptySet(),
+                IVariableBuilder.EMPTY
+            );
+        }
+
+        @Override
+        public final IAgent<?> generatesingle( final Object... p_data )
+        {
+            return new CAgent( m_configuration );
+        }
+    }
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<IAgent<?>> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+}
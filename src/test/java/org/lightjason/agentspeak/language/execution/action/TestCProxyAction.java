@@ -0,0 +1,287 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.action;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
+import org.lightjason.agentspeak.language.execution.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.score.IAggregation;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the argument marshalling of actions
+ */
+public final class TestCProxyAction
+{
+    /**
+     * argument lists of the record calls
+     */
+    private final List<List<ITerm>> m_arguments = new CopyOnWriteArrayList<>();
+
+
+    /**
+     * test that constant arguments are
+     * built once and passed unchanged
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testConstantArguments() throws Exception
+    {
+        final IAgent<?> l_agent = this.agent( "+!run <- test/record( 1, \"a\" )." );
+        run( l_agent );
+        run( l_agent );
+
+        assertEquals( "arguments are wrong", "[1, a]", this.values( 0 ).toString() );
+        assertSame( "constant arguments are built on each call", m_arguments.get( 0 ), m_arguments.get( 1 ) );
+    }
+
+    /**
+     * test that variables are replaced
+     * on each call
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testVariableArguments() throws Exception
+    {
+        final IAgent<?> l_agent = this.agent( "+!run <- X = 5; test/record( X, 2 )." );
+        run( l_agent );
+        run( l_agent );
+
+        assertEquals( "variable is not replaced", "[5, 2]", this.values( 0 ).toString() );
+        assertNotSame( "variable arguments are shared between calls", m_arguments.get( 0 ), m_arguments.get( 1 ) );
+    }
+
+    /**
+     * test that the return values of inner actions
+     * are inserted in order of the arguments
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testInnerAction() throws Exception
+    {
+        final IAgent<?> l_agent = this.agent( "+!run <- X = 7; test/record( 0, test/pair( X ), 3 )." );
+        run( l_agent );
+
+        assertEquals( "inner action values are wrong", "[0, 7, 8, 3]", this.values( 0 ).toString() );
+    }
+
+    /**
+     * test that parallel actions keep
+     * the order of the arguments
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testParallel() throws Exception
+    {
+        final IAgent<?> l_agent = this.agent( "+!run <- X = 7; @test/record( 0, test/pair( X ), test/pair( 1 ), X )." );
+        run( l_agent );
+
+        assertEquals( "parallel arguments are wrong", "[0, 7, 8, 1, 2, 7]", this.values( 0 ).toString() );
+    }
+
+    /**
+     * manuell running test
+     *
+     * @param p_args arguments
+     * @throws Exception on execution error
+     */
+    public static void main( final String[] p_args ) throws Exception
+    {
+        new TestCProxyAction().testConstantArguments();
+        new TestCProxyAction().testVariableArguments();
+        new TestCProxyAction().testInnerAction();
+        new TestCProxyAction().testParallel();
+    }
+
+    /**
+     * creates an agent with the test actions
+     *
+     * @param p_asl agent source
+     * @return agent
+     * @throws Exception on parsing error
+     */
+    private IAgent<?> agent( final String p_asl ) throws Exception
+    {
+        return new CAgentGenerator( p_asl, Stream.of( new CRecord(), new CPair() ) ).generatesingle();
+    }
+
+    /**
+     * returns the raw values of a recorded call
+     *
+     * @param p_index index of the call
+     * @return list with raw values
+     */
+    private List<Object> values( final int p_index )
+    {
+        return m_arguments.get( p_index ).stream().map( ITerm::raw ).collect( Collectors.toList() );
+    }
+
+    /**
+     * runs the plan immediately
+     *
+     * @param p_agent agent
+     */
+    private static void run( final IAgent<?> p_agent )
+    {
+        assertTrue( "plan fails", p_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "run" ) ), true ).value() );
+    }
+
+
+    /**
+     * action to record the argument lists
+     */
+    private final class CRecord extends IBaseAction
+    {
+
+        @Override
+        public final IPath name()
+        {
+            return CPath.from( "test/record" );
+        }
+
+        @Override
+        public final int minimalArgumentNumber()
+        {
+            return 0;
+        }
+
+        @Override
+        public final IFuzzyValue<Boolean> execute( final IContext p_context, final boolean p_parallel, final List<ITerm> p_argument, final List<ITerm> p_return,
+                                                   final List<ITerm> p_annotation
+        )
+        {
+            m_arguments.add( p_argument );
+            return CFuzzyValue.from( true );
+        }
+    }
+
+    /**
+     * action which returns the argument and its successor
+     */
+    private static final class CPair extends IBaseAction
+    {
+
+        @Override
+        public final IPath name()
+        {
+            return CPath.from( "test/pair" );
+        }
+
+        @Override
+        public final int minimalArgumentNumber()
+        {
+            return 1;
+        }
+
+        @Override
+        public final IFuzzyValue<Boolean> execute( final IContext p_context, final boolean p_parallel, final List<ITerm> p_argument, final List<ITerm> p_return,
+                                                   final List<ITerm> p_annotation
+        )
+        {
+            final long l_value = p_argument.get( 0 ).<Number>raw().longValue();
+            p_return.add( CRawTerm.from( l_value ) );
+            p_return.add( CRawTerm.from( l_value + 1 ) );
+            return CFuzzyValue.from( true );
+        }
+    }
+
+    /**
+     * agent generator
+     */
+    private static final class CAgentGenerator extends IBaseAgentGenerator<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_asl agent source
+         * @param p_actions actions
+         * @throws Exception on parsing error
+         */
+        CAgentGenerator( final String p_asl, final Stream<IAction> p_actions ) throws Exception
+        {
+            super(
+                new ByteArrayInputStream( p_asl.getBytes( StandardCharsets.UTF_8 ) ),
+                p_actions.collect( Collectors.toSet() ),
+                IAggregation.EMPTY,
+                Collections.emptySet(),
+                IVariableBuilder.EMPTY
+            );
+        }
+
+        @Override
+        public final IAgent<?> generatesingle( final Object... p_data )
+        {
+            return new CAgent( m_configuration );
+        }
+    }
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<IAgent<?>> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+}
@@ -0,0 +1,254 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.instantiable.plan;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.instantiable.rule.IRuleGraph;
+import org.lightjason.agentspeak.language.score.IAggregation;
+import org.lightjason.agentspeak.language.variable.CConstant;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the plan condition memory
+ */
+public final class TestCConditionMemory
+{
+
+    /**
+     * test that condition results are not
+     * shared between trigger values
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testTriggerValues() throws Exception
+    {
+        final IAgent<?> l_agent = new CAgentGenerator( "+!foo(X) : X > 3 <- +ok(X).", IVariableBuilder.EMPTY ).generatesingle();
+
+        run( l_agent, "foo", 5 );
+        run( l_agent, "foo", 1 );
+        run( l_agent, "foo", 5 );
+        run( l_agent, "foo", 7 );
+
+        assertEquals( "condition result of another trigger value is used", "[[5.0], [7.0]]", values( l_agent, "ok" ).toString() );
+    }
+
+    /**
+     * test that condition results are
+     * invalidated by belief changes
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testBeliefChange() throws Exception
+    {
+        final IAgent<?> l_agent = new CAgentGenerator( "+!check(X) : >>value(V) <- +seen(X, V).", IVariableBuilder.EMPTY ).generatesingle();
+
+        run( l_agent, "check", 1 );
+        l_agent.beliefbase().add( CLiteral.from( "value", Stream.of( CRawTerm.from( 1.0 ) ) ) );
+        run( l_agent, "check", 1 );
+        l_agent.beliefbase().remove( CLiteral.from( "value", Stream.of( CRawTerm.from( 1.0 ) ) ) );
+        l_agent.beliefbase().add( CLiteral.from( "value", Stream.of( CRawTerm.from( 2.0 ) ) ) );
+        run( l_agent, "check", 2 );
+        run( l_agent, "check", 1 );
+
+        assertEquals( "condition result is not invalidated", "[[1.0, 1.0], [1.0, 2.0], [2.0, 2.0]]", values( l_agent, "seen" ).toString() );
+    }
+
+    /**
+     * test that conditions, which reads generated
+     * variables, are executed on each trigger
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testGeneratedVariable() throws Exception
+    {
+        final AtomicInteger l_limit = new AtomicInteger( 3 );
+        final IAgent<?> l_agent = new CAgentGenerator(
+            "+!limit(X) : X > Limit <- +big(X, Limit).",
+            ( p_agent, p_instance ) -> Stream.of( new CConstant<>( "Limit", l_limit.get() ) )
+        ).generatesingle();
+
+        run( l_agent, "limit", 5 );
+        l_limit.set( 10 );
+        run( l_agent, "limit", 5 );
+
+        assertEquals( "condition with generated variable is not executed", "[[5.0, 3.0]]", values( l_agent, "big" ).toString() );
+    }
+
+    /**
+     * test that conditions, which reads variables with values
+     * of the instantiation, are not stored
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testInjectedVariable() throws Exception
+    {
+        assertTrue( "condition without injected variables is not cacheable", cacheable( "+!check(X) : X > 0 <- +seen(X)." ) );
+
+        for ( final IPath l_variable : CCommon.INJECTEDVARIABLES )
+            assertFalse(
+                MessageFormat.format( "condition with injected variable [{0}] is cacheable", l_variable ),
+                cacheable( MessageFormat.format( "+!check(X) : X > {0} <- +seen(X).", l_variable.getPath() ) )
+            );
+    }
+
+    /**
+     * manuell running test
+     *
+     * @param p_args arguments
+     * @throws Exception on execution error
+     */
+    public static void main( final String[] p_args ) throws Exception
+    {
+        final TestCConditionMemory l_test = new TestCConditionMemory();
+
+        l_test.testTriggerValues();
+        l_test.testBeliefChange();
+        l_test.testGeneratedVariable();
+        l_test.testInjectedVariable();
+    }
+
+    /**
+     * runs an agent cycle with an achievement goal
+     *
+     * @param p_agent agent
+     * @param p_goal goal name
+     * @param p_value goal value
+     * @throws Exception on execution error
+     */
+    private static void run( final IAgent<?> p_agent, final String p_goal, final double p_value ) throws Exception
+    {
+        p_agent.trigger( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( p_goal, Stream.of( CRawTerm.from( p_value ) ) ) ) );
+        p_agent.call();
+    }
+
+    /**
+     * checks if the condition of the plan of an agent is cacheable
+     *
+     * @param p_asl agent source with one plan
+     * @return cacheable flag
+     * @throws Exception on parsing error
+     */
+    private static boolean cacheable( final String p_asl ) throws Exception
+    {
+        final Collection<IPlan> l_plans = new CAgentGenerator( p_asl, IVariableBuilder.EMPTY ).generatesingle().plans().values();
+        final CConditionMemory l_memory = new CConditionMemory( l_plans, IRuleGraph.EMPTY );
+        return l_plans.stream().allMatch( l_memory::cacheable );
+    }
+
+    /**
+     * returns the sorted numeric values of the beliefs
+     *
+     * @param p_agent agent
+     * @param p_belief belief name
+     * @return list with belief values
+     */
+    private static List<List<Double>> values( final IAgent<?> p_agent, final String p_belief )
+    {
+        return p_agent.beliefbase()
+                      .stream( CPath.from( p_belief ) )
+                      .map( ILiteral::orderedvalues )
+                      .map( i -> i.map( j -> j.<Number>raw().doubleValue() ).collect( Collectors.toList() ) )
+                      .sorted( ( i, j ) -> i.toString().compareTo( j.toString() ) )
+                      .collect( Collectors.toList() );
+    }
+
+
+    /**
+     * agent generator
+     */
+    private static final class CAgentGenerator extends IBaseAgentGenerator<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_asl agent source
+         * @param p_variablebuilder variable builder
+         * @throws Exception on parsing error
+         */
+        CAgentGenerator( final String p_asl, final IVariableBuilder p_variablebuilder ) throws Exception
+        {
+            super(
+                new ByteArrayInputStream( p_asl.getBytes( StandardCharsets.UTF_8 ) ),
+                Collections.emptySet(),
+                IAggregation.EMPTY,
+                Collections.emptySet(),
+                p_variablebuilder
+            );
+        }
+
+        @Override
+        public final IAgent<?> generatesingle( final Object... p_data )
+        {
+            return new CAgent( m_configuration );
+        }
+    }
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<IAgent<?>> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+}
@@ -0,0 +1,274 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-16, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.instantiable.rule;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.beliefbase.CBeliefbasePersistent;
+import org.lightjason.agentspeak.beliefbase.storage.CMultiStorage;
+import org.lightjason.agentspeak.beliefbase.view.IView;
+import org.lightjason.agentspeak.beliefbase.view.IViewGenerator;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.execution.fuzzy.CFuzzyValue;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.score.IAggregation;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the rule graph and the rule result cache
+ */
+public final class TestCRuleCache
+{
+    /**
+     * name of the rule, which depends on the value belief
+     */
+    private static final String CURRENT = "current";
+    /**
+     * agent source
+     */
+    private static final String ASL = "value(1).\n"
+                                      + "current(R) :- >>value(R).\n"
+                                      + "outer(R) :- $current(R).\n"
+                                      + "deep(R) :- >>sub/value(R).\n"
+                                      + "change(R) :- +value(5); R = 5.\n"
+                                      + "+!main <- $current(A); +result(A); -value(A); +value(7); $outer(B); +result(B).\n";
+    /**
+     * agent
+     */
+    private IAgent<IAgent<?>> m_agent;
+
+    /**
+     * test initialize
+     *
+     * @throws Exception on parsing error
+     */
+    @Before
+    public void initialize() throws Exception
+    {
+        m_agent = new CAgentGenerator( ASL ).generatesingle().raw();
+    }
+
+    /**
+     * test dependencies of the rule graph
+     */
+    @Test
+    public final void testGraph()
+    {
+        final IRuleGraph l_graph = new CRuleGraph( m_agent.rules() );
+
+        assertTrue( "rule without side-effects is not cacheable", l_graph.cacheable( CPath.from( CURRENT ) ) );
+        assertTrue( "rule calling a cacheable rule is not cacheable", l_graph.cacheable( CPath.from( "outer" ) ) );
+        assertFalse( "rule with belief change is cacheable", l_graph.cacheable( CPath.from( "change" ) ) );
+
+        final Set<String> l_affected = l_graph.affectedrules( Stream.of( CPath.from( "value" ) ) ).map( Object::toString ).collect( Collectors.toSet() );
+        assertTrue( "direct rule dependency is missing", l_affected.contains( CURRENT ) );
+        assertTrue( "transitive rule dependency is missing", l_affected.contains( "outer" ) );
+        assertFalse( "rule of another belief is affected", l_affected.contains( "deep" ) );
+    }
+
+    /**
+     * test cache hit and invalidation by a literal
+     * which is added directly to the beliefbase
+     */
+    @Test
+    public final void testBeliefbaseAdd()
+    {
+        final AtomicInteger l_runs = new AtomicInteger();
+
+        this.execute( CURRENT, l_runs );
+        this.execute( CURRENT, l_runs );
+        assertEquals( "rule result is not cached", 1, l_runs.get() );
+
+        m_agent.beliefbase().add( CLiteral.from( "value", Stream.of( CRawTerm.from( 2 ) ) ) );
+        this.execute( CURRENT, l_runs );
+        assertEquals( "rule result is not invalidated by an added belief", 2, l_runs.get() );
+
+        m_agent.beliefbase().add( CLiteral.from( "other", Stream.of( CRawTerm.from( 2 ) ) ) );
+        this.execute( CURRENT, l_runs );
+        assertEquals( "rule result is invalidated by an independent belief", 2, l_runs.get() );
+    }
+
+    /**
+     * test invalidation by literals which
+     * are removed from a beliefbase or sub view
+     */
+    @Test
+    public final void testBeliefbaseRemove()
+    {
+        final AtomicInteger l_runs = new AtomicInteger();
+
+        m_agent.beliefbase().generate( new CGenerator(), CPath.from( "sub" ) );
+        final ILiteral l_literal = CLiteral.from( "sub/value", Stream.of( CRawTerm.from( 3 ) ) );
+        m_agent.beliefbase().add( l_literal );
+
+        this.execute( "deep", l_runs );
+        this.execute( "deep", l_runs );
+        assertEquals( "rule result is not cached", 1, l_runs.get() );
+
+        m_agent.beliefbase().remove( l_literal );
+        this.execute( "deep", l_runs );
+        assertEquals( "rule result is not invalidated by a removed belief of a sub view", 2, l_runs.get() );
+
+        this.execute( CURRENT, l_runs );
+        this.execute( CURRENT, l_runs );
+        m_agent.beliefbase().clear();
+        this.execute( CURRENT, l_runs );
+        assertEquals( "rule result is not invalidated by clearing the beliefbase", 4, l_runs.get() );
+    }
+
+    /**
+     * test rule execution of a running agent, the rule
+     * result is changed within the cycle
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void testCycle() throws Exception
+    {
+        m_agent.trigger( CTrigger.from(
+            ITrigger.EType.ADDGOAL, CLiteral.from( "main" )
+        ) );
+        m_agent.call();
+
+        assertEquals(
+            "rule results are not updated within the cycle",
+            Stream.of( 1.0, 7.0 ).collect( Collectors.toSet() ),
+            m_agent.beliefbase().stream( CPath.from( "result" ) ).map( i -> i.orderedvalues().findFirst().get().<Number>raw().doubleValue() )
+                   .collect( Collectors.toSet() )
+        );
+    }
+
+    /**
+     * manuell running test
+     *
+     * @param p_args arguments
+     * @throws Exception on parsing exception
+     */
+    public static void main( final String[] p_args ) throws Exception
+    {
+        final TestCRuleCache l_test = new TestCRuleCache();
+
+        l_test.initialize();
+        l_test.testGraph();
+        l_test.initialize();
+        l_test.testBeliefbaseAdd();
+        l_test.initialize();
+        l_test.testBeliefbaseRemove();
+        l_test.testCycle();
+    }
+
+    /**
+     * runs a rule with a constant argument through the cache
+     *
+     * @param p_rule rule name
+     * @param p_runs counter of the rule executions
+     */
+    private void execute( final String p_rule, final AtomicInteger p_runs )
+    {
+        m_agent.rulecache().execute( CLiteral.from( p_rule, Stream.of( CRawTerm.from( 1 ) ) ), () -> {
+            p_runs.incrementAndGet();
+            return CFuzzyValue.from( true );
+        } );
+    }
+
+
+    /**
+     * agent generator
+     */
+    private static final class CAgentGenerator extends IBaseAgentGenerator<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_asl agent source
+         * @throws Exception on parsing error
+         */
+        CAgentGenerator( final String p_asl ) throws Exception
+        {
+            super(
+                new ByteArrayInputStream( p_asl.getBytes( StandardCharsets.UTF_8 ) ),
+                Collections.emptySet(),
+                IAggregation.EMPTY,
+                Collections.emptySet(),
+                IVariableBuilder.EMPTY
+            );
+        }
+
+        @Override
+        public final IAgent<?> generatesingle( final Object... p_data )
+        {
+            return new CAgent( m_configuration );
+        }
+    }
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<IAgent<?>>
+    {
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<IAgent<?>> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+    /**
+     * test belief generator
+     */
+    private static final class CGenerator implements IViewGenerator<IAgent<?>>
+    {
+        @Override
+        public final IView<IAgent<?>> apply( final String p_name, final IView<IAgent<?>> p_parent )
+        {
+            return new CBeliefbasePersistent<>( new CMultiStorage<>() ).create( p_name, p_parent );
+        }
+    }
+
+}